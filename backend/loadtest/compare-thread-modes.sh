@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# Compares platform-thread and virtual-thread request handling under the same burst.
+# Boots the packaged jar once per mode on in-memory H2 with generated data, drives the
+# JDBC-bound list endpoints with hey (https://github.com/rakyll/hey) and prints throughput,
+# tail latency and how many requests were shed or failed.
+#
+# Usage (from backend/):  ./mvnw -DskipTests package && loadtest/compare-thread-modes.sh [concurrency] [duration]
+set -euo pipefail
+
+CONCURRENCY=${1:-500}
+DURATION=${2:-30s}
+EMPLOYEES=${EMPLOYEES:-5000}
+PORT=${PORT:-18080}
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-18081}
+ENDPOINTS=("/api/employees?limit=100" "/api/attendance/today" "/api/performance?limit=100")
+
+cd "$(dirname "$0")/.."
+JAR=$(ls target/backend-*.jar 2>/dev/null | grep -v plain | head -1)
+if [ -z "$JAR" ]; then
+  echo "No jar in target/, run ./mvnw -DskipTests package first" >&2
+  exit 1
+fi
+command -v hey >/dev/null || { echo "hey is required: go install github.com/rakyll/hey@latest" >&2; exit 1; }
+
+OUT=target/loadtest
+mkdir -p "$OUT"
+
+run_mode() {
+  local mode=$1 virtual=$2
+  java -jar "$JAR" \
+    --spring.profiles.active=h2,dev \
+    --spring.datasource.url="jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1" \
+    --spring.jpa.show-sql=false \
+    --spring.threads.virtual.enabled="$virtual" \
+    --datagen.employees="$EMPLOYEES" \
+    --server.port="$PORT" \
+    --management.server.port="$MANAGEMENT_PORT" \
+    > "$OUT/$mode-app.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+
+  until curl -sf "http://localhost:$MANAGEMENT_PORT/actuator/health" >/dev/null; do
+    kill -0 "$pid" 2>/dev/null || { echo "$mode: application failed to start, see $OUT/$mode-app.log" >&2; exit 1; }
+    sleep 2
+  done
+
+  for endpoint in "${ENDPOINTS[@]}"; do
+    local name
+    name=$(echo "$endpoint" | tr -c 'a-zA-Z0-9\n' '_')
+    hey -z "$DURATION" -c "$CONCURRENCY" "http://localhost:$PORT$endpoint" > "$OUT/$mode$name.txt"
+  done
+  curl -s "http://localhost:$MANAGEMENT_PORT/actuator/prometheus" > "$OUT/$mode-metrics.txt"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+summarize() {
+  local file=$1
+  local rps p99 non200
+  rps=$(awk '/Requests\/sec/ {print $2}' "$file")
+  p99=$(awk '/ 99% in/ {print $3}' "$file")
+  non200=$(awk '/\[[0-9]+\]/ && $1 != "[200]" {sum += $2} END {print sum + 0}' "$file")
+  printf "%10s %12s %8s" "$rps" "$p99" "$non200"
+}
+
+run_mode platform false
+run_mode virtual true
+
+printf "%-32s %-9s %10s %12s %8s\n" endpoint mode req/s "p99 (s)" non-200
+for endpoint in "${ENDPOINTS[@]}"; do
+  name=$(echo "$endpoint" | tr -c 'a-zA-Z0-9\n' '_')
+  for mode in platform virtual; do
+    printf "%-32s %-9s %s\n" "$endpoint" "$mode" "$(summarize "$OUT/$mode$name.txt")"
+  done
+done
+echo "Raw hey output, app logs and metrics (jvm_threads_virtual_pinned, http_server_requests_guard_*) are in $OUT"
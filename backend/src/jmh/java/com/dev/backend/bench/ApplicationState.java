@@ -0,0 +1,59 @@
+package com.dev.backend.bench;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.repository.AttendanceRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Boots the application against a fresh in-memory H2 database; the bench profile's data generator
+// populates it to the requested size before the dashboard aggregates are seeded
+@State(Scope.Benchmark)
+public class ApplicationState {
+    static final long SEED = 42L;
+    private static final int ATTENDANCE_DAYS = 10;
+    private static final int DEPARTMENTS = 8;
+
+    @Param({"1000", "10000", "100000"})
+    public int employees;
+
+    ConfigurableApplicationContext context;
+    long attendanceRows;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("h2", "bench")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench" + employees + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.h2.console.enabled=false",
+                        "dashboard.reconciliation.interval=PT24H",
+                        "logging.level.root=WARN",
+                        "logging.level.com.dev.backend.datagen=INFO",
+                        "datagen.employees=" + employees,
+                        "datagen.departments=" + DEPARTMENTS,
+                        "datagen.attendance-days=" + ATTENDANCE_DAYS,
+                        "datagen.review-years=1",
+                        "datagen.seed=" + SEED)
+                .run();
+
+        attendanceRows = context.getBean(AttendanceRepository.class).count();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
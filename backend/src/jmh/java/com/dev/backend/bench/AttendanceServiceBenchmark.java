@@ -0,0 +1,63 @@
+package com.dev.backend.bench;
+
+import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.service.AttendanceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AttendanceServiceBenchmark {
+    private static final int STATUS_SAMPLES = 1024;
+
+    private AttendanceService attendanceService;
+    private long attendanceRows;
+    private final LocalDateTime[] clockIns = new LocalDateTime[STATUS_SAMPLES];
+    private final LocalDateTime[] clockOuts = new LocalDateTime[STATUS_SAMPLES];
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        attendanceService = app.bean(AttendanceService.class);
+        attendanceRows = app.attendanceRows;
+
+        Random random = new Random(ApplicationState.SEED);
+        LocalDate day = LocalDate.now();
+        for (int i = 0; i < STATUS_SAMPLES; i++) {
+            clockIns[i] = day.atTime(8, 0).plusMinutes(random.nextInt(150));
+            // Mix of open records, half days and full days
+            clockOuts[i] = i % 4 == 0 ? null : clockIns[i].plusMinutes(120 + random.nextInt(540));
+        }
+    }
+
+    @Benchmark
+    public AttendanceDTO convertOne() {
+        return attendanceService.getAttendanceById(1L + ThreadLocalRandom.current().nextLong(attendanceRows));
+    }
+
+    @Benchmark
+    public void determineStatus(Blackhole blackhole) {
+        for (int i = 0; i < STATUS_SAMPLES; i++) {
+            blackhole.consume(attendanceService.determineStatus(clockIns[i], clockOuts[i]));
+        }
+    }
+}
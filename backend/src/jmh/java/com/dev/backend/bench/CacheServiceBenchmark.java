@@ -0,0 +1,80 @@
+package com.dev.backend.bench;
+
+import com.dev.backend.cache.BoundedCacheManager;
+import com.dev.backend.cache.CacheProperties;
+import com.dev.backend.service.CacheService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Read-mostly contention on the ad-hoc cache: seven readers against one writer. No Spring context needed.
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CacheServiceBenchmark {
+    // Key space tracks the dataset sizes used by the other benchmarks
+    @Param({"1000", "10000", "100000"})
+    public int employees;
+
+    private BoundedCacheManager cacheManager;
+    private CacheService cacheService;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CacheProperties properties = new CacheProperties();
+        properties.getDefaults().setMaxEntries(employees);
+        properties.getDefaults().setMaxWeightBytes(Long.MAX_VALUE);
+        cacheManager = new BoundedCacheManager(properties);
+        cacheService = new CacheService(cacheManager);
+
+        keys = new String[employees];
+        for (int i = 0; i < employees; i++) {
+            keys[i] = "employee:" + (i + 1);
+            cacheService.put(keys[i], value(i), 10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        cacheManager.destroy();
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public Object get() {
+        return cacheService.get(keys[ThreadLocalRandom.current().nextInt(keys.length)]);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public void put() {
+        int i = ThreadLocalRandom.current().nextInt(keys.length);
+        cacheService.put(keys[i], value(i), 10);
+    }
+
+    private static Map<String, Object> value(int i) {
+        return Map.of("id", (long) i + 1, "name", "Employee " + (i + 1), "score", 50 + i % 50);
+    }
+}
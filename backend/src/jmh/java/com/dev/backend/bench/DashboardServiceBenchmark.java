@@ -0,0 +1,38 @@
+package com.dev.backend.bench;
+
+import com.dev.backend.dto.DashboardStatsDTO;
+import com.dev.backend.service.DashboardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class DashboardServiceBenchmark {
+    private DashboardService dashboardService;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        dashboardService = app.bean(DashboardService.class);
+    }
+
+    // Served from the aggregate store snapshot
+    @Benchmark
+    public DashboardStatsDTO stats() {
+        return dashboardService.getDashboardStats();
+    }
+}
@@ -0,0 +1,51 @@
+package com.dev.backend.bench;
+
+import com.dev.backend.dto.CursorPageDTO;
+import com.dev.backend.dto.EmployeeDTO;
+import com.dev.backend.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class EmployeeServiceBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    private EmployeeService employeeService;
+    private int employees;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        employeeService = app.bean(EmployeeService.class);
+        employees = app.employees;
+    }
+
+    // Single-row conversion: latest score and attendance rate are looked up per employee
+    @Benchmark
+    public EmployeeDTO convertOne() {
+        return employeeService.getEmployeeById(1L + ThreadLocalRandom.current().nextInt(employees));
+    }
+
+    // Bulk conversion of one page: scores and attendance counts are fetched for the whole page at once
+    @Benchmark
+    public CursorPageDTO<EmployeeDTO> convertPage() {
+        long after = ThreadLocalRandom.current().nextInt(Math.max(1, employees - PAGE_SIZE));
+        return employeeService.getEmployeePage(after, PAGE_SIZE);
+    }
+}
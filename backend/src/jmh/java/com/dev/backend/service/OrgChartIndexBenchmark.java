@@ -0,0 +1,69 @@
+package com.dev.backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Cost of one reporting-line write to the org chart index, which rebuilds the whole Tree copy-on-write.
+// Lives in the service package for access to OrgChartIndex.Tree; no Spring context needed.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class OrgChartIndexBenchmark {
+    // Same shape as the synthetic organisation: everyone but the first employee has a manager
+    private static final int SPAN_OF_CONTROL = 8;
+
+    @Param({"1000", "10000", "100000"})
+    public int employees;
+
+    private OrgChartIndex.Tree tree;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long[] ids = new long[employees];
+        long[] managerIds = new long[employees];
+        for (int i = 0; i < employees; i++) {
+            ids[i] = i + 1;
+            managerIds[i] = i == 0 ? OrgChartIndex.Tree.NO_MANAGER : (i - 1) / SPAN_OF_CONTROL + 1;
+        }
+        tree = OrgChartIndex.Tree.build(ids, managerIds);
+    }
+
+    @Benchmark
+    public OrgChartIndex.Tree fullBuild() {
+        return OrgChartIndex.Tree.build(tree.ids, tree.managerIds);
+    }
+
+    // A transfer: one employee moves under another manager, taking their subtree along
+    @Benchmark
+    public OrgChartIndex.Tree changeManager() {
+        long id = 2 + random.nextInt(employees - 1);
+        return tree.withReportingLine(id, 1 + random.nextInt((int) id - 1));
+    }
+
+    @Benchmark
+    public OrgChartIndex.Tree hire() {
+        return tree.withReportingLine(employees + 1L, 1 + random.nextInt(employees));
+    }
+
+    @Benchmark
+    public OrgChartIndex.Tree leave() {
+        return tree.without(2 + random.nextInt(employees - 1));
+    }
+}
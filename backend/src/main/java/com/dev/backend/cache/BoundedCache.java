@@ -0,0 +1,301 @@
+package com.dev.backend.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Size- and weight-bounded cache with per-entry TTL and segmented LRU eviction.
+// New entries land in the probation segment; a second hit promotes them to the protected segment,
+// so one-off scans cannot flush the entries that are actually reused.
+public class BoundedCache<K, V> {
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private final String name;
+    private final long maxEntries;
+    private final long maxWeightBytes;
+    private final long defaultTtlNanos;
+    private final long protectedMaxEntries;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Node<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes; // guarded by lock
+    private long generation;  // guarded by lock; advanced by evict and clear
+
+    private final Map<K, CompletableFuture<V>> loadsInFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+
+    private static final class Node<V> {
+        final V value;
+        final long weight;
+        final long expiresAt; // System.nanoTime() based
+
+        Node(V value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    public BoundedCache(String name, long maxEntries, long maxWeightBytes, Duration defaultTtl) {
+        if (maxEntries <= 0 || maxWeightBytes <= 0) {
+            throw new IllegalArgumentException("Cache " + name + " needs a positive entry and weight bound");
+        }
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.maxWeightBytes = maxWeightBytes;
+        this.defaultTtlNanos = defaultTtl.toNanos();
+        this.protectedMaxEntries = Math.max(1, (long) (maxEntries * PROTECTED_SHARE));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(K key) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Node<V> node = probation.remove(key);
+            if (node != null) {
+                if (node.isExpired(now)) {
+                    expire(node);
+                    return null;
+                }
+                protectedSegment.put(key, node);
+                demoteOverflow();
+                hits.increment();
+                return node.value;
+            }
+
+            node = protectedSegment.get(key);
+            if (node != null) {
+                if (node.isExpired(now)) {
+                    protectedSegment.remove(key);
+                    expire(node);
+                    return null;
+                }
+                hits.increment();
+                return node.value;
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return null;
+    }
+
+    // Returns the cached value or loads it; concurrent callers for the same key share one load.
+    // A value whose load overlapped an evict or clear is returned but not cached, since it may have
+    // been read before the change the eviction was for.
+    public V get(K key, Callable<? extends V> loader) throws ExecutionException {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> ownLoad = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loadsInFlight.putIfAbsent(key, ownLoad);
+        if (inFlight != null) {
+            try {
+                return inFlight.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExecutionException(e);
+            }
+        }
+
+        long loadGeneration = generation();
+        long start = System.nanoTime();
+        loads.increment();
+        try {
+            V value = loader.call();
+            loadTimeNanos.add(System.nanoTime() - start);
+            if (value != null) {
+                put(key, value, defaultTtlNanos, loadGeneration);
+            }
+            ownLoad.complete(value);
+            return value;
+        } catch (Exception e) {
+            loadFailures.increment();
+            loadTimeNanos.add(System.nanoTime() - start);
+            ownLoad.completeExceptionally(e);
+            throw new ExecutionException(e);
+        } finally {
+            loadsInFlight.remove(key, ownLoad);
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtlNanos, -1);
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        put(key, value, ttl.toNanos(), -1);
+    }
+
+    // loadGeneration is the generation a load started in, or -1 for an unconditional put
+    private void put(K key, V value, long ttlNanos, long loadGeneration) {
+        long weight = ObjectWeigher.weigh(key) + ObjectWeigher.weigh(value);
+        Node<V> node = new Node<>(value, weight, System.nanoTime() + ttlNanos);
+
+        lock.lock();
+        try {
+            if (loadGeneration >= 0 && loadGeneration != generation) {
+                return;
+            }
+            discard(key);
+            if (weight > maxWeightBytes) {
+                // Would evict everything else and still not fit
+                evictions.increment();
+                return;
+            }
+            probation.put(key, node);
+            weightBytes += weight;
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Loads already in flight are dropped from loadsInFlight so later callers start a fresh one
+    public void evict(K key) {
+        lock.lock();
+        try {
+            generation++;
+            discard(key);
+            loadsInFlight.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            generation++;
+            loadsInFlight.clear();
+            probation.clear();
+            protectedSegment.clear();
+            weightBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Removes expired entries; called periodically by the cache manager's sweeper
+    public int sweepExpired() {
+        long now = System.nanoTime();
+        int removed = 0;
+        lock.lock();
+        try {
+            removed += sweep(probation, now);
+            removed += sweep(protectedSegment, now);
+        } finally {
+            lock.unlock();
+        }
+        return removed;
+    }
+
+    public long size() {
+        lock.lock();
+        try {
+            return probation.size() + protectedSegment.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        long size;
+        long weight;
+        lock.lock();
+        try {
+            size = probation.size() + protectedSegment.size();
+            weight = weightBytes;
+        } finally {
+            lock.unlock();
+        }
+        return new CacheStats(name, size, weight, maxEntries, maxWeightBytes,
+                hits.sum(), misses.sum(), evictions.sum(), expirations.sum(),
+                loads.sum(), loadFailures.sum(), loadTimeNanos.sum());
+    }
+
+    private long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int sweep(LinkedHashMap<K, Node<V>> segment, long now) {
+        int removed = 0;
+        Iterator<Node<V>> it = segment.values().iterator();
+        while (it.hasNext()) {
+            Node<V> node = it.next();
+            if (node.isExpired(now)) {
+                it.remove();
+                weightBytes -= node.weight;
+                expirations.increment();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void discard(K key) {
+        Node<V> previous = probation.remove(key);
+        if (previous == null) {
+            previous = protectedSegment.remove(key);
+        }
+        if (previous != null) {
+            weightBytes -= previous.weight;
+        }
+    }
+
+    private void expire(Node<V> node) {
+        weightBytes -= node.weight;
+        expirations.increment();
+        misses.increment();
+    }
+
+    private void demoteOverflow() {
+        while (protectedSegment.size() > protectedMaxEntries) {
+            Iterator<Map.Entry<K, Node<V>>> it = protectedSegment.entrySet().iterator();
+            Map.Entry<K, Node<V>> eldest = it.next();
+            it.remove();
+            probation.put(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void evictOverflow() {
+        while (probation.size() + protectedSegment.size() > maxEntries || weightBytes > maxWeightBytes) {
+            LinkedHashMap<K, Node<V>> segment = !probation.isEmpty() ? probation : protectedSegment;
+            Iterator<Node<V>> it = segment.values().iterator();
+            Node<V> victim = it.next();
+            it.remove();
+            weightBytes -= victim.weight;
+            evictions.increment();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.dev.backend.cache;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class BoundedCacheManager implements CacheManager, DisposableBean {
+    private final CacheProperties properties;
+    private final ConcurrentMap<String, SpringCacheAdapter> caches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    public BoundedCacheManager(CacheProperties properties) {
+        this.properties = properties;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getSweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> new SpringCacheAdapter(create(n)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    public BoundedCache<Object, Object> getBoundedCache(String name) {
+        return (BoundedCache<Object, Object>) getCache(name).getNativeCache();
+    }
+
+    public List<CacheStats> getStatistics() {
+        List<CacheStats> stats = new ArrayList<>();
+        for (SpringCacheAdapter cache : caches.values()) {
+            stats.add(((BoundedCache<?, ?>) cache.getNativeCache()).stats());
+        }
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+    }
+
+    private BoundedCache<Object, Object> create(String name) {
+        CacheSpec spec = properties.getSpecs().getOrDefault(name, properties.getDefaults());
+        return new BoundedCache<>(name, spec.getMaxEntries(), spec.getMaxWeightBytes(), spec.getTtl());
+    }
+
+    private void sweep() {
+        for (SpringCacheAdapter cache : caches.values()) {
+            ((BoundedCache<?, ?>) cache.getNativeCache()).sweepExpired();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.dev.backend.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+    // Used for any cache without its own entry under specs
+    private CacheSpec defaults = new CacheSpec();
+    private Map<String, CacheSpec> specs = new HashMap<>();
+    private Duration sweepInterval = Duration.ofSeconds(30);
+
+    public CacheSpec getDefaults() { return defaults; }
+    public void setDefaults(CacheSpec defaults) { this.defaults = defaults; }
+
+    public Map<String, CacheSpec> getSpecs() { return specs; }
+    public void setSpecs(Map<String, CacheSpec> specs) { this.specs = specs; }
+
+    public Duration getSweepInterval() { return sweepInterval; }
+    public void setSweepInterval(Duration sweepInterval) { this.sweepInterval = sweepInterval; }
+}
@@ -0,0 +1,18 @@
+package com.dev.backend.cache;
+
+import java.time.Duration;
+
+public class CacheSpec {
+    private long maxEntries = 1_000;
+    private long maxWeightBytes = 16L * 1024 * 1024;
+    private Duration ttl = Duration.ofMinutes(10);
+
+    public long getMaxEntries() { return maxEntries; }
+    public void setMaxEntries(long maxEntries) { this.maxEntries = maxEntries; }
+
+    public long getMaxWeightBytes() { return maxWeightBytes; }
+    public void setMaxWeightBytes(long maxWeightBytes) { this.maxWeightBytes = maxWeightBytes; }
+
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+}
@@ -0,0 +1,54 @@
+package com.dev.backend.cache;
+
+public class CacheStats {
+    private final String name;
+    private final long size;
+    private final long weightBytes;
+    private final long maxEntries;
+    private final long maxWeightBytes;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final long loads;
+    private final long loadFailures;
+    private final long totalLoadTimeNanos;
+
+    public CacheStats(String name, long size, long weightBytes, long maxEntries, long maxWeightBytes,
+                      long hits, long misses, long evictions, long expirations,
+                      long loads, long loadFailures, long totalLoadTimeNanos) {
+        this.name = name;
+        this.size = size;
+        this.weightBytes = weightBytes;
+        this.maxEntries = maxEntries;
+        this.maxWeightBytes = maxWeightBytes;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.loads = loads;
+        this.loadFailures = loadFailures;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+    }
+
+    public String getName() { return name; }
+    public long getSize() { return size; }
+    public long getWeightBytes() { return weightBytes; }
+    public long getMaxEntries() { return maxEntries; }
+    public long getMaxWeightBytes() { return maxWeightBytes; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getEvictions() { return evictions; }
+    public long getExpirations() { return expirations; }
+    public long getLoads() { return loads; }
+    public long getLoadFailures() { return loadFailures; }
+
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    public double getAverageLoadMillis() {
+        return loads == 0 ? 0.0 : totalLoadTimeNanos / 1_000_000.0 / loads;
+    }
+}
@@ -0,0 +1,95 @@
+package com.dev.backend.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Rough retained-size estimate used to bound cache memory. Collections are weighed by sampling
+// their first elements, and only our own classes are walked reflectively.
+final class ObjectWeigher {
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 8;
+    private static final int SAMPLE_SIZE = 16;
+    private static final int MAX_DEPTH = 4;
+    private static final String OWN_PACKAGE = "com.dev.backend.";
+
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private ObjectWeigher() {
+    }
+
+    static long weigh(Object value) {
+        return weigh(value, 0);
+    }
+
+    private static long weigh(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return OBJECT_HEADER + 24 + 2L * text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof Temporal || value instanceof TemporalAmount) {
+            return OBJECT_HEADER + 16;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_HEADER;
+        }
+        if (value instanceof Collection<?> collection) {
+            return OBJECT_HEADER + 32 + sampled(collection.iterator(), collection.size(), depth);
+        }
+        if (value instanceof Map<?, ?> map) {
+            long entries = sampled(map.entrySet().iterator(), map.size(), depth);
+            return OBJECT_HEADER + 48 + entries;
+        }
+        if (value instanceof Map.Entry<?, ?> entry) {
+            return OBJECT_HEADER + 16 + weigh(entry.getKey(), depth + 1) + weigh(entry.getValue(), depth + 1);
+        }
+        if (value.getClass().getName().startsWith(OWN_PACKAGE)) {
+            long size = OBJECT_HEADER;
+            for (Field field : fieldsOf(value.getClass())) {
+                size += REFERENCE;
+                try {
+                    size += weigh(field.get(value), depth + 1);
+                } catch (IllegalAccessException e) {
+                    // Leave the reference cost only
+                }
+            }
+            return size;
+        }
+        return OBJECT_HEADER + 32;
+    }
+
+    private static long sampled(Iterator<?> it, int size, int depth) {
+        long sampledWeight = 0;
+        int sampled = 0;
+        while (it.hasNext() && sampled < SAMPLE_SIZE) {
+            sampledWeight += REFERENCE + weigh(it.next(), depth + 1);
+            sampled++;
+        }
+        return sampled == 0 ? 0 : sampledWeight * size / sampled;
+    }
+
+    private static List<Field> fieldsOf(Class<?> type) {
+        return FIELDS.computeIfAbsent(type, t -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = t; c != null && c.getName().startsWith(OWN_PACKAGE); c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.dev.backend.cache;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+// Exposes a BoundedCache through Spring's Cache abstraction so @Cacheable/@CacheEvict can use it
+class SpringCacheAdapter extends AbstractValueAdaptingCache {
+    private final BoundedCache<Object, Object> cache;
+
+    SpringCacheAdapter(BoundedCache<Object, Object> cache) {
+        super(true);
+        this.cache = cache;
+    }
+
+    @Override
+    public String getName() {
+        return cache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return cache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return cache.get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        try {
+            return (T) fromStoreValue(cache.get(key, () -> toStoreValue(valueLoader.call())));
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        cache.put(key, toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        cache.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,68 @@
+package com.dev.backend.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// With virtual threads Tomcat no longer caps concurrency at its worker pool, so a burst of
+// requests would all queue inside HikariCP and time out there after 30s. This admits at most
+// as many requests as the pool has connections, queues the rest fairly for a short while and
+// sheds anything beyond that with 503 + Retry-After.
+// NDJSON exports release their slot when the handler returns, before the async stream runs.
+public class ConnectionPoolGuardFilter extends OncePerRequestFilter {
+    static final String METRIC_PREFIX = "http.server.requests.guard";
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Counter rejected;
+
+    public ConnectionPoolGuardFilter(int maxConcurrentRequests, Duration acquireTimeout, MeterRegistry registry) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Requests turned away because no connection slot freed up in time")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".waiting", permits, Semaphore::getQueueLength)
+                .description("Requests queued for a connection slot")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".available", permits, Semaphore::availablePermits)
+                .description("Free connection slots")
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is busy, please retry");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
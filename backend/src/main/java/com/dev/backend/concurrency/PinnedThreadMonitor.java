@@ -0,0 +1,82 @@
+package com.dev.backend.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+
+// Listens for the JFR jdk.VirtualThreadPinned event: a virtual thread that blocked while stuck
+// to its carrier (inside synchronized or a native frame), which throttles the whole carrier pool.
+// Each occurrence is timed and logged with the first frame from our own code, which is usually
+// the synchronized block wrapping the JDBC call.
+public class PinnedThreadMonitor implements SmartLifecycle {
+    static final String EVENT = "jdk.VirtualThreadPinned";
+    static final String METRIC = "jvm.threads.virtual.pinned";
+    private static final String APPLICATION_PACKAGE = "com.dev.backend.";
+    private static final Logger log = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private volatile RecordingStream stream;
+
+    public PinnedThreadMonitor(Duration threshold, MeterRegistry registry) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder(METRIC)
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .register(registry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        log.warn("virtual_thread_pinned duration_ms={} thread=\"{}\" at={}",
+                event.getDuration().toMillis(), event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                pinnedAt(event.getStackTrace()));
+    }
+
+    static String pinnedAt(RecordedStackTrace trace) {
+        if (trace == null || trace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame fallback = trace.getFrames().get(0);
+        for (RecordedFrame frame : trace.getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return describe(fallback);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,24 @@
+package com.dev.backend.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadProperties {
+    // Requests allowed in flight at once; 0 uses the Hikari maximum pool size
+    private int maxConcurrentRequests = 0;
+    // How long a request waits for a slot before it is turned away with 503
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+    // Carrier pinning shorter than this is not reported
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    public int getMaxConcurrentRequests() { return maxConcurrentRequests; }
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) { this.maxConcurrentRequests = maxConcurrentRequests; }
+
+    public Duration getAcquireTimeout() { return acquireTimeout; }
+    public void setAcquireTimeout(Duration acquireTimeout) { this.acquireTimeout = acquireTimeout; }
+
+    public Duration getPinnedThreshold() { return pinnedThreshold; }
+    public void setPinnedThreshold(Duration pinnedThreshold) { this.pinnedThreshold = pinnedThreshold; }
+}
@@ -0,0 +1,23 @@
+package com.dev.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "attendance.archive")
+public class AttendanceArchiveProperties {
+    // Where the monthly files live. Kept across restarts so startup only rebuilds months that changed
+    // meanwhile; blank uses a temporary directory removed on shutdown, rebuilt in full on every start.
+    private String directory = "attendance-archive";
+    // Records a new month file has room for before it is grown
+    private int initialMonthCapacity = 65536;
+    // Longest range the analytics endpoints scan
+    private int maxRangeMonths = 120;
+
+    public String getDirectory() { return directory; }
+    public void setDirectory(String directory) { this.directory = directory; }
+
+    public int getInitialMonthCapacity() { return initialMonthCapacity; }
+    public void setInitialMonthCapacity(int initialMonthCapacity) { this.initialMonthCapacity = initialMonthCapacity; }
+
+    public int getMaxRangeMonths() { return maxRangeMonths; }
+    public void setMaxRangeMonths(int maxRangeMonths) { this.maxRangeMonths = maxRangeMonths; }
+}
@@ -0,0 +1,10 @@
+package com.dev.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({AttendancePolicy.class, AttendanceSummaryProperties.class, AttendanceArchiveProperties.class,
+        AttendanceIngestProperties.class})
+public class AttendanceConfig {
+}
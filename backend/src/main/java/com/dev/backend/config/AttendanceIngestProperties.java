@@ -0,0 +1,38 @@
+package com.dev.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "attendance.ingest")
+public class AttendanceIngestProperties {
+    // Off by default: clock events then go straight to the database through /api/attendance
+    private boolean enabled = false;
+    // Holds the write-ahead log; events accepted but not yet flushed are replayed from it on startup
+    private String directory = "attendance-wal";
+    // Events written to the database per transaction (at most the 5000 the batch endpoint accepts)
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofMillis(200);
+    // Clock events beyond this many unflushed ones are refused until the drainer catches up
+    private int maxQueueDepth = 100000;
+    // Once everything is flushed, a log larger than this is truncated
+    private long maxLogBytes = 64L * 1024 * 1024;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getDirectory() { return directory; }
+    public void setDirectory(String directory) { this.directory = directory; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public Duration getFlushInterval() { return flushInterval; }
+    public void setFlushInterval(Duration flushInterval) { this.flushInterval = flushInterval; }
+
+    public int getMaxQueueDepth() { return maxQueueDepth; }
+    public void setMaxQueueDepth(int maxQueueDepth) { this.maxQueueDepth = maxQueueDepth; }
+
+    public long getMaxLogBytes() { return maxLogBytes; }
+    public void setMaxLogBytes(long maxLogBytes) { this.maxLogBytes = maxLogBytes; }
+}
@@ -0,0 +1,23 @@
+package com.dev.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalTime;
+
+@ConfigurationProperties(prefix = "attendance.policy")
+public class AttendancePolicy {
+    // Clock-ins after this are flagged late on the record itself
+    private LocalTime lateMarkTime = LocalTime.of(9, 0);
+    // Clock-ins after this show up in the late-arrivals report
+    private LocalTime lateArrivalCutoff = LocalTime.of(9, 30);
+    private LocalTime overtimeStart = LocalTime.of(18, 0);
+
+    public LocalTime getLateMarkTime() { return lateMarkTime; }
+    public void setLateMarkTime(LocalTime lateMarkTime) { this.lateMarkTime = lateMarkTime; }
+
+    public LocalTime getLateArrivalCutoff() { return lateArrivalCutoff; }
+    public void setLateArrivalCutoff(LocalTime lateArrivalCutoff) { this.lateArrivalCutoff = lateArrivalCutoff; }
+
+    public LocalTime getOvertimeStart() { return overtimeStart; }
+    public void setOvertimeStart(LocalTime overtimeStart) { this.overtimeStart = overtimeStart; }
+}
@@ -0,0 +1,21 @@
+package com.dev.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "attendance.summary")
+public class AttendanceSummaryProperties {
+    private String compactionCron = "0 30 1 * * *";
+    // Closed days recomputed by each compaction run, to pick up late corrections
+    private int compactionLookbackDays = 7;
+    // Longest range the daily summary endpoint returns
+    private int maxRangeDays = 366;
+
+    public String getCompactionCron() { return compactionCron; }
+    public void setCompactionCron(String compactionCron) { this.compactionCron = compactionCron; }
+
+    public int getCompactionLookbackDays() { return compactionLookbackDays; }
+    public void setCompactionLookbackDays(int compactionLookbackDays) { this.compactionLookbackDays = compactionLookbackDays; }
+
+    public int getMaxRangeDays() { return maxRangeDays; }
+    public void setMaxRangeDays(int maxRangeDays) { this.maxRangeDays = maxRangeDays; }
+}
@@ -0,0 +1,18 @@
+package com.dev.backend.config;
+
+import com.dev.backend.cache.BoundedCacheManager;
+import com.dev.backend.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    @Bean
+    public BoundedCacheManager cacheManager(CacheProperties properties) {
+        return new BoundedCacheManager(properties);
+    }
+}
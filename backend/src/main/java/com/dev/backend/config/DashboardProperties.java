@@ -0,0 +1,23 @@
+package com.dev.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "dashboard.sections")
+public class DashboardProperties {
+    // Sections still running after this are dropped from the response and listed as unavailable
+    private Duration timeout = Duration.ofSeconds(2);
+    // Threads computing sections; sections beyond threads + queue-capacity are reported unavailable
+    private int threads = 4;
+    private int queueCapacity = 32;
+
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+}
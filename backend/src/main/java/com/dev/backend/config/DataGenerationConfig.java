@@ -0,0 +1,13 @@
+package com.dev.backend.config;
+
+import com.dev.backend.datagen.DataGenerationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// Synthetic data is only ever generated for local development and benchmarking
+@Configuration
+@Profile({"dev", "bench"})
+@EnableConfigurationProperties(DataGenerationProperties.class)
+public class DataGenerationConfig {
+}
@@ -0,0 +1,19 @@
+package com.dev.backend.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JsonConfig {
+    // Filter of the DTOs list endpoints can trim with ?fields=; unless a request selects fields, everything is written
+    public static final String FIELD_SELECTION_FILTER = "fieldSelection";
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionDefaults() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(FIELD_SELECTION_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.dev.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "live-events")
+public class LiveEventsProperties {
+    // Open streams beyond this are refused with 503
+    private int maxSubscribers = 2000;
+    // Events queued for one subscriber; a client this far behind is disconnected
+    private int subscriberQueueCapacity = 64;
+    // Threads writing queued events to subscribers
+    private int senderThreads = 4;
+    // Buffered changes are sent on this tick; bursts above max-events-per-flush go out as one summary
+    private Duration flushInterval = Duration.ofMillis(250);
+    private int maxEventsPerFlush = 32;
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    // Streams are closed after this; EventSource reconnects on its own
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    public int getMaxSubscribers() { return maxSubscribers; }
+    public void setMaxSubscribers(int maxSubscribers) { this.maxSubscribers = maxSubscribers; }
+
+    public int getSubscriberQueueCapacity() { return subscriberQueueCapacity; }
+    public void setSubscriberQueueCapacity(int subscriberQueueCapacity) { this.subscriberQueueCapacity = subscriberQueueCapacity; }
+
+    public int getSenderThreads() { return senderThreads; }
+    public void setSenderThreads(int senderThreads) { this.senderThreads = senderThreads; }
+
+    public Duration getFlushInterval() { return flushInterval; }
+    public void setFlushInterval(Duration flushInterval) { this.flushInterval = flushInterval; }
+
+    public int getMaxEventsPerFlush() { return maxEventsPerFlush; }
+    public void setMaxEventsPerFlush(int maxEventsPerFlush) { this.maxEventsPerFlush = maxEventsPerFlush; }
+
+    public Duration getHeartbeatInterval() { return heartbeatInterval; }
+    public void setHeartbeatInterval(Duration heartbeatInterval) { this.heartbeatInterval = heartbeatInterval; }
+
+    public Duration getStreamTimeout() { return streamTimeout; }
+    public void setStreamTimeout(Duration streamTimeout) { this.streamTimeout = streamTimeout; }
+}
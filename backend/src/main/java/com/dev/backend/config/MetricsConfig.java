@@ -0,0 +1,40 @@
+package com.dev.backend.config;
+
+import com.dev.backend.cache.BoundedCacheManager;
+import com.dev.backend.cache.CacheProperties;
+import com.dev.backend.metrics.CacheMetricsBinder;
+import com.dev.backend.metrics.QueryBudgetProperties;
+import com.dev.backend.metrics.QueryCountFilter;
+import com.dev.backend.metrics.QueryCountInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// HTTP timers, HikariCP pool gauges and JVM metrics come from the actuator; this adds
+// per-request statement counts with the query budget check, and the bounded cache statistics
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class MetricsConfig {
+    @Bean
+    public QueryCountInspector queryCountInspector(MeterRegistry registry) {
+        return new QueryCountInspector(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(QueryCountInspector inspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Bean
+    public QueryCountFilter queryCountFilter(MeterRegistry registry, QueryBudgetProperties budget) {
+        return new QueryCountFilter(registry, budget);
+    }
+
+    @Bean
+    public CacheMetricsBinder cacheMetricsBinder(BoundedCacheManager cacheManager, CacheProperties properties) {
+        return new CacheMetricsBinder(cacheManager, properties);
+    }
+}
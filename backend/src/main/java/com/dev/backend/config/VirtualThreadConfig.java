@@ -0,0 +1,45 @@
+package com.dev.backend.config;
+
+import com.dev.backend.concurrency.ConnectionPoolGuardFilter;
+import com.dev.backend.concurrency.PinnedThreadMonitor;
+import com.dev.backend.concurrency.VirtualThreadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+// Only active with spring.threads.virtual.enabled=true on Java 21+, where Boot already runs Tomcat
+// requests, @Async and @Scheduled work on virtual threads. Adds the guards that mode needs.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfig {
+    // HikariCP's own default
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public ConnectionPoolGuardFilter connectionPoolGuardFilter(VirtualThreadProperties properties, DataSource dataSource,
+                                                               MeterRegistry registry) throws SQLException {
+        int maxConcurrent = properties.getMaxConcurrentRequests() > 0
+                ? properties.getMaxConcurrentRequests()
+                : maximumPoolSize(dataSource);
+        return new ConnectionPoolGuardFilter(maxConcurrent, properties.getAcquireTimeout(), registry);
+    }
+
+    @Bean
+    public PinnedThreadMonitor pinnedThreadMonitor(VirtualThreadProperties properties, MeterRegistry registry) {
+        return new PinnedThreadMonitor(properties.getPinnedThreshold(), registry);
+    }
+
+    private static int maximumPoolSize(DataSource dataSource) throws SQLException {
+        return dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                : DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,54 @@
+package com.dev.backend.controller;
+
+import com.dev.backend.dto.AttendancePunctualityDTO;
+import com.dev.backend.dto.AttendanceTrendDTO;
+import com.dev.backend.service.AttendanceArchiveService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/attendance/analytics")
+@CrossOrigin(origins = {"http://localhost:3000", "https://devshubham07.github.io"})
+public class AttendanceAnalyticsController {
+
+    private final AttendanceArchiveService archiveService;
+
+    public AttendanceAnalyticsController(AttendanceArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    // Defaults to the current year and the two before it
+    @GetMapping("/punctuality")
+    public ResponseEntity<List<AttendancePunctualityDTO>> getPunctuality(
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear) {
+        int to = toYear != null ? toYear : YearMonth.now().getYear();
+        int from = fromYear != null ? fromYear : to - 2;
+        return ResponseEntity.ok(archiveService.getPunctuality(from, to));
+    }
+
+    // Months as yyyy-MM; defaults to the last twelve months
+    @GetMapping("/employees/{employeeId}/trend")
+    public ResponseEntity<List<AttendanceTrendDTO>> getEmployeeTrend(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        YearMonth end = to != null ? YearMonth.parse(to) : YearMonth.now();
+        YearMonth start = from != null ? YearMonth.parse(from) : end.minusMonths(11);
+        return ResponseEntity.ok(archiveService.getEmployeeTrend(employeeId, start, end));
+    }
+
+    @GetMapping("/archive")
+    public ResponseEntity<Map<String, Object>> getArchiveStatus() {
+        return ResponseEntity.ok(archiveService.getStatus());
+    }
+
+    @PostMapping("/archive/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildArchive(@RequestParam String from, @RequestParam String to) {
+        return ResponseEntity.ok(archiveService.rebuild(YearMonth.parse(from), YearMonth.parse(to)));
+    }
+}
@@ -1,9 +1,17 @@
 package com.dev.backend.controller;
 
+import com.dev.backend.dto.AttendanceBatchResultDTO;
 import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.dto.AttendancePeriodSummaryDTO;
 import com.dev.backend.service.AttendanceService;
+import com.dev.backend.service.AttendanceSummaryService;
+import com.dev.backend.service.ChangeVersionRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -14,14 +22,35 @@ import java.util.List;
 public class AttendanceController {
 
     private final AttendanceService service;
+    private final AttendanceSummaryService summaryService;
+    private final ChangeVersionRegistry changeVersions;
+    private final ObjectMapper objectMapper;
 
-    public AttendanceController(AttendanceService service) {
+    public AttendanceController(AttendanceService service, AttendanceSummaryService summaryService,
+                                ChangeVersionRegistry changeVersions, ObjectMapper objectMapper) {
         this.service = service;
+        this.summaryService = summaryService;
+        this.changeVersions = changeVersions;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public ResponseEntity<List<AttendanceDTO>> getAll() {
-        return ResponseEntity.ok(service.getAllAttendances());
+    public ResponseEntity<MappingJacksonValue> getAll(@RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(service.getAllAttendances(), fields));
+    }
+
+    @GetMapping(params = {"limit", "stream!=true"})
+    public ResponseEntity<MappingJacksonValue> getPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(service.getAttendancePage(
+                ListingSupport.cursor(after), ListingSupport.pageSize(limit)), fields));
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        return ListingSupport.ndjson(objectMapper, service::streamAllAttendances);
     }
 
     @GetMapping("/{id}")
@@ -30,36 +59,68 @@ public class AttendanceController {
     }
 
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<AttendanceDTO>> getByEmployee(@PathVariable Long employeeId) {
-        return ResponseEntity.ok(service.getAttendancesByEmployeeId(employeeId));
+    public ResponseEntity<MappingJacksonValue> getByEmployee(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(service.getAttendancesByEmployeeId(employeeId), fields));
     }
 
     @GetMapping("/date/{date}")
-    public ResponseEntity<List<AttendanceDTO>> getByDate(@PathVariable String date) {
-        return ResponseEntity.ok(service.getAttendancesByDate(LocalDate.parse(date)));
+    public ResponseEntity<MappingJacksonValue> getByDate(
+            @PathVariable String date,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LocalDate day = LocalDate.parse(date);
+        return ConditionalGet.respond(ifNoneMatch, FieldSelection.tag(changeVersions.attendanceTag(day), fields),
+                () -> FieldSelection.apply(service.getAttendancesByDate(day), fields));
     }
 
     @GetMapping("/today")
-    public ResponseEntity<List<AttendanceDTO>> getTodayAttendance() {
-        return ResponseEntity.ok(service.getTodayAttendance());
+    public ResponseEntity<MappingJacksonValue> getTodayAttendance(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LocalDate today = LocalDate.now();
+        return ConditionalGet.respond(ifNoneMatch, FieldSelection.tag(changeVersions.attendanceTag(today), fields),
+                () -> FieldSelection.apply(service.getAttendancesByDate(today), fields));
     }
 
     @GetMapping("/date-range")
-    public ResponseEntity<List<AttendanceDTO>> getByDateRange(
+    public ResponseEntity<MappingJacksonValue> getByDateRange(
             @RequestParam String startDate, 
-            @RequestParam String endDate) {
-        return ResponseEntity.ok(service.getAttendanceByDateRange(
-                LocalDate.parse(startDate), LocalDate.parse(endDate)));
+            @RequestParam String endDate,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(service.getAttendanceByDateRange(
+                LocalDate.parse(startDate), LocalDate.parse(endDate)), fields));
+    }
+
+    @GetMapping("/summary/daily")
+    public ResponseEntity<List<AttendancePeriodSummaryDTO>> getDailySummary(
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(required = false) String department) {
+        return ResponseEntity.ok(summaryService.getDailySummary(
+                LocalDate.parse(startDate), LocalDate.parse(endDate), department));
+    }
+
+    @GetMapping("/summary/monthly")
+    public ResponseEntity<List<AttendancePeriodSummaryDTO>> getMonthlySummary(
+            @RequestParam int year,
+            @RequestParam(required = false) String department) {
+        return ResponseEntity.ok(summaryService.getMonthlySummary(year, department));
     }
 
     @GetMapping("/late/{date}")
-    public ResponseEntity<List<AttendanceDTO>> getLateArrivals(@PathVariable String date) {
-        return ResponseEntity.ok(service.getLateArrivals(LocalDate.parse(date)));
+    public ResponseEntity<MappingJacksonValue> getLateArrivals(
+            @PathVariable String date,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(service.getLateArrivals(LocalDate.parse(date)), fields));
     }
 
     @GetMapping("/overtime/{date}")
-    public ResponseEntity<List<AttendanceDTO>> getOvertimeEmployees(@PathVariable String date) {
-        return ResponseEntity.ok(service.getOvertimeEmployees(LocalDate.parse(date)));
+    public ResponseEntity<MappingJacksonValue> getOvertimeEmployees(
+            @PathVariable String date,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(service.getOvertimeEmployees(LocalDate.parse(date)), fields));
     }
 
     @GetMapping("/employee/{employeeId}/today")
@@ -73,6 +134,11 @@ public class AttendanceController {
         return ResponseEntity.ok(service.createAttendance(attendanceDTO));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<AttendanceBatchResultDTO>> createBatch(@RequestBody List<AttendanceDTO> batch) {
+        return ResponseEntity.ok(service.createAttendanceBatch(batch));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<AttendanceDTO> update(@PathVariable Long id, @RequestBody AttendanceDTO attendanceDTO) {
         return ResponseEntity.ok(service.updateAttendance(id, attendanceDTO));
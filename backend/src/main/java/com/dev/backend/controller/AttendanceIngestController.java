@@ -0,0 +1,37 @@
+package com.dev.backend.controller;
+
+import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.service.AttendanceIngestService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+// Write-behind clock events: 202 once the event is in the ingestion log, before it reaches the database
+@RestController
+@RequestMapping("/api/attendance/ingest")
+@CrossOrigin(origins = {"http://localhost:3000", "https://devshubham07.github.io"})
+public class AttendanceIngestController {
+
+    private final AttendanceIngestService ingestService;
+
+    public AttendanceIngestController(AttendanceIngestService ingestService) {
+        this.ingestService = ingestService;
+    }
+
+    @PostMapping("/clock-in")
+    public ResponseEntity<Map<String, Object>> clockIn(@RequestBody AttendanceDTO event) {
+        return ResponseEntity.accepted().body(ingestService.clockIn(event));
+    }
+
+    @PostMapping("/clock-out")
+    public ResponseEntity<Map<String, Object>> clockOut(@RequestBody AttendanceDTO event) {
+        return ResponseEntity.accepted().body(ingestService.clockOut(event));
+    }
+
+    // Queue depth, flush lag and outcome counts
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(ingestService.getStatus());
+    }
+}
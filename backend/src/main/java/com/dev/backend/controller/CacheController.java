@@ -0,0 +1,31 @@
+package com.dev.backend.controller;
+
+import com.dev.backend.cache.CacheStats;
+import com.dev.backend.service.CacheService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin(origins = {"http://localhost:3000", "https://devshubham07.github.io"})
+public class CacheController {
+
+    private final CacheService cacheService;
+
+    public CacheController(CacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStats>> getStatistics() {
+        return ResponseEntity.ok(cacheService.getStatistics());
+    }
+
+    @DeleteMapping("/{name}")
+    public ResponseEntity<Void> clear(@PathVariable String name) {
+        cacheService.evictAll(name);
+        return ResponseEntity.noContent().build();
+    }
+}
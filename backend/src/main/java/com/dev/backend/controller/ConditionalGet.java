@@ -0,0 +1,49 @@
+package com.dev.backend.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+// Conditional GET for the endpoints the frontend polls. Tags come from ChangeVersionRegistry, so a
+// matching If-None-Match is answered with 304 before the service, the database or Jackson run.
+// no-cache lets browsers keep the body but revalidate it on every poll.
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    // The tag is evaluated before the body is loaded, so a write racing the load can only make it stale early
+    static <T> ResponseEntity<T> respond(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ok(etag, body.get());
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+    }
+
+    static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(body);
+    }
+
+    // If-None-Match uses weak comparison, so a W/ prefix added by a proxy still matches
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
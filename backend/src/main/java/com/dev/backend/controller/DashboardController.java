@@ -1,23 +1,67 @@
 package com.dev.backend.controller;
 
 import com.dev.backend.dto.DashboardStatsDTO;
+import com.dev.backend.service.ChangeVersionRegistry;
+import com.dev.backend.service.DashboardAggregateStore;
 import com.dev.backend.service.DashboardService;
+import com.dev.backend.service.PerformanceTrendService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/dashboard")
 @CrossOrigin(origins = {"http://localhost:3000", "https://devshubham07.github.io"})
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardAggregateStore aggregateStore;
+    private final PerformanceTrendService performanceTrendService;
+    private final ChangeVersionRegistry changeVersions;
 
-    public DashboardController(DashboardService dashboardService) {
+    public DashboardController(DashboardService dashboardService, DashboardAggregateStore aggregateStore,
+                               PerformanceTrendService performanceTrendService,
+                               ChangeVersionRegistry changeVersions) {
         this.dashboardService = dashboardService;
+        this.aggregateStore = aggregateStore;
+        this.performanceTrendService = performanceTrendService;
+        this.changeVersions = changeVersions;
     }
 
     @GetMapping("/stats")
-    public ResponseEntity<DashboardStatsDTO> getDashboardStats() {
-        return ResponseEntity.ok(dashboardService.getDashboardStats());
+    public ResponseEntity<DashboardStatsDTO> getDashboardStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = changeVersions.dashboardTag(LocalDate.now());
+        if (ConditionalGet.matches(ifNoneMatch, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        DashboardStatsDTO stats = dashboardService.getDashboardStats();
+        // Incomplete; the next poll has to fetch it again rather than revalidate
+        if (stats.isDegraded()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(stats);
+        }
+        return ConditionalGet.ok(etag, stats);
+    }
+
+    // Monthly average review score from the rollup table; company-wide unless a department is given
+    @GetMapping("/performance-trend")
+    public ResponseEntity<DashboardStatsDTO.PerformanceTrendDTO> getPerformanceTrend(
+            @RequestParam(defaultValue = "6") int months,
+            @RequestParam(required = false) String department) {
+        return ResponseEntity.ok(performanceTrendService.getTrend(department, months));
+    }
+
+    @GetMapping("/reconciliation")
+    public ResponseEntity<Map<String, Object>> getLastReconciliation() {
+        return ResponseEntity.ok(aggregateStore.getLastReconciliation());
+    }
+
+    @PostMapping("/reconciliation")
+    public ResponseEntity<Map<String, Object>> reconcile() {
+        return ResponseEntity.ok(aggregateStore.reconcile());
     }
 }
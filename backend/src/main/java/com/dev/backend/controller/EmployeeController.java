@@ -1,11 +1,23 @@
 package com.dev.backend.controller;
 
 import com.dev.backend.dto.EmployeeDTO;
+import com.dev.backend.dto.EmployeeSearchResultDTO;
+import com.dev.backend.dto.OrgChartNodeDTO;
+import com.dev.backend.dto.OrgChartStatsDTO;
+import com.dev.backend.service.ChangeVersionRegistry;
+import com.dev.backend.service.EmployeeSearchIndex;
 import com.dev.backend.service.EmployeeService;
+import com.dev.backend.service.OrgChartService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
+
 
 @RestController
 @RequestMapping("/api/employees")
@@ -13,44 +25,139 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final OrgChartService orgChartService;
+    private final EmployeeSearchIndex searchIndex;
+    private final ChangeVersionRegistry changeVersions;
+    private final ObjectMapper objectMapper;
 
-    public EmployeeController(EmployeeService service) {
+    public EmployeeController(EmployeeService service, OrgChartService orgChartService, EmployeeSearchIndex searchIndex,
+                              ChangeVersionRegistry changeVersions, ObjectMapper objectMapper) {
         this.employeeService = service;
+        this.orgChartService = orgChartService;
+        this.searchIndex = searchIndex;
+        this.changeVersions = changeVersions;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public ResponseEntity<List<EmployeeDTO>> getAll() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<MappingJacksonValue> getAll(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.respond(ifNoneMatch, FieldSelection.tag(changeVersions.employeesTag(), fields),
+                () -> FieldSelection.apply(employeeService.getAllEmployees(), fields));
+    }
+
+    @GetMapping(params = {"limit", "stream!=true"})
+    public ResponseEntity<MappingJacksonValue> getPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(employeeService.getEmployeePage(
+                ListingSupport.cursor(after), ListingSupport.pageSize(limit)), fields));
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        return ListingSupport.ndjson(objectMapper, employeeService::streamAllEmployees);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<EmployeeSearchResultDTO> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchIndex.search(q, page, ListingSupport.pageSize(size)));
+    }
+
+    @GetMapping("/search/stats")
+    public ResponseEntity<Map<String, Object>> getSearchStats() {
+        return ResponseEntity.ok(searchIndex.getStats());
+    }
+
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        return ResponseEntity.ok(searchIndex.rebuild());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeDTO> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+    public ResponseEntity<EmployeeDTO> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.respond(ifNoneMatch, changeVersions.employeesTag(), () -> employeeService.getEmployeeById(id));
     }
 
     @GetMapping("/manager/{managerId}")
-    public ResponseEntity<List<EmployeeDTO>> getByManager(@PathVariable Long managerId) {
-        return ResponseEntity.ok(employeeService.getEmployeesByManager(managerId));
+    public ResponseEntity<MappingJacksonValue> getByManager(
+            @PathVariable Long managerId,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(employeeService.getEmployeesByManager(managerId), fields));
+    }
+
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<List<OrgChartNodeDTO>> getSubtree(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer maxDepth,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.respond(ifNoneMatch, changeVersions.employeesTag(), () -> orgChartService.getSubtree(id, maxDepth));
+    }
+
+    @GetMapping("/{id}/subtree/stats")
+    public ResponseEntity<OrgChartStatsDTO> getSubtreeStats(@PathVariable Long id) {
+        return ResponseEntity.ok(orgChartService.getSubtreeStats(id));
+    }
+
+    @GetMapping("/{id}/reports-to/{managerId}")
+    public ResponseEntity<Map<String, Object>> reportsTo(@PathVariable Long id, @PathVariable Long managerId) {
+        return ResponseEntity.ok(Map.of(
+                "employeeId", id,
+                "managerId", managerId,
+                "reportsTo", orgChartService.reportsTo(id, managerId)));
     }
 
     @GetMapping("/department/{department}")
-    public ResponseEntity<List<EmployeeDTO>> getByDepartment(@PathVariable String department) {
-        return ResponseEntity.ok(employeeService.getEmployeesByDepartment(department));
+    public ResponseEntity<MappingJacksonValue> getByDepartment(
+            @PathVariable String department,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(employeeService.getEmployeesByDepartment(department), fields));
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<EmployeeDTO>> getActiveEmployees() {
-        return ResponseEntity.ok(employeeService.getActiveEmployees());
+    public ResponseEntity<MappingJacksonValue> getActiveEmployees(@RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(employeeService.getActiveEmployees(), fields));
     }
 
     @GetMapping("/low-performance/{threshold}")
-    public ResponseEntity<List<EmployeeDTO>> getLowPerformanceEmployees(@PathVariable Integer threshold) {
-        return ResponseEntity.ok(employeeService.getEmployeesWithLowPerformance(threshold));
+    public ResponseEntity<MappingJacksonValue> getLowPerformanceEmployees(
+            @PathVariable Integer threshold,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(employeeService.getEmployeesWithLowPerformance(threshold), fields));
+    }
+
+    @GetMapping("/low-attendance/{rate}")
+    public ResponseEntity<MappingJacksonValue> getLowAttendanceEmployees(
+            @PathVariable Integer rate,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(employeeService.getEmployeesWithLowAttendance(rate), fields));
+    }
+
+    @GetMapping("/top-performers")
+    public ResponseEntity<MappingJacksonValue> getTopPerformers(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(employeeService.getTopPerformers(ListingSupport.pageSize(limit)), fields));
+    }
+
+    @GetMapping("/department-counts")
+    public ResponseEntity<Map<String, Integer>> getDepartmentCounts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.respond(ifNoneMatch, changeVersions.employeesTag(), employeeService::getDepartmentCounts);
     }
 
     @GetMapping("/tenure/{years}")
-    public ResponseEntity<List<EmployeeDTO>> getEmployeesByTenure(@PathVariable Integer years) {
-        return ResponseEntity.ok(employeeService.getEmployeesByTenure(years));
+    public ResponseEntity<MappingJacksonValue> getEmployeesByTenure(
+            @PathVariable Integer years,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(FieldSelection.apply(employeeService.getEmployeesByTenure(years), fields));
     }
 
     @PostMapping
@@ -0,0 +1,48 @@
+package com.dev.backend.controller;
+
+import com.dev.backend.config.JsonConfig;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+// ?fields=id,name,department on list endpoints: only the named properties of each EmployeeDTO or
+// AttendanceDTO are written. Unknown names are ignored; without the parameter nothing is trimmed.
+final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    static MappingJacksonValue apply(Object body, String fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        Set<String> selected = parse(fields);
+        if (!selected.isEmpty()) {
+            value.setFilters(new SimpleFilterProvider().addFilter(JsonConfig.FIELD_SELECTION_FILTER,
+                    SimpleBeanPropertyFilter.filterOutAllExcept(selected)));
+        }
+        return value;
+    }
+
+    // A trimmed body is a different representation, so it gets its own tag; the order fields are listed in does not matter
+    static String tag(String etag, String fields) {
+        Set<String> selected = parse(fields);
+        if (selected.isEmpty()) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-f" + Integer.toHexString(selected.toString().hashCode()) + '"';
+    }
+
+    private static Set<String> parse(String fields) {
+        Set<String> selected = new TreeSet<>();
+        if (fields != null) {
+            for (String field : fields.split(",")) {
+                if (!field.isBlank()) {
+                    selected.add(field.trim());
+                }
+            }
+        }
+        return selected;
+    }
+}
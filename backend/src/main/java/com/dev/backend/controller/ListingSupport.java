@@ -0,0 +1,54 @@
+package com.dev.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+// Shared plumbing for the paged (?limit=&after=) and streamed (?stream=true) list endpoints. The paged
+// mappings exclude stream=true, so a request carrying both is streamed rather than ambiguous.
+final class ListingSupport {
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int FLUSH_EVERY = 200;
+
+    private ListingSupport() {
+    }
+
+    static int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+
+    static long cursor(Long after) {
+        return after == null ? 0L : after;
+    }
+
+    // Writes one JSON document per line as rows come off the database cursor
+    static <T> ResponseEntity<StreamingResponseBody> ndjson(ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            source.accept(item -> writeLine(objectMapper, out, item, ++written[0] % FLUSH_EVERY == 0));
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private static void writeLine(ObjectMapper objectMapper, OutputStream out, Object item, boolean flush) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(item));
+            out.write('\n');
+            if (flush) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Usually the client went away; abort the stream so the database cursor is released
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.dev.backend.controller;
+
+import com.dev.backend.service.LiveEventBroadcaster;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Server-sent events for open dashboards: attendance, review and employee changes as they commit,
+// plus a "dashboard" event carrying fresh stats after each batch of changes
+@RestController
+@RequestMapping("/api/live")
+@CrossOrigin(origins = {"http://localhost:3000", "https://devshubham07.github.io"})
+public class LiveEventController {
+
+    private final LiveEventBroadcaster broadcaster;
+
+    public LiveEventController(LiveEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events() {
+        SseEmitter emitter = broadcaster.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        // Stops nginx-style proxies from buffering the stream
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+}
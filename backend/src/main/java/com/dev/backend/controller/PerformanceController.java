@@ -1,8 +1,15 @@
 package com.dev.backend.controller;
 
+import com.dev.backend.dto.CursorPageDTO;
 import com.dev.backend.model.Performance;
+import com.dev.backend.repository.projection.PerformanceView;
+import com.dev.backend.service.ChangeVersionRegistry;
 import com.dev.backend.service.PerformanceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,23 +20,39 @@ import java.util.Optional;
 public class PerformanceController {
 
     private final PerformanceService service;
+    private final ChangeVersionRegistry changeVersions;
+    private final ObjectMapper objectMapper;
 
-    public PerformanceController(PerformanceService service) {
+    public PerformanceController(PerformanceService service, ChangeVersionRegistry changeVersions,
+                                 ObjectMapper objectMapper) {
         this.service = service;
+        this.changeVersions = changeVersions;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public List<Performance> getAll() {
-        return service.getAllPerformances();
+    public ResponseEntity<List<PerformanceView>> getAll(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.respond(ifNoneMatch, changeVersions.performanceTag(), service::getAllPerformances);
+    }
+
+    @GetMapping(params = {"limit", "stream!=true"})
+    public CursorPageDTO<PerformanceView> getPage(@RequestParam int limit, @RequestParam(required = false) Long after) {
+        return service.getPerformancePage(ListingSupport.cursor(after), ListingSupport.pageSize(limit));
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        return ListingSupport.ndjson(objectMapper, service::streamAllPerformances);
     }
 
     @GetMapping("/{id}")
-    public Optional<Performance> getById(@PathVariable Long id) {
+    public Optional<PerformanceView> getById(@PathVariable Long id) {
         return service.getPerformanceById(id);
     }
 
     @GetMapping("/employee/{employeeId}")
-    public List<Performance> getByEmployee(@PathVariable Long employeeId) {
+    public List<PerformanceView> getByEmployee(@PathVariable Long employeeId) {
         return service.getPerformancesByEmployeeId(employeeId);
     }
 
@@ -3,6 +3,7 @@ package com.dev.backend.controller;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,10 +11,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.dev.backend.dto.CursorPageDTO;
 import com.dev.backend.model.User;
 import com.dev.backend.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
 @RequestMapping("/api/users")
@@ -21,9 +26,11 @@ import com.dev.backend.service.UserService;
 public class UserController {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ObjectMapper objectMapper) {
         this.userService = userService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -31,6 +38,16 @@ public class UserController {
         return userService.getAllUsers();
     }
 
+    @GetMapping(params = {"limit", "stream!=true"})
+    public CursorPageDTO<User> getPage(@RequestParam int limit, @RequestParam(required = false) Long after) {
+        return userService.getUserPage(ListingSupport.cursor(after), ListingSupport.pageSize(limit));
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        return ListingSupport.ndjson(objectMapper, userService::streamAllUsers);
+    }
+
     @GetMapping("/{id}")
     public Optional<User> getById(@PathVariable Long id) {
         return userService.getUserById(id);
@@ -0,0 +1,42 @@
+package com.dev.backend.datagen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "datagen")
+public class DataGenerationProperties {
+    private boolean enabled = true;
+    private int employees = 200;
+    private int departments = 8;
+    // Working days of attendance history, counted back from today
+    private int attendanceDays = 60;
+    // Quarterly reviews are generated for this many years back
+    private int reviewYears = 2;
+    private long seed = 42L;
+    private int batchSize = 5_000;
+    // Wipe existing rows first; otherwise generation is skipped when employees already exist
+    private boolean reset = false;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getEmployees() { return employees; }
+    public void setEmployees(int employees) { this.employees = employees; }
+
+    public int getDepartments() { return departments; }
+    public void setDepartments(int departments) { this.departments = departments; }
+
+    public int getAttendanceDays() { return attendanceDays; }
+    public void setAttendanceDays(int attendanceDays) { this.attendanceDays = attendanceDays; }
+
+    public int getReviewYears() { return reviewYears; }
+    public void setReviewYears(int reviewYears) { this.reviewYears = reviewYears; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public boolean isReset() { return reset; }
+    public void setReset(boolean reset) { this.reset = reset; }
+}
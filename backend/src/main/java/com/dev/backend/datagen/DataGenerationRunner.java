@@ -0,0 +1,37 @@
+package com.dev.backend.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// Runs before ApplicationReadyEvent, so the dashboard aggregates are seeded from the generated data
+@Component
+@Profile({"dev", "bench"})
+public class DataGenerationRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(DataGenerationRunner.class);
+
+    private final SyntheticDataGenerator generator;
+    private final DataGenerationProperties properties;
+
+    public DataGenerationRunner(SyntheticDataGenerator generator, DataGenerationProperties properties) {
+        this.generator = generator;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        GeneratedDataset dataset = generator.generate();
+        if (dataset != null) {
+            log.info("Generated {} employees, {} attendance rows, {} reviews and {} onboarding tasks in {} ms",
+                    dataset.getEmployees(), dataset.getAttendanceRows(), dataset.getReviews(),
+                    dataset.getOnboardingTasks(), System.currentTimeMillis() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dev.backend.datagen;
+
+public class GeneratedDataset {
+    private final long users;
+    private final long employees;
+    private final long attendanceRows;
+    private final long reviews;
+    private final long onboardingTasks;
+
+    public GeneratedDataset(long users, long employees, long attendanceRows, long reviews, long onboardingTasks) {
+        this.users = users;
+        this.employees = employees;
+        this.attendanceRows = attendanceRows;
+        this.reviews = reviews;
+        this.onboardingTasks = onboardingTasks;
+    }
+
+    public long getUsers() {
+        return users;
+    }
+
+    public long getEmployees() {
+        return employees;
+    }
+
+    public long getAttendanceRows() {
+        return attendanceRows;
+    }
+
+    public long getReviews() {
+        return reviews;
+    }
+
+    public long getOnboardingTasks() {
+        return onboardingTasks;
+    }
+}
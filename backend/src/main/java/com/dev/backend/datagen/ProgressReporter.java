@@ -0,0 +1,45 @@
+package com.dev.backend.datagen;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+// Logs row counts and throughput for one table at most every few seconds
+class ProgressReporter {
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final Logger log;
+    private final String table;
+    private final long expectedRows;
+    private final long startedAt = System.nanoTime();
+    private long lastReportAt = startedAt;
+    private long rows;
+
+    ProgressReporter(Logger log, String table, long expectedRows) {
+        this.log = log;
+        this.table = table;
+        this.expectedRows = expectedRows;
+    }
+
+    void advance(int written) {
+        rows += written;
+        long now = System.nanoTime();
+        if (now - lastReportAt >= REPORT_INTERVAL_NANOS) {
+            lastReportAt = now;
+            log.info("{}: {} / ~{} rows ({}%), {} rows/s", table, rows, expectedRows,
+                    expectedRows > 0 ? rows * 100 / expectedRows : 100, rate(now));
+        }
+    }
+
+    long finish() {
+        long now = System.nanoTime();
+        log.info("{}: {} rows in {} ms ({} rows/s)", table, rows,
+                TimeUnit.NANOSECONDS.toMillis(now - startedAt), rate(now));
+        return rows;
+    }
+
+    private long rate(long now) {
+        long elapsed = Math.max(1, now - startedAt);
+        return rows * TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+}
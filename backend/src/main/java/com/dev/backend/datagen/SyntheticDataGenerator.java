@@ -0,0 +1,324 @@
+package com.dev.backend.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Writes a synthetic organisation straight through JDBC batches with explicit ids, then moves the
+// identity columns and the attendance sequence past them so the application can keep inserting.
+// Every section draws from its own seeded Random, so e.g. a longer attendance window leaves the org unchanged.
+@Component
+@Profile({"dev", "bench"})
+public class SyntheticDataGenerator {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] DEPARTMENTS = {
+            "Engineering", "Sales", "Marketing", "Finance", "Human Resources", "Operations",
+            "Support", "Product", "Design", "Legal", "IT", "Research"
+    };
+    private static final String[] DESIGNATIONS = {
+            "Engineer", "Senior Engineer", "Analyst", "Specialist", "Coordinator", "Associate", "Consultant"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Alex", "Sarah", "Michael", "Emma", "David", "Lisa", "James", "Maria", "Robert", "Jennifer",
+            "Priya", "Wei", "Omar", "Sofia", "Daniel", "Aisha", "Lucas", "Hannah", "Mateo", "Yuki"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Chen", "Wilson", "Brown", "Garcia", "Taylor", "Rodriguez", "Anderson", "Thomas",
+            "Patel", "Kim", "Nguyen", "Mueller", "Rossi", "Khan", "Silva", "Cohen", "Ivanova", "Okafor"
+    };
+    private static final String[] ONBOARDING_TASKS = {
+            "Complete HR paperwork", "Setup development environment", "Team introduction meeting"
+    };
+    // Direct reports per manager inside a department
+    private static final int SPAN_OF_CONTROL = 6;
+    private static final int ATTENDANCE_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataGenerationProperties properties;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, DataGenerationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    // Returns null when existing data was left in place
+    public GeneratedDataset generate() {
+        if (properties.isReset()) {
+            wipe();
+        } else {
+            Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee", Long.class);
+            if (existing != null && existing > 0) {
+                log.info("Skipping data generation: {} employees already present (set datagen.reset=true to regenerate)", existing);
+                return null;
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        log.info("Generating {} employees across {} departments (seed {})",
+                properties.getEmployees(), properties.getDepartments(), properties.getSeed());
+        Organisation org = new Organisation(properties.getEmployees(), properties.getDepartments(),
+                new Random(properties.getSeed()), today);
+
+        long users = insertUsers(org);
+        long employees = insertEmployees(org);
+        long attendanceRows = insertAttendance(org, today, new Random(properties.getSeed() + 1));
+        long reviews = insertReviews(org, today, new Random(properties.getSeed() + 2));
+        long tasks = insertOnboardingTasks(org, today);
+        rebuildPerformanceRollup();
+        // Attendance is inserted directly too; the summary is rebuilt from it once the application is ready
+        jdbcTemplate.update("DELETE FROM daily_attendance_summary");
+
+        restartIdentity("users", users);
+        restartIdentity("employee", employees);
+        restartIdentity("performance", reviews);
+        restartIdentity("onboarding_task", tasks);
+        jdbcTemplate.execute("ALTER SEQUENCE attendance_seq RESTART WITH " + (attendanceRows + ATTENDANCE_ALLOCATION_SIZE));
+
+        return new GeneratedDataset(users, employees, attendanceRows, reviews, tasks);
+    }
+
+    private void wipe() {
+        log.info("Removing existing data before generation");
+        jdbcTemplate.update("DELETE FROM onboarding_task");
+        jdbcTemplate.update("DELETE FROM performance");
+        jdbcTemplate.update("DELETE FROM attendance");
+        jdbcTemplate.update("UPDATE employee SET manager_id = NULL");
+        jdbcTemplate.update("DELETE FROM employee");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    // Reviews are inserted directly, bypassing PerformanceRollupService, so aggregate them in one pass
+    private void rebuildPerformanceRollup() {
+        jdbcTemplate.update("DELETE FROM performance_monthly_rollup");
+        jdbcTemplate.update("INSERT INTO performance_monthly_rollup"
+                + " (department, period_start, review_count, score_sum, min_score, max_score)"
+                + " SELECT p.department, CAST(DATE_TRUNC('MONTH', p.date) AS DATE), COUNT(*), SUM(p.score), MIN(p.score), MAX(p.score)"
+                + " FROM performance p"
+                + " WHERE p.date IS NOT NULL AND p.department IS NOT NULL"
+                + " GROUP BY p.department, CAST(DATE_TRUNC('MONTH', p.date) AS DATE)");
+        jdbcTemplate.update("INSERT INTO performance_monthly_rollup"
+                + " (department, period_start, review_count, score_sum, min_score, max_score)"
+                + " SELECT '*', CAST(DATE_TRUNC('MONTH', p.date) AS DATE), COUNT(*), SUM(p.score), MIN(p.score), MAX(p.score)"
+                + " FROM performance p WHERE p.date IS NOT NULL"
+                + " GROUP BY CAST(DATE_TRUNC('MONTH', p.date) AS DATE)");
+    }
+
+    private void restartIdentity(String table, long rows) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (rows + 1));
+    }
+
+    private long insertUsers(Organisation org) {
+        BatchWriter writer = new BatchWriter("users",
+                "INSERT INTO users (id, username, email, password, role) VALUES (?, ?, ?, ?, ?)", org.size);
+        for (int i = 0; i < org.size; i++) {
+            if (i == 0) {
+                writer.add(1L, "admin", "admin@company.com", "admin123", "ADMIN");
+                continue;
+            }
+            String username = org.username(i);
+            String role = org.hasReports[i] ? "MANAGER" : "EMPLOYEE";
+            writer.add((long) i + 1, username, username + "@company.com", "password123", role);
+        }
+        return writer.finish();
+    }
+
+    private long insertEmployees(Organisation org) {
+        BatchWriter writer = new BatchWriter("employee",
+                "INSERT INTO employee (id, name, designation, department, join_date, user_id, manager_id)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?)", org.size);
+        // Managers always have lower ids than their reports, so they are written first
+        for (int i = 0; i < org.size; i++) {
+            writer.add((long) i + 1, org.names[i], org.designations[i], org.departmentNames[org.departments[i]],
+                    Date.valueOf(org.joinDates[i]), (long) i + 1, org.managerIds[i] == 0 ? null : org.managerIds[i]);
+        }
+        return writer.finish();
+    }
+
+    private long insertAttendance(Organisation org, LocalDate today, Random random) {
+        List<LocalDate> workdays = new ArrayList<>();
+        for (LocalDate day = today; workdays.size() < properties.getAttendanceDays(); day = day.minusDays(1)) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                workdays.add(day);
+            }
+        }
+
+        BatchWriter writer = new BatchWriter("attendance",
+                "INSERT INTO attendance (id, employee_id, date, clock_in, clock_out, department) VALUES (?, ?, ?, ?, ?, ?)",
+                (long) org.size * workdays.size() * 95 / 100);
+        long id = 0;
+        for (int i = 0; i < org.size; i++) {
+            // Some people are habitually later than others
+            int habitualDelay = random.nextInt(45);
+            for (LocalDate day : workdays) {
+                if (day.isBefore(org.joinDates[i]) || random.nextInt(100) < 5) {
+                    continue;
+                }
+                LocalDateTime clockIn = day.atTime(8, 30).plusMinutes(habitualDelay + random.nextInt(45));
+                LocalDateTime clockOut = null;
+                if (!day.equals(today)) {
+                    int minutes = random.nextInt(100) < 3 ? 180 + random.nextInt(60) : 450 + random.nextInt(150);
+                    clockOut = clockIn.plusMinutes(minutes);
+                }
+                writer.add(++id, (long) i + 1, Date.valueOf(day), Timestamp.valueOf(clockIn),
+                        clockOut != null ? Timestamp.valueOf(clockOut) : null, org.departmentNames[org.departments[i]]);
+            }
+        }
+        return writer.finish();
+    }
+
+    private long insertReviews(Organisation org, LocalDate today, Random random) {
+        int quarters = properties.getReviewYears() * 4;
+        BatchWriter writer = new BatchWriter("performance",
+                "INSERT INTO performance (id, employee_id, reviewer, score, feedback, date, department)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?)",
+                (long) org.size * quarters);
+        LocalDate currentQuarter = today.withDayOfMonth(1).minusMonths((today.getMonthValue() - 1) % 3);
+        long id = 0;
+        for (int i = 0; i < org.size; i++) {
+            double baseline = 75 + random.nextGaussian() * 10;
+            String reviewer = org.managerIds[i] == 0 ? "Board" : org.names[(int) org.managerIds[i] - 1];
+            for (int q = 0; q < quarters; q++) {
+                LocalDate date = currentQuarter.minusMonths(3L * q).plusDays(random.nextInt(20));
+                if (date.isAfter(today) || date.isBefore(org.joinDates[i])) {
+                    continue;
+                }
+                int score = (int) Math.max(30, Math.min(100, Math.round(baseline + random.nextGaussian() * 6)));
+                writer.add(++id, (long) i + 1, reviewer, score, feedback(score), Date.valueOf(date),
+                        org.departmentNames[org.departments[i]]);
+            }
+        }
+        return writer.finish();
+    }
+
+    private long insertOnboardingTasks(Organisation org, LocalDate today) {
+        BatchWriter writer = new BatchWriter("onboarding_task",
+                "INSERT INTO onboarding_task (id, employee_id, title, description, is_completed) VALUES (?, ?, ?, ?, ?)",
+                0);
+        LocalDate recentJoinCutoff = today.minusDays(90);
+        long id = 0;
+        for (int i = 0; i < org.size; i++) {
+            if (org.joinDates[i].isBefore(recentJoinCutoff)) {
+                continue;
+            }
+            long daysIn = today.toEpochDay() - org.joinDates[i].toEpochDay();
+            for (int t = 0; t < ONBOARDING_TASKS.length; t++) {
+                // Tasks get ticked off in order over the first month
+                boolean completed = daysIn > 10L * (t + 1);
+                writer.add(++id, (long) i + 1, ONBOARDING_TASKS[t], ONBOARDING_TASKS[t], completed);
+            }
+        }
+        return writer.finish();
+    }
+
+    private static String feedback(int score) {
+        if (score >= 90) return "Outstanding performance";
+        if (score >= 80) return "Exceeds expectations";
+        if (score >= 70) return "Meets expectations";
+        if (score >= 60) return "Needs improvement";
+        return "Performance plan recommended";
+    }
+
+    // Employee attributes by index (id - 1). Employee 1 runs the company, each department head reports
+    // to them, and inside a department people are arranged in a SPAN_OF_CONTROL-wide tree.
+    private static final class Organisation {
+        final int size;
+        final String[] departmentNames;
+        final int[] departments;
+        final long[] managerIds;
+        final boolean[] hasReports;
+        final String[] names;
+        final String[] designations;
+        final LocalDate[] joinDates;
+
+        Organisation(int size, int departmentCount, Random random, LocalDate today) {
+            this.size = size;
+            departmentNames = new String[Math.max(1, departmentCount)];
+            for (int d = 0; d < departmentNames.length; d++) {
+                departmentNames[d] = d < DEPARTMENTS.length ? DEPARTMENTS[d] : "Department " + (d + 1);
+            }
+            departments = new int[size];
+            managerIds = new long[size];
+            hasReports = new boolean[size];
+            names = new String[size];
+            designations = new String[size];
+            joinDates = new LocalDate[size];
+
+            List<List<Integer>> members = new ArrayList<>();
+            for (int d = 0; d < departmentNames.length; d++) {
+                members.add(new ArrayList<>());
+            }
+            for (int i = 0; i < size; i++) {
+                names[i] = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                joinDates[i] = today.minusDays(random.nextInt(3_650));
+                if (i == 0) {
+                    designations[i] = "Chief Executive Officer";
+                    continue;
+                }
+                int d = random.nextInt(departmentNames.length);
+                List<Integer> team = members.get(d);
+                int managerIndex = team.isEmpty() ? 0 : team.get((team.size() - 1) / SPAN_OF_CONTROL);
+                departments[i] = d;
+                managerIds[i] = managerIndex + 1L;
+                hasReports[managerIndex] = true;
+                designations[i] = team.isEmpty()
+                        ? "Head of " + departmentNames[d]
+                        : DESIGNATIONS[random.nextInt(DESIGNATIONS.length)];
+                team.add(i);
+            }
+            for (int i = 1; i < size; i++) {
+                if (hasReports[i] && !designations[i].startsWith("Head of")) {
+                    designations[i] = "Manager";
+                }
+            }
+        }
+
+        String username(int i) {
+            String[] parts = names[i].toLowerCase().split(" ");
+            return parts[0] + "." + parts[1] + "." + (i + 1);
+        }
+    }
+
+    private final class BatchWriter {
+        private final String sql;
+        private final List<Object[]> rows;
+        private final ProgressReporter progress;
+
+        BatchWriter(String table, String sql, long expectedRows) {
+            this.sql = sql;
+            this.rows = new ArrayList<>(properties.getBatchSize());
+            this.progress = new ProgressReporter(log, table, expectedRows);
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        long finish() {
+            flush();
+            return progress.finish();
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                progress.advance(rows.size());
+                rows.clear();
+            }
+        }
+    }
+}
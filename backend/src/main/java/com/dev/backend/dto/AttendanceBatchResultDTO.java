@@ -0,0 +1,53 @@
+package com.dev.backend.dto;
+
+// Outcome of one row of a bulk attendance upload, reported at the row's position in the request
+public class AttendanceBatchResultDTO {
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String REJECTED = "REJECTED";
+
+    private final int index;
+    private final String status;
+    private final Long attendanceId;
+    private final String message;
+
+    public AttendanceBatchResultDTO(int index, String status, Long attendanceId, String message) {
+        this.index = index;
+        this.status = status;
+        this.attendanceId = attendanceId;
+        this.message = message;
+    }
+
+    public static AttendanceBatchResultDTO created(int index, Long attendanceId) {
+        return new AttendanceBatchResultDTO(index, CREATED, attendanceId, null);
+    }
+
+    public static AttendanceBatchResultDTO updated(int index, Long attendanceId) {
+        return new AttendanceBatchResultDTO(index, UPDATED, attendanceId, null);
+    }
+
+    public static AttendanceBatchResultDTO duplicate(int index) {
+        return new AttendanceBatchResultDTO(index, DUPLICATE, null, "Employee already has attendance record for this date");
+    }
+
+    public static AttendanceBatchResultDTO rejected(int index, String message) {
+        return new AttendanceBatchResultDTO(index, REJECTED, null, message);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Long getAttendanceId() {
+        return attendanceId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
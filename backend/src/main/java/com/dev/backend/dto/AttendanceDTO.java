@@ -1,5 +1,8 @@
 package com.dev.backend.dto;
 
+import com.dev.backend.config.JsonConfig;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -9,6 +12,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Duration;
 
+@JsonFilter(JsonConfig.FIELD_SELECTION_FILTER)
 public class AttendanceDTO {
     private Long id;
     private Long employeeId;
@@ -20,11 +24,13 @@ public class AttendanceDTO {
     private String status; // PRESENT, ABSENT, LATE, HALF_DAY
     private Boolean isLate;
     private Boolean isOvertime;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private String notes;
     private String location;
     private String workMode; // OFFICE, REMOTE, HYBRID
     private Double overtimeHours;
     private Boolean isHoliday;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private String holidayReason;
     
     // Constructors
@@ -58,6 +64,10 @@ public class AttendanceDTO {
         return clockOut;
     }
     
+    public Long getId() {
+        return id;
+    }
+    
     public Long getEmployeeId() {
         return employeeId;
     }
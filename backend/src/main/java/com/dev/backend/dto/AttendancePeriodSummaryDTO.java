@@ -0,0 +1,67 @@
+package com.dev.backend.dto;
+
+import java.time.LocalDate;
+
+// Attendance totals over a day, a month or any other date range, read from daily_attendance_summary
+public class AttendancePeriodSummaryDTO {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String department;
+    private final long present;
+    private final long late;
+    private final long halfDay;
+    private final long absent;
+    private final long overtimeMinutes;
+
+    public AttendancePeriodSummaryDTO(LocalDate startDate, LocalDate endDate, String department,
+                                      long present, long late, long halfDay, long absent, long overtimeMinutes) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.department = department;
+        this.present = present;
+        this.late = late;
+        this.halfDay = halfDay;
+        this.absent = absent;
+        this.overtimeMinutes = overtimeMinutes;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    // null for company-wide totals
+    public String getDepartment() {
+        return department;
+    }
+
+    // On time; late arrivals are counted separately
+    public long getPresent() {
+        return present;
+    }
+
+    public long getLate() {
+        return late;
+    }
+
+    public long getHalfDay() {
+        return halfDay;
+    }
+
+    public long getAbsent() {
+        return absent;
+    }
+
+    public long getOvertimeMinutes() {
+        return overtimeMinutes;
+    }
+
+    // Share of recorded days worked in full (present or late), as a percentage
+    public double getAttendanceRate() {
+        long recorded = present + late + halfDay;
+        return recorded > 0 ? Math.round((present + late) * 1000.0 / recorded) / 10.0 : 0.0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.dev.backend.dto;
+
+// Clock-in punctuality for one calendar year; rates are percentages and lateRateChange is in points
+// against the year before (null for the first year or when either year has no records)
+public class AttendancePunctualityDTO {
+    private final int year;
+    private final long records;
+    private final long onTime;
+    private final long late;
+    private final Double lateRate;
+    private final Double lateRateChange;
+    private final String averageClockIn;
+
+    public AttendancePunctualityDTO(int year, long records, long onTime, long late, Double lateRate,
+                                    Double lateRateChange, String averageClockIn) {
+        this.year = year;
+        this.records = records;
+        this.onTime = onTime;
+        this.late = late;
+        this.lateRate = lateRate;
+        this.lateRateChange = lateRateChange;
+        this.averageClockIn = averageClockIn;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getOnTime() {
+        return onTime;
+    }
+
+    public long getLate() {
+        return late;
+    }
+
+    public Double getLateRate() {
+        return lateRate;
+    }
+
+    public Double getLateRateChange() {
+        return lateRateChange;
+    }
+
+    public String getAverageClockIn() {
+        return averageClockIn;
+    }
+}
@@ -0,0 +1,38 @@
+package com.dev.backend.dto;
+
+// One employee's attendance for one month (yyyy-MM); averages are null when there is nothing to average
+public class AttendanceTrendDTO {
+    private final String month;
+    private final int daysPresent;
+    private final int lateDays;
+    private final String averageClockIn;
+    private final Double averageHoursWorked;
+
+    public AttendanceTrendDTO(String month, int daysPresent, int lateDays, String averageClockIn, Double averageHoursWorked) {
+        this.month = month;
+        this.daysPresent = daysPresent;
+        this.lateDays = lateDays;
+        this.averageClockIn = averageClockIn;
+        this.averageHoursWorked = averageHoursWorked;
+    }
+
+    public String getMonth() {
+        return month;
+    }
+
+    public int getDaysPresent() {
+        return daysPresent;
+    }
+
+    public int getLateDays() {
+        return lateDays;
+    }
+
+    public String getAverageClockIn() {
+        return averageClockIn;
+    }
+
+    public Double getAverageHoursWorked() {
+        return averageHoursWorked;
+    }
+}
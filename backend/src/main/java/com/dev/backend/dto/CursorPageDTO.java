@@ -0,0 +1,33 @@
+package com.dev.backend.dto;
+
+import java.util.List;
+
+// One page of a keyset-paginated listing; pass nextCursor back as "after" to get the following page
+public class CursorPageDTO<T> {
+    private final List<T> items;
+    private final Long nextCursor;
+    private final int limit;
+
+    public CursorPageDTO(List<T> items, Long nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    // A short page means the listing is exhausted, so no cursor is handed out
+    public static <T> CursorPageDTO<T> of(List<T> items, int limit, Long lastId) {
+        return new CursorPageDTO<>(items, items.size() == limit ? lastId : null, limit);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
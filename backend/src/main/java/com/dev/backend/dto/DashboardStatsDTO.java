@@ -23,11 +23,14 @@ public class DashboardStatsDTO {
     private List<TopPerformerDTO> topPerformers;
     private AttendanceSummaryDTO attendanceSummary;
     private PerformanceTrendDTO performanceTrend;
+    // Set when some sections could not be computed in time; their fields are left null
+    private boolean degraded;
+    private List<String> unavailableSections;
     
     // Constructors
     public DashboardStatsDTO() {}
     
-    public DashboardStatsDTO(Integer totalEmployees, Integer activeEmployees, Integer totalDepartments, Double averagePerformance, Double averageAttendance, Integer totalProjects, Integer completedProjects, Double projectCompletionRate, Map<String, Integer> departmentStats, Map<String, Integer> performanceDistribution, List<RecentActivityDTO> recentActivities, List<TopPerformerDTO> topPerformers, AttendanceSummaryDTO attendanceSummary, PerformanceTrendDTO performanceTrend) {
+    public DashboardStatsDTO(Integer totalEmployees, Integer activeEmployees, Integer totalDepartments, Double averagePerformance, Double averageAttendance, Integer totalProjects, Integer completedProjects, Double projectCompletionRate, Map<String, Integer> departmentStats, Map<String, Integer> performanceDistribution, List<RecentActivityDTO> recentActivities, List<TopPerformerDTO> topPerformers, AttendanceSummaryDTO attendanceSummary, PerformanceTrendDTO performanceTrend, boolean degraded, List<String> unavailableSections) {
         this.totalEmployees = totalEmployees;
         this.activeEmployees = activeEmployees;
         this.totalDepartments = totalDepartments;
@@ -42,6 +45,8 @@ public class DashboardStatsDTO {
         this.topPerformers = topPerformers;
         this.attendanceSummary = attendanceSummary;
         this.performanceTrend = performanceTrend;
+        this.degraded = degraded;
+        this.unavailableSections = unavailableSections;
     }
     
     public static DashboardStatsDTOBuilder builder() {
@@ -63,6 +68,8 @@ public class DashboardStatsDTO {
         private List<TopPerformerDTO> topPerformers;
         private AttendanceSummaryDTO attendanceSummary;
         private PerformanceTrendDTO performanceTrend;
+        private boolean degraded;
+        private List<String> unavailableSections = List.of();
         
         public DashboardStatsDTOBuilder totalEmployees(Integer totalEmployees) { this.totalEmployees = totalEmployees; return this; }
         public DashboardStatsDTOBuilder activeEmployees(Integer activeEmployees) { this.activeEmployees = activeEmployees; return this; }
@@ -78,11 +85,31 @@ public class DashboardStatsDTO {
         public DashboardStatsDTOBuilder topPerformers(List<TopPerformerDTO> topPerformers) { this.topPerformers = topPerformers; return this; }
         public DashboardStatsDTOBuilder attendanceSummary(AttendanceSummaryDTO attendanceSummary) { this.attendanceSummary = attendanceSummary; return this; }
         public DashboardStatsDTOBuilder performanceTrend(PerformanceTrendDTO performanceTrend) { this.performanceTrend = performanceTrend; return this; }
+        public DashboardStatsDTOBuilder degraded(boolean degraded) { this.degraded = degraded; return this; }
+        public DashboardStatsDTOBuilder unavailableSections(List<String> unavailableSections) { this.unavailableSections = unavailableSections; return this; }
         
         public DashboardStatsDTO build() {
-            return new DashboardStatsDTO(totalEmployees, activeEmployees, totalDepartments, averagePerformance, averageAttendance, totalProjects, completedProjects, projectCompletionRate, departmentStats, performanceDistribution, recentActivities, topPerformers, attendanceSummary, performanceTrend);
+            return new DashboardStatsDTO(totalEmployees, activeEmployees, totalDepartments, averagePerformance, averageAttendance, totalProjects, completedProjects, projectCompletionRate, departmentStats, performanceDistribution, recentActivities, topPerformers, attendanceSummary, performanceTrend, degraded, unavailableSections);
         }
     }
+
+    // Getters
+    public Integer getTotalEmployees() { return totalEmployees; }
+    public Integer getActiveEmployees() { return activeEmployees; }
+    public Integer getTotalDepartments() { return totalDepartments; }
+    public Double getAveragePerformance() { return averagePerformance; }
+    public Double getAverageAttendance() { return averageAttendance; }
+    public Integer getTotalProjects() { return totalProjects; }
+    public Integer getCompletedProjects() { return completedProjects; }
+    public Double getProjectCompletionRate() { return projectCompletionRate; }
+    public Map<String, Integer> getDepartmentStats() { return departmentStats; }
+    public Map<String, Integer> getPerformanceDistribution() { return performanceDistribution; }
+    public List<RecentActivityDTO> getRecentActivities() { return recentActivities; }
+    public List<TopPerformerDTO> getTopPerformers() { return topPerformers; }
+    public AttendanceSummaryDTO getAttendanceSummary() { return attendanceSummary; }
+    public PerformanceTrendDTO getPerformanceTrend() { return performanceTrend; }
+    public boolean isDegraded() { return degraded; }
+    public List<String> getUnavailableSections() { return unavailableSections; }
     
     public static class RecentActivityDTO {
         private String type;
@@ -1,5 +1,7 @@
 package com.dev.backend.dto;
 
+import com.dev.backend.config.JsonConfig;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -8,6 +10,7 @@ import lombok.Builder;
 import java.time.LocalDate;
 import java.util.List;
 
+@JsonFilter(JsonConfig.FIELD_SELECTION_FILTER)
 public class EmployeeDTO {
     private Long id;
     private String name;
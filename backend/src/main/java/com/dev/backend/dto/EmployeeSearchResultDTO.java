@@ -0,0 +1,82 @@
+package com.dev.backend.dto;
+
+import java.util.List;
+
+// One page of ranked search hits; total counts every employee that matched all query terms
+public class EmployeeSearchResultDTO {
+    private final String query;
+    private final int total;
+    private final int page;
+    private final int size;
+    private final List<Hit> results;
+
+    public EmployeeSearchResultDTO(String query, int total, int page, int size, List<Hit> results) {
+        this.query = query;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.results = results;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public List<Hit> getResults() {
+        return results;
+    }
+
+    public static class Hit {
+        private final Long id;
+        private final String name;
+        private final String designation;
+        private final String department;
+        private final String email;
+        private final double score;
+
+        public Hit(Long id, String name, String designation, String department, String email, double score) {
+            this.id = id;
+            this.name = name;
+            this.designation = designation;
+            this.department = department;
+            this.email = email;
+            this.score = score;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDesignation() {
+            return designation;
+        }
+
+        public String getDepartment() {
+            return department;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.dev.backend.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// One committed change as pushed over /api/live/events; the SSE event name repeats the type
+public class LiveEventDTO {
+    public static final String CLOCK_IN = "attendance.clock-in";
+    public static final String CLOCK_OUT = "attendance.clock-out";
+    public static final String ATTENDANCE_UPDATED = "attendance.updated";
+    public static final String ATTENDANCE_DELETED = "attendance.deleted";
+    public static final String REVIEW_ADDED = "performance.review-added";
+    public static final String REVIEW_UPDATED = "performance.review-updated";
+    public static final String REVIEW_DELETED = "performance.review-deleted";
+    public static final String EMPLOYEE_ADDED = "employee.added";
+    public static final String EMPLOYEE_UPDATED = "employee.updated";
+    public static final String EMPLOYEE_REMOVED = "employee.removed";
+
+    private final String type;
+    private final Long entityId;
+    private final Long employeeId;
+    private final LocalDate date;
+    private final Map<String, Object> data;
+
+    public LiveEventDTO(String type, Long entityId, Long employeeId, LocalDate date, Map<String, Object> data) {
+        this.type = type;
+        this.entityId = entityId;
+        this.employeeId = employeeId;
+        this.date = date;
+        this.data = data;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    // Id of the attendance record, review or employee that changed
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Map<String, Object> getData() {
+        return data;
+    }
+}
@@ -0,0 +1,57 @@
+package com.dev.backend.dto;
+
+// One employee in an org-chart listing; level is the distance below the employee the listing started from
+public class OrgChartNodeDTO {
+    private final Long id;
+    private final String name;
+    private final String designation;
+    private final String department;
+    private final Long managerId;
+    private final int level;
+    private final int directReports;
+    private final int totalReports;
+
+    public OrgChartNodeDTO(Long id, String name, String designation, String department, Long managerId,
+                           int level, int directReports, int totalReports) {
+        this.id = id;
+        this.name = name;
+        this.designation = designation;
+        this.department = department;
+        this.managerId = managerId;
+        this.level = level;
+        this.directReports = directReports;
+        this.totalReports = totalReports;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDesignation() {
+        return designation;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getDirectReports() {
+        return directReports;
+    }
+
+    public int getTotalReports() {
+        return totalReports;
+    }
+}
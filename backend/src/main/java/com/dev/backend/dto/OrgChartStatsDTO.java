@@ -0,0 +1,52 @@
+package com.dev.backend.dto;
+
+// Rollup over everyone below a manager; the averages use the same defaults as the employee listing
+// and are null when the manager has no reports
+public class OrgChartStatsDTO {
+    private final Long managerId;
+    private final int headcount;
+    private final int directReports;
+    private final int depth;
+    private final int reviewedCount;
+    private final Double averagePerformance;
+    private final Double averageAttendanceRate;
+
+    public OrgChartStatsDTO(Long managerId, int headcount, int directReports, int depth, int reviewedCount,
+                            Double averagePerformance, Double averageAttendanceRate) {
+        this.managerId = managerId;
+        this.headcount = headcount;
+        this.directReports = directReports;
+        this.depth = depth;
+        this.reviewedCount = reviewedCount;
+        this.averagePerformance = averagePerformance;
+        this.averageAttendanceRate = averageAttendanceRate;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public int getHeadcount() {
+        return headcount;
+    }
+
+    public int getDirectReports() {
+        return directReports;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getReviewedCount() {
+        return reviewedCount;
+    }
+
+    public Double getAveragePerformance() {
+        return averagePerformance;
+    }
+
+    public Double getAverageAttendanceRate() {
+        return averageAttendanceRate;
+    }
+}
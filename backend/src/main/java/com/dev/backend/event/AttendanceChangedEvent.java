@@ -0,0 +1,33 @@
+package com.dev.backend.event;
+
+public final class AttendanceChangedEvent {
+    private final ChangeType type;
+    private final AttendanceSnapshot previous; // null when CREATED
+    private final AttendanceSnapshot current;  // null when DELETED
+
+    public AttendanceChangedEvent(ChangeType type, AttendanceSnapshot previous, AttendanceSnapshot current) {
+        this.type = type;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static AttendanceChangedEvent created(AttendanceSnapshot current) {
+        return new AttendanceChangedEvent(ChangeType.CREATED, null, current);
+    }
+
+    public static AttendanceChangedEvent updated(AttendanceSnapshot previous, AttendanceSnapshot current) {
+        return new AttendanceChangedEvent(ChangeType.UPDATED, previous, current);
+    }
+
+    public static AttendanceChangedEvent deleted(AttendanceSnapshot previous) {
+        return new AttendanceChangedEvent(ChangeType.DELETED, previous, null);
+    }
+
+    public AttendanceSnapshot getLatest() {
+        return current != null ? current : previous;
+    }
+
+    public ChangeType getType() { return type; }
+    public AttendanceSnapshot getPrevious() { return previous; }
+    public AttendanceSnapshot getCurrent() { return current; }
+}
@@ -0,0 +1,42 @@
+package com.dev.backend.event;
+
+import com.dev.backend.model.Attendance;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public final class AttendanceSnapshot {
+    private final Long id;
+    private final Long employeeId;
+    private final LocalDate date;
+    private final LocalDateTime clockIn;
+    private final LocalDateTime clockOut;
+    private final String department;
+
+    public AttendanceSnapshot(Long id, Long employeeId, LocalDate date, LocalDateTime clockIn, LocalDateTime clockOut,
+                              String department) {
+        this.id = id;
+        this.employeeId = employeeId;
+        this.date = date;
+        this.clockIn = clockIn;
+        this.clockOut = clockOut;
+        this.department = department;
+    }
+
+    public static AttendanceSnapshot of(Attendance attendance) {
+        return new AttendanceSnapshot(
+                attendance.getId(),
+                attendance.getEmployee() != null ? attendance.getEmployee().getId() : null,
+                attendance.getDate(),
+                attendance.getClockIn(),
+                attendance.getClockOut(),
+                attendance.getDepartment());
+    }
+
+    public Long getId() { return id; }
+    public Long getEmployeeId() { return employeeId; }
+    public LocalDate getDate() { return date; }
+    public LocalDateTime getClockIn() { return clockIn; }
+    public LocalDateTime getClockOut() { return clockOut; }
+    public String getDepartment() { return department; }
+}
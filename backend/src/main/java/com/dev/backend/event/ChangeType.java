@@ -0,0 +1,7 @@
+package com.dev.backend.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
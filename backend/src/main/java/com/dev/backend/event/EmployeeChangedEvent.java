@@ -0,0 +1,37 @@
+package com.dev.backend.event;
+
+public final class EmployeeChangedEvent {
+    private final ChangeType type;
+    private final EmployeeSnapshot previous; // null when CREATED
+    private final EmployeeSnapshot current;  // null when DELETED
+
+    public EmployeeChangedEvent(ChangeType type, EmployeeSnapshot previous, EmployeeSnapshot current) {
+        this.type = type;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static EmployeeChangedEvent created(EmployeeSnapshot current) {
+        return new EmployeeChangedEvent(ChangeType.CREATED, null, current);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeSnapshot previous, EmployeeSnapshot current) {
+        return new EmployeeChangedEvent(ChangeType.UPDATED, previous, current);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeSnapshot previous) {
+        return new EmployeeChangedEvent(ChangeType.DELETED, previous, null);
+    }
+
+    public EmployeeSnapshot getLatest() {
+        return current != null ? current : previous;
+    }
+
+    public Long getEmployeeId() {
+        return getLatest().getId();
+    }
+
+    public ChangeType getType() { return type; }
+    public EmployeeSnapshot getPrevious() { return previous; }
+    public EmployeeSnapshot getCurrent() { return current; }
+}
@@ -0,0 +1,47 @@
+package com.dev.backend.event;
+
+import com.dev.backend.model.Employee;
+
+import java.time.LocalDate;
+
+// Immutable copy of the employee state at the time of a change, safe to hand to listeners
+// after the transaction has committed
+public final class EmployeeSnapshot {
+    private final Long id;
+    private final String name;
+    private final String designation;
+    private final String department;
+    private final LocalDate joinDate;
+    private final Long managerId;
+    private final String email;
+
+    public EmployeeSnapshot(Long id, String name, String designation, String department,
+                            LocalDate joinDate, Long managerId, String email) {
+        this.id = id;
+        this.name = name;
+        this.designation = designation;
+        this.department = department;
+        this.joinDate = joinDate;
+        this.managerId = managerId;
+        this.email = email;
+    }
+
+    public static EmployeeSnapshot of(Employee employee) {
+        return new EmployeeSnapshot(
+                employee.getId(),
+                employee.getName(),
+                employee.getDesignation(),
+                employee.getDepartment(),
+                employee.getJoinDate(),
+                employee.getManager() != null ? employee.getManager().getId() : null,
+                employee.getUser() != null ? employee.getUser().getEmail() : null);
+    }
+
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getDesignation() { return designation; }
+    public String getDepartment() { return department; }
+    public LocalDate getJoinDate() { return joinDate; }
+    public Long getManagerId() { return managerId; }
+    public String getEmail() { return email; }
+}
@@ -0,0 +1,33 @@
+package com.dev.backend.event;
+
+public final class PerformanceChangedEvent {
+    private final ChangeType type;
+    private final PerformanceSnapshot previous; // null when CREATED
+    private final PerformanceSnapshot current;  // null when DELETED
+
+    public PerformanceChangedEvent(ChangeType type, PerformanceSnapshot previous, PerformanceSnapshot current) {
+        this.type = type;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static PerformanceChangedEvent created(PerformanceSnapshot current) {
+        return new PerformanceChangedEvent(ChangeType.CREATED, null, current);
+    }
+
+    public static PerformanceChangedEvent updated(PerformanceSnapshot previous, PerformanceSnapshot current) {
+        return new PerformanceChangedEvent(ChangeType.UPDATED, previous, current);
+    }
+
+    public static PerformanceChangedEvent deleted(PerformanceSnapshot previous) {
+        return new PerformanceChangedEvent(ChangeType.DELETED, previous, null);
+    }
+
+    public PerformanceSnapshot getLatest() {
+        return current != null ? current : previous;
+    }
+
+    public ChangeType getType() { return type; }
+    public PerformanceSnapshot getPrevious() { return previous; }
+    public PerformanceSnapshot getCurrent() { return current; }
+}
@@ -0,0 +1,36 @@
+package com.dev.backend.event;
+
+import com.dev.backend.model.Performance;
+
+import java.time.LocalDate;
+
+public final class PerformanceSnapshot {
+    private final Long id;
+    private final Long employeeId;
+    private final int score;
+    private final LocalDate date;
+    private final String department;
+
+    public PerformanceSnapshot(Long id, Long employeeId, int score, LocalDate date, String department) {
+        this.id = id;
+        this.employeeId = employeeId;
+        this.score = score;
+        this.date = date;
+        this.department = department;
+    }
+
+    public static PerformanceSnapshot of(Performance performance) {
+        return new PerformanceSnapshot(
+                performance.getId(),
+                performance.getEmployee() != null ? performance.getEmployee().getId() : null,
+                performance.getScore(),
+                performance.getDate(),
+                performance.getDepartment());
+    }
+
+    public Long getId() { return id; }
+    public Long getEmployeeId() { return employeeId; }
+    public int getScore() { return score; }
+    public LocalDate getDate() { return date; }
+    public String getDepartment() { return department; }
+}
@@ -0,0 +1,51 @@
+package com.dev.backend.metrics;
+
+import com.dev.backend.cache.BoundedCache;
+import com.dev.backend.cache.BoundedCacheManager;
+import com.dev.backend.cache.CacheProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Exposes the bounded caches' statistics. Binds every configured cache up front, since meters are
+// registered once and the manager otherwise creates caches lazily on first use.
+public class CacheMetricsBinder implements MeterBinder {
+    private final BoundedCacheManager cacheManager;
+    private final CacheProperties properties;
+
+    public CacheMetricsBinder(BoundedCacheManager cacheManager, CacheProperties properties) {
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Set<String> names = new LinkedHashSet<>(properties.getSpecs().keySet());
+        names.addAll(cacheManager.getCacheNames());
+        for (String name : names) {
+            bind(registry, cacheManager.getBoundedCache(name));
+        }
+    }
+
+    private static void bind(MeterRegistry registry, BoundedCache<Object, Object> cache) {
+        String name = cache.getName();
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().getHits())
+                .tag("cache", name).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().getMisses())
+                .tag("cache", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> c.stats().getEvictions())
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("cache.expirations", cache, c -> c.stats().getExpirations())
+                .tag("cache", name).register(registry);
+        Gauge.builder("cache.size", cache, c -> c.stats().getSize())
+                .tag("cache", name).register(registry);
+        Gauge.builder("cache.weight", cache, c -> c.stats().getWeightBytes())
+                .tag("cache", name).baseUnit("bytes").register(registry);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().getHitRatio())
+                .tag("cache", name).register(registry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.dev.backend.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+    private boolean enabled = true;
+    // A request issuing more statements than this is logged
+    private int maxStatements = 50;
+    // ...as is one issuing the same statement shape more than this many times (the N+1 signature)
+    private int maxRepeats = 10;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMaxStatements() { return maxStatements; }
+    public void setMaxStatements(int maxStatements) { this.maxStatements = maxStatements; }
+
+    public int getMaxRepeats() { return maxRepeats; }
+    public void setMaxRepeats(int maxRepeats) { this.maxRepeats = maxRepeats; }
+}
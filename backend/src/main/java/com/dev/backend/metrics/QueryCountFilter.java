@@ -0,0 +1,63 @@
+package com.dev.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Records how many statements each request issued, tagged like http.server.requests so N+1
+// regressions show up per endpoint, and logs requests over the query budget.
+// Work handed off to async threads (NDJSON streams) is not counted.
+public class QueryCountFilter extends OncePerRequestFilter {
+    static final String METRIC = "http.server.requests.queries";
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final MeterRegistry registry;
+    private final QueryBudgetProperties budget;
+
+    public QueryCountFilter(MeterRegistry registry, QueryBudgetProperties budget) {
+        this.registry = registry;
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryScope scope = QueryCounter.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder(METRIC)
+                    .description("SQL statements issued while serving a request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .tag("status", String.valueOf(response.getStatus()))
+                    .register(registry)
+                    .record(scope.getStatementCount());
+            checkBudget(request.getMethod(), uri, scope);
+        }
+    }
+
+    private void checkBudget(String method, String uri, QueryScope scope) {
+        if (!budget.isEnabled()) {
+            return;
+        }
+        if (scope.getStatementCount() > budget.getMaxStatements() || scope.getMaxRepeats() > budget.getMaxRepeats()) {
+            log.warn("query_budget_exceeded method={} uri={} statements={} max_statements={} distinct_shapes={}"
+                            + " max_repeats={} repeat_budget={} most_repeated=\"{}\"",
+                    method, uri, scope.getStatementCount(), budget.getMaxStatements(), scope.getShapes().size(),
+                    scope.getMaxRepeats(), budget.getMaxRepeats(), scope.getMostRepeatedShape());
+        }
+    }
+}
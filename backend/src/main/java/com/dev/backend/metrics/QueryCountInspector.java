@@ -0,0 +1,49 @@
+package com.dev.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+// Sees every statement Hibernate prepares; counts it globally by type and against the current request
+public class QueryCountInspector implements StatementInspector {
+    private static final long serialVersionUID = 1L;
+
+    // StatementInspector is Serializable, but the inspector is a singleton bean that is never serialized
+    private final transient Counter selects;
+    private final transient Counter inserts;
+    private final transient Counter updates;
+    private final transient Counter deletes;
+    private final transient Counter other;
+
+    public QueryCountInspector(MeterRegistry registry) {
+        this.selects = counter(registry, "select");
+        this.inserts = counter(registry, "insert");
+        this.updates = counter(registry, "update");
+        this.deletes = counter(registry, "delete");
+        this.other = counter(registry, "other");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        String head = sql.stripLeading();
+        head = head.substring(0, Math.min(6, head.length())).toLowerCase(Locale.ROOT);
+        switch (head) {
+            case "select", "with r" -> selects.increment();
+            case "insert" -> inserts.increment();
+            case "update" -> updates.increment();
+            case "delete" -> deletes.increment();
+            default -> other.increment();
+        }
+        return sql;
+    }
+
+    private static Counter counter(MeterRegistry registry, String type) {
+        return Counter.builder("db.statements")
+                .description("SQL statements prepared by Hibernate")
+                .tag("type", type)
+                .register(registry);
+    }
+}
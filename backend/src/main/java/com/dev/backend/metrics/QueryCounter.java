@@ -0,0 +1,46 @@
+package com.dev.backend.metrics;
+
+import java.util.regex.Pattern;
+
+// Per-thread statement accounting. Scopes nest: closing one adds its statements to the enclosing
+// scope, so a test can count everything the requests it makes issued.
+public final class QueryCounter {
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private QueryCounter() {
+    }
+
+    public static QueryScope open() {
+        QueryScope scope = new QueryScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void record(String sql) {
+        QueryScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(shapeOf(sql));
+        }
+    }
+
+    static void close(QueryScope scope) {
+        if (scope.parent() != null) {
+            CURRENT.set(scope.parent());
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    // Statements that differ only in literal values or IN-list length share a shape
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
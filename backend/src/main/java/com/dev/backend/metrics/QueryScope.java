@@ -0,0 +1,58 @@
+package com.dev.backend.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class QueryScope implements AutoCloseable {
+    private final QueryScope parent;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private long statements;
+    private boolean closed;
+
+    QueryScope(QueryScope parent) {
+        this.parent = parent;
+    }
+
+    QueryScope parent() {
+        return parent;
+    }
+
+    void record(String shape) {
+        statements++;
+        shapes.merge(shape, 1, Integer::sum);
+    }
+
+    public long getStatementCount() {
+        return statements;
+    }
+
+    // Statement shape to the number of times it was issued
+    public Map<String, Integer> getShapes() {
+        return Collections.unmodifiableMap(shapes);
+    }
+
+    public int getMaxRepeats() {
+        return shapes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    public String getMostRepeatedShape() {
+        return shapes.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        QueryCounter.close(this);
+        if (parent != null) {
+            parent.statements += statements;
+            shapes.forEach((shape, count) -> parent.shapes.merge(shape, count, Integer::sum));
+        }
+    }
+}
@@ -6,22 +6,32 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_attendance_employee_date", columnNames = {"employee_id", "date"}),
+        indexes = {
+        @Index(name = "idx_attendance_date_clock_in", columnList = "date, clock_in"),
+        @Index(name = "idx_attendance_date_clock_out", columnList = "date, clock_out")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Attendance {
 
+    // Pooled sequence rather than IDENTITY so bulk inserts can be JDBC-batched (see V3 migration)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_seq")
+    @SequenceGenerator(name = "attendance_seq", sequenceName = "attendance_seq", allocationSize = 50)
     private Long id;
 
     private LocalDate date;
     private LocalDateTime clockIn;
     private LocalDateTime clockOut;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     private Employee employee;
+
+    // Department the record counts towards in the daily summary; set by AttendanceService
+    private String department;
     
     // Explicit getters and setters for CI compatibility
     public Long getId() { return id; }
@@ -38,4 +48,7 @@ public class Attendance {
     
     public Employee getEmployee() { return employee; }
     public void setEmployee(Employee employee) { this.employee = employee; }
+    
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
 }
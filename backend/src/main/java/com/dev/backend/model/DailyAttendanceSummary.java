@@ -0,0 +1,53 @@
+package com.dev.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Attendance of one day in one department. Counts are kept current by AttendanceSummaryService on
+// every attendance write; absences are only known once the nightly compaction has closed the day,
+// after which later writes to that day move people in and out of them.
+@Entity
+@Table(name = "daily_attendance_summary")
+@IdClass(DailyAttendanceSummary.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyAttendanceSummary {
+    // Bucket for employees without a department
+    public static final String UNASSIGNED = "Unassigned";
+
+    @Id
+    private LocalDate summaryDate;
+
+    @Id
+    private String department;
+
+    private int presentCount;
+    private int lateCount;
+    private int halfDayCount;
+    private int absentCount;
+    private long overtimeMinutes;
+    private boolean compacted;
+
+    public LocalDate getSummaryDate() { return summaryDate; }
+    public String getDepartment() { return department; }
+    public int getPresentCount() { return presentCount; }
+    public int getLateCount() { return lateCount; }
+    public int getHalfDayCount() { return halfDayCount; }
+    public int getAbsentCount() { return absentCount; }
+    public long getOvertimeMinutes() { return overtimeMinutes; }
+    public boolean isCompacted() { return compacted; }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private LocalDate summaryDate;
+        private String department;
+    }
+}
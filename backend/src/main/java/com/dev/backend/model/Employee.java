@@ -1,14 +1,27 @@
 package com.dev.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDate;
 
 @Entity
+@NamedEntityGraph(name = Employee.WITH_MANAGER_AND_USER, attributeNodes = {
+        @NamedAttributeNode("manager"),
+        @NamedAttributeNode("user")
+})
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(indexes = {
+        @Index(name = "idx_employee_join_date", columnList = "join_date"),
+        @Index(name = "idx_employee_department", columnList = "department"),
+        @Index(name = "idx_employee_manager", columnList = "manager_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Employee {
+    // What EmployeeDTO reads: the manager's name and the user's email
+    public static final String WITH_MANAGER_AND_USER = "Employee.withManagerAndUser";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,11 +32,11 @@ public class Employee {
     private String department;
     private LocalDate joinDate;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manager_id")
     private Employee manager;
     
@@ -5,6 +5,7 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
+@Table(indexes = @Index(name = "idx_performance_employee_date", columnList = "employee_id, date desc"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,9 +20,16 @@ public class Performance {
     private String feedback;
     private LocalDate date;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     private Employee employee;
+
+    // Department the review counts towards in the monthly rollup; set by PerformanceService
+    private String department;
+
+    public Performance(Long id, String reviewer, int score, String feedback, LocalDate date, Employee employee) {
+        this(id, reviewer, score, feedback, date, employee, null);
+    }
     
     // Explicit getters and setters for CI compatibility
     public Long getId() { return id; }
@@ -41,4 +49,7 @@ public class Performance {
     
     public Employee getEmployee() { return employee; }
     public void setEmployee(Employee employee) { this.employee = employee; }
+
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
 }
@@ -0,0 +1,52 @@
+package com.dev.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Review scores of one calendar month, for one department or company-wide (COMPANY_WIDE).
+// Maintained by PerformanceRollupService; departments are attributed as of when the review was written
+// (Performance.department).
+@Entity
+@Table(name = "performance_monthly_rollup")
+@IdClass(PerformanceMonthlyRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PerformanceMonthlyRollup {
+    public static final String COMPANY_WIDE = "*";
+
+    @Id
+    private String department;
+
+    @Id
+    private LocalDate periodStart;
+
+    private long reviewCount;
+    private long scoreSum;
+    private int minScore;
+    private int maxScore;
+
+    public String getDepartment() { return department; }
+    public LocalDate getPeriodStart() { return periodStart; }
+    public long getReviewCount() { return reviewCount; }
+    public long getScoreSum() { return scoreSum; }
+    public int getMinScore() { return minScore; }
+    public int getMaxScore() { return maxScore; }
+
+    public double getAverageScore() {
+        return reviewCount > 0 ? (double) scoreSum / reviewCount : 0.0;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private String department;
+        private LocalDate periodStart;
+    }
+}
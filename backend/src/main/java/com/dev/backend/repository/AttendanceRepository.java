@@ -1,18 +1,114 @@
 package com.dev.backend.repository;
 
 import com.dev.backend.model.Attendance;
+import com.dev.backend.repository.projection.AttendanceArchiveRowView;
+import com.dev.backend.repository.projection.AttendanceDepartmentTimesView;
+import com.dev.backend.repository.projection.AttendanceTimesView;
+import com.dev.backend.repository.projection.AttendanceView;
+import com.dev.backend.repository.projection.EmployeeCountView;
+import com.dev.backend.repository.projection.EmployeeDateView;
+import com.dev.backend.repository.projection.MonthCountView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
-    List<Attendance> findByEmployeeId(Long employeeId);
-    List<Attendance> findByDate(LocalDate date);
-    List<Attendance> findByDateBetween(LocalDate startDate, LocalDate endDate);
-    Optional<Attendance> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
-    boolean existsByEmployeeIdAndDate(Long employeeId, LocalDate date);
+    String VIEW_SELECT = "select a.id as id, e.id as employeeId, e.name as employeeName,"
+            + " a.date as date, a.clockIn as clockIn, a.clockOut as clockOut"
+            + " from Attendance a join a.employee e";
+
+    @Query(VIEW_SELECT)
+    List<AttendanceView> findAllViews();
+
+    @Query(VIEW_SELECT + " where e.id = :employeeId")
+    List<AttendanceView> findViewsByEmployeeId(@Param("employeeId") Long employeeId);
+
+    @Query(VIEW_SELECT + " where a.date = :date")
+    List<AttendanceView> findViewsByDate(@Param("date") LocalDate date);
+
+    @Query(VIEW_SELECT + " where a.date between :startDate and :endDate")
+    List<AttendanceView> findViewsByDateBetween(@Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+
+    @Query(VIEW_SELECT + " where e.id = :employeeId and a.date = :date")
+    Optional<AttendanceView> findViewByEmployeeIdAndDate(@Param("employeeId") Long employeeId,
+                                                         @Param("date") LocalDate date);
+
+    @Query(VIEW_SELECT + " where a.date = :date and a.clockIn > :threshold")
+    List<AttendanceView> findViewsByDateAndClockInAfter(@Param("date") LocalDate date,
+                                                        @Param("threshold") LocalDateTime threshold);
+
+    @Query(VIEW_SELECT + " where a.date = :date and a.clockOut > :threshold")
+    List<AttendanceView> findViewsByDateAndClockOutAfter(@Param("date") LocalDate date,
+                                                         @Param("threshold") LocalDateTime threshold);
+
+    @Query(VIEW_SELECT + " where a.id > :after order by a.id")
+    List<AttendanceView> findViewPageAfter(@Param("after") Long after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW_SELECT + " order by a.id")
+    Stream<AttendanceView> streamAllViews();
+
+    @Query(VIEW_SELECT + " where a.id = :id")
+    Optional<AttendanceView> findViewById(@Param("id") Long id);
+
     long countByEmployeeId(Long employeeId);
     long countByEmployeeIdAndDateBetween(Long employeeId, LocalDate startDate, LocalDate endDate);
+
+    @Query("select a.employee.id as employeeId, count(a) as total from Attendance a"
+            + " where a.employee.id in :employeeIds and a.date between :startDate and :endDate"
+            + " group by a.employee.id")
+    List<EmployeeCountView> countByEmployeeIdsAndDateBetween(@Param("employeeIds") Collection<Long> employeeIds,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate);
+
+    @Query("select a.employee.id as employeeId, count(a) as total from Attendance a"
+            + " where a.date between :startDate and :endDate"
+            + " group by a.employee.id")
+    List<EmployeeCountView> countByDateBetweenGroupedByEmployee(@Param("startDate") LocalDate startDate,
+                                                                @Param("endDate") LocalDate endDate);
+
+    @Query("select a.employee.id as employeeId, a.date as date from Attendance a"
+            + " where a.employee.id in :employeeIds and a.date in :dates")
+    List<EmployeeDateView> findEmployeeDates(@Param("employeeIds") Collection<Long> employeeIds,
+                                             @Param("dates") Collection<LocalDate> dates);
+
+    @Query("select a from Attendance a where a.employee.id in :employeeIds and a.date in :dates")
+    List<Attendance> findByEmployeeIdsAndDates(@Param("employeeIds") Collection<Long> employeeIds,
+                                               @Param("dates") Collection<LocalDate> dates);
+
+    @Query("select a.date as date, a.clockIn as clockIn, a.clockOut as clockOut from Attendance a"
+            + " where a.date between :startDate and :endDate")
+    List<AttendanceTimesView> findTimesByDateBetween(@Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select a.date as date, a.clockIn as clockIn, a.clockOut as clockOut, a.department as department"
+            + " from Attendance a where a.date between :startDate and :endDate")
+    Stream<AttendanceDepartmentTimesView> streamDepartmentTimesByDateBetween(@Param("startDate") LocalDate startDate,
+                                                                             @Param("endDate") LocalDate endDate);
+
+    @Query("select min(a.date) from Attendance a")
+    LocalDate findEarliestDate();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select a.id as id, a.employee.id as employeeId, a.date as date, a.clockIn as clockIn, a.clockOut as clockOut"
+            + " from Attendance a where a.date between :startDate and :endDate order by a.id")
+    Stream<AttendanceArchiveRowView> streamArchiveRowsByDateBetween(@Param("startDate") LocalDate startDate,
+                                                                   @Param("endDate") LocalDate endDate);
+
+    @Query("select year(a.date) as periodYear, month(a.date) as periodMonth, count(a) as total from Attendance a"
+            + " group by year(a.date), month(a.date)")
+    List<MonthCountView> countByMonth();
 }
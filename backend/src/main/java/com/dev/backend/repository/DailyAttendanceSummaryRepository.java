@@ -0,0 +1,35 @@
+package com.dev.backend.repository;
+
+import com.dev.backend.model.DailyAttendanceSummary;
+import com.dev.backend.repository.projection.AttendanceTotalsView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Counters are changed with single upsert statements (see DailyAttendanceSummaryRepositoryImpl) so
+// concurrent clock-ins on the same day never lose an increment
+public interface DailyAttendanceSummaryRepository
+        extends JpaRepository<DailyAttendanceSummary, DailyAttendanceSummary.Key>, DailyAttendanceSummaryRepositoryCustom {
+    String TOTALS_SELECT = "select s.summaryDate as summaryDate, sum(s.presentCount) as present,"
+            + " sum(s.lateCount) as late, sum(s.halfDayCount) as halfDay, sum(s.absentCount) as absent,"
+            + " sum(s.overtimeMinutes) as overtimeMinutes from DailyAttendanceSummary s";
+
+    @Query(TOTALS_SELECT + " where s.summaryDate between :startDate and :endDate"
+            + " group by s.summaryDate order by s.summaryDate")
+    List<AttendanceTotalsView> sumByDate(@Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
+    @Query(TOTALS_SELECT + " where s.summaryDate between :startDate and :endDate and s.department = :department"
+            + " group by s.summaryDate order by s.summaryDate")
+    List<AttendanceTotalsView> sumByDateForDepartment(@Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate,
+                                                      @Param("department") String department);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from DailyAttendanceSummary s where s.summaryDate between :startDate and :endDate")
+    int deleteByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
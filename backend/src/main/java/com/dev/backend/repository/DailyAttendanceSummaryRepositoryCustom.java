@@ -0,0 +1,8 @@
+package com.dev.backend.repository;
+
+import java.time.LocalDate;
+
+public interface DailyAttendanceSummaryRepositoryCustom {
+    // Adds the counts to the day's row, creating it if this is the first write for the day and department
+    void upsertDelta(LocalDate date, String department, int present, int late, int halfDay, long overtimeMinutes);
+}
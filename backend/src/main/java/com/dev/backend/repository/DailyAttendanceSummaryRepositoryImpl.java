@@ -0,0 +1,66 @@
+package com.dev.backend.repository;
+
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+
+// A single statement, so two transactions writing the first attendance of a day never both insert.
+// On a compacted day the absences are known, and each attendance added or removed moves one person
+// out of or back into them. A removal from a day that was never summarised creates the row with zeros.
+class DailyAttendanceSummaryRepositoryImpl implements DailyAttendanceSummaryRepositoryCustom {
+    private static final String POSTGRES_UPSERT = "INSERT INTO daily_attendance_summary AS s"
+            + " (summary_date, department, present_count, late_count, half_day_count, absent_count, overtime_minutes, compacted)"
+            + " VALUES (:date, :department, GREATEST(:present, 0), GREATEST(:late, 0), GREATEST(:halfDay, 0), 0,"
+            + " GREATEST(:overtimeMinutes, 0), FALSE)"
+            + " ON CONFLICT (summary_date, department) DO UPDATE SET"
+            + " present_count = s.present_count + :present, late_count = s.late_count + :late,"
+            + " half_day_count = s.half_day_count + :halfDay, overtime_minutes = s.overtime_minutes + :overtimeMinutes,"
+            + " absent_count = CASE WHEN s.compacted"
+            + " THEN GREATEST(s.absent_count - (:present + :late + :halfDay), 0) ELSE s.absent_count END";
+
+    // H2 has no ON CONFLICT outside its PostgreSQL mode, and types untyped parameters in VALUES as text
+    private static final String MERGE = "MERGE INTO daily_attendance_summary s"
+            + " USING (VALUES (CAST(:date AS DATE), CAST(:department AS VARCHAR(255)), CAST(:present AS INTEGER),"
+            + " CAST(:late AS INTEGER), CAST(:halfDay AS INTEGER), CAST(:overtimeMinutes AS BIGINT)))"
+            + " AS d (summary_date, department, present_count, late_count, half_day_count, overtime_minutes)"
+            + " ON s.summary_date = d.summary_date AND s.department = d.department"
+            + " WHEN MATCHED THEN UPDATE SET"
+            + " present_count = s.present_count + d.present_count, late_count = s.late_count + d.late_count,"
+            + " half_day_count = s.half_day_count + d.half_day_count,"
+            + " overtime_minutes = s.overtime_minutes + d.overtime_minutes,"
+            + " absent_count = CASE WHEN s.compacted"
+            + " THEN GREATEST(s.absent_count - (d.present_count + d.late_count + d.half_day_count), 0) ELSE s.absent_count END"
+            + " WHEN NOT MATCHED THEN INSERT"
+            + " (summary_date, department, present_count, late_count, half_day_count, absent_count, overtime_minutes, compacted)"
+            + " VALUES (d.summary_date, d.department, GREATEST(d.present_count, 0), GREATEST(d.late_count, 0),"
+            + " GREATEST(d.half_day_count, 0), 0, GREATEST(d.overtime_minutes, 0), FALSE)";
+
+    private final EntityManager entityManager;
+    private volatile Boolean postgres;
+
+    DailyAttendanceSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void upsertDelta(LocalDate date, String department, int present, int late, int halfDay, long overtimeMinutes) {
+        entityManager.flush();
+        entityManager.createNativeQuery(onPostgres() ? POSTGRES_UPSERT : MERGE)
+                .setParameter("date", date)
+                .setParameter("department", department)
+                .setParameter("present", present)
+                .setParameter("late", late)
+                .setParameter("halfDay", halfDay)
+                .setParameter("overtimeMinutes", overtimeMinutes)
+                .executeUpdate();
+    }
+
+    private boolean onPostgres() {
+        Boolean onPostgres = postgres;
+        if (onPostgres == null) {
+            onPostgres = DatabaseProduct.isPostgres(entityManager);
+            postgres = onPostgres;
+        }
+        return onPostgres;
+    }
+}
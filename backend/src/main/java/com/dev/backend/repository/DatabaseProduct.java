@@ -0,0 +1,17 @@
+package com.dev.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+// Which database the connections actually go to. The configured Hibernate dialect is no guide: the h2
+// profile inherits the PostgreSQL dialect from application.properties.
+final class DatabaseProduct {
+    private DatabaseProduct() {
+    }
+
+    static boolean isPostgres(EntityManager entityManager) {
+        String product = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
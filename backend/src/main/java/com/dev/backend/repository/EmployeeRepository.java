@@ -1,11 +1,84 @@
 package com.dev.backend.repository;
 
 import com.dev.backend.model.Employee;
+import com.dev.backend.repository.projection.EmployeeDepartmentView;
+import com.dev.backend.repository.projection.EmployeeSummaryView;
+import com.dev.backend.repository.projection.EmployeeView;
+import com.dev.backend.repository.projection.ReportingLineView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+// List reads go through EmployeeView projections so nothing lands in the persistence context;
+// findById keeps the WITH_MANAGER_AND_USER graph for the write paths that convert the saved entity
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-    List<Employee> findByManagerId(Long managerId);
-    List<Employee> findByDepartment(String department);
+    String VIEW_SELECT = "select e.id as id, e.name as name, e.designation as designation,"
+            + " e.department as department, e.joinDate as joinDate,"
+            + " m.id as managerId, m.name as managerName, u.email as email, u.role as role"
+            + " from Employee e left join e.manager m left join e.user u";
+
+    @Override
+    @EntityGraph(Employee.WITH_MANAGER_AND_USER)
+    Optional<Employee> findById(Long id);
+
+    @Query(VIEW_SELECT)
+    List<EmployeeView> findAllViews();
+
+    @Query(VIEW_SELECT + " where e.id = :id")
+    Optional<EmployeeView> findViewById(@Param("id") Long id);
+
+    @Query(VIEW_SELECT + " where e.id in :ids")
+    List<EmployeeView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(VIEW_SELECT + " where m.id = :managerId")
+    List<EmployeeView> findViewsByManagerId(@Param("managerId") Long managerId);
+
+    @Query(VIEW_SELECT + " where e.department = :department")
+    List<EmployeeView> findViewsByDepartment(@Param("department") String department);
+
+    @Query(VIEW_SELECT + " where u.role is not null")
+    List<EmployeeView> findViewsWithRole();
+
+    @Query(VIEW_SELECT + " where e.joinDate < :cutoffDate")
+    List<EmployeeView> findViewsByJoinDateBefore(@Param("cutoffDate") LocalDate cutoffDate);
+
+    // Employees whose latest review (newest date, then newest id) scored below the threshold
+    @Query(VIEW_SELECT + " where exists (select p.id from Performance p"
+            + " where p.employee = e and p.score < :threshold"
+            + " and p.id = (select max(p2.id) from Performance p2 where p2.employee = e"
+            + " and p2.date = (select max(p3.date) from Performance p3 where p3.employee = e)))")
+    List<EmployeeView> findViewsWithLatestScoreBelow(@Param("threshold") int threshold);
+
+    @Query("select e.id as id, e.name as name, e.designation as designation, e.department as department, e.joinDate as joinDate from Employee e")
+    List<EmployeeSummaryView> findAllSummaries();
+
+    @Query("select e.id as id, e.name as name, e.designation as designation, e.department as department, e.joinDate as joinDate from Employee e where e.id in :ids")
+    List<EmployeeSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select e.id as id, e.manager.id as managerId from Employee e order by e.id")
+    List<ReportingLineView> findAllReportingLines();
+
+    @Query("select e.department from Employee e where e.id = :id")
+    Optional<String> findDepartmentById(@Param("id") Long id);
+
+    @Query("select e.id as id, e.department as department, e.joinDate as joinDate from Employee e")
+    List<EmployeeDepartmentView> findAllDepartmentViews();
+
+    @Query(VIEW_SELECT + " where e.id > :after order by e.id")
+    List<EmployeeView> findViewPageAfter(@Param("after") Long after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW_SELECT + " order by e.id")
+    Stream<EmployeeView> streamAllViews();
 }
@@ -1,12 +1,56 @@
 package com.dev.backend.repository;
 
 import com.dev.backend.model.Performance;
+import com.dev.backend.repository.projection.LatestReviewView;
+import com.dev.backend.repository.projection.LatestScoreView;
+import com.dev.backend.repository.projection.PerformanceView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PerformanceRepository extends JpaRepository<Performance, Long> {
-    List<Performance> findByEmployeeId(Long employeeId);
+    String VIEW_SELECT = "select p.id as id, e.id as employeeId, e.name as employeeName,"
+            + " p.reviewer as reviewer, p.score as score, p.feedback as feedback, p.date as date"
+            + " from Performance p left join p.employee e";
+
+    @Query(VIEW_SELECT)
+    List<PerformanceView> findAllViews();
+
+    @Query(VIEW_SELECT + " where p.id = :id")
+    Optional<PerformanceView> findViewById(@Param("id") Long id);
+
+    @Query(VIEW_SELECT + " where e.id = :employeeId")
+    List<PerformanceView> findViewsByEmployeeId(@Param("employeeId") Long employeeId);
+
     Optional<Performance> findTopByEmployeeIdOrderByDateDesc(Long employeeId);
+
+    // One row per employee: the most recent review, ties broken by the newest id
+    @Query(value = "SELECT ranked.employee_id AS \"employeeId\", ranked.score AS \"score\" FROM ("
+            + " SELECT p.employee_id, p.score,"
+            + " ROW_NUMBER() OVER (PARTITION BY p.employee_id ORDER BY p.date DESC, p.id DESC) AS rn"
+            + " FROM performance p WHERE p.employee_id IN (:employeeIds)"
+            + ") ranked WHERE ranked.rn = 1", nativeQuery = true)
+    List<LatestScoreView> findLatestScoresByEmployeeIds(@Param("employeeIds") Collection<Long> employeeIds);
+
+    // Latest review of every employee; employees with two reviews on the same day return both rows
+    @Query("select p.employee.id as employeeId, p.id as reviewId, p.score as score, p.date as reviewDate"
+            + " from Performance p"
+            + " where p.date = (select max(p2.date) from Performance p2 where p2.employee = p.employee)")
+    List<LatestReviewView> findLatestReviews();
+
+    @Query(VIEW_SELECT + " where p.id > :after order by p.id")
+    List<PerformanceView> findViewPageAfter(@Param("after") Long after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW_SELECT + " order by p.id")
+    Stream<PerformanceView> streamAllViews();
 }
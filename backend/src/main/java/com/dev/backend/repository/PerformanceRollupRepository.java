@@ -0,0 +1,50 @@
+package com.dev.backend.repository;
+
+import com.dev.backend.model.PerformanceMonthlyRollup;
+import com.dev.backend.repository.projection.ScoreRangeView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Counters are changed with single UPDATE or upsert (see PerformanceRollupRepositoryImpl) statements so
+// concurrent reviews in the same month never lose an increment
+public interface PerformanceRollupRepository extends JpaRepository<PerformanceMonthlyRollup, PerformanceMonthlyRollup.Key>,
+        PerformanceRollupRepositoryCustom {
+    // One primary-key range scan
+    List<PerformanceMonthlyRollup> findByDepartmentAndPeriodStartGreaterThanEqualOrderByPeriodStart(
+            String department, LocalDate from);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update PerformanceMonthlyRollup r set r.reviewCount = r.reviewCount - 1, r.scoreSum = r.scoreSum - :score"
+            + " where r.department = :department and r.periodStart = :periodStart")
+    int removeScore(@Param("department") String department, @Param("periodStart") LocalDate periodStart,
+                    @Param("score") int score);
+
+    @Modifying
+    @Query("delete from PerformanceMonthlyRollup r"
+            + " where r.department = :department and r.periodStart = :periodStart and r.reviewCount <= 0")
+    int deleteIfEmpty(@Param("department") String department, @Param("periodStart") LocalDate periodStart);
+
+    @Query("select r.minScore as minScore, r.maxScore as maxScore from PerformanceMonthlyRollup r"
+            + " where r.department = :department and r.periodStart = :periodStart")
+    ScoreRangeView findRange(@Param("department") String department, @Param("periodStart") LocalDate periodStart);
+
+    @Modifying
+    @Query("update PerformanceMonthlyRollup r set r.minScore = :minScore, r.maxScore = :maxScore"
+            + " where r.department = :department and r.periodStart = :periodStart")
+    int updateRange(@Param("department") String department, @Param("periodStart") LocalDate periodStart,
+                    @Param("minScore") int minScore, @Param("maxScore") int maxScore);
+
+    @Query("select min(p.score) as minScore, max(p.score) as maxScore from Performance p"
+            + " where p.date >= :from and p.date < :to")
+    ScoreRangeView computeCompanyRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select min(p.score) as minScore, max(p.score) as maxScore from Performance p"
+            + " where p.department = :department and p.date >= :from and p.date < :to")
+    ScoreRangeView computeDepartmentRange(@Param("department") String department,
+                                          @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
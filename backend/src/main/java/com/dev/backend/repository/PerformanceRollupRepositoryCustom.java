@@ -0,0 +1,8 @@
+package com.dev.backend.repository;
+
+import java.time.LocalDate;
+
+public interface PerformanceRollupRepositoryCustom {
+    // Counts the score into the month's row, creating it for the first review of the month
+    void addScore(String department, LocalDate periodStart, int score);
+}
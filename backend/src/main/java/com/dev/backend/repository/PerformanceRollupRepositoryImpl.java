@@ -0,0 +1,52 @@
+package com.dev.backend.repository;
+
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+
+// A single statement, so two transactions writing the first review of a month never both insert
+class PerformanceRollupRepositoryImpl implements PerformanceRollupRepositoryCustom {
+    private static final String POSTGRES_UPSERT = "INSERT INTO performance_monthly_rollup AS r"
+            + " (department, period_start, review_count, score_sum, min_score, max_score)"
+            + " VALUES (:department, :periodStart, 1, :score, :score, :score)"
+            + " ON CONFLICT (department, period_start) DO UPDATE SET"
+            + " review_count = r.review_count + 1, score_sum = r.score_sum + EXCLUDED.score_sum,"
+            + " min_score = LEAST(r.min_score, EXCLUDED.min_score), max_score = GREATEST(r.max_score, EXCLUDED.max_score)";
+
+    // H2 has no ON CONFLICT outside its PostgreSQL mode, and types untyped parameters in VALUES as text
+    private static final String MERGE = "MERGE INTO performance_monthly_rollup r"
+            + " USING (VALUES (CAST(:department AS VARCHAR(255)), CAST(:periodStart AS DATE), CAST(:score AS INTEGER)))"
+            + " AS d (department, period_start, score)"
+            + " ON r.department = d.department AND r.period_start = d.period_start"
+            + " WHEN MATCHED THEN UPDATE SET"
+            + " review_count = r.review_count + 1, score_sum = r.score_sum + d.score,"
+            + " min_score = LEAST(r.min_score, d.score), max_score = GREATEST(r.max_score, d.score)"
+            + " WHEN NOT MATCHED THEN INSERT (department, period_start, review_count, score_sum, min_score, max_score)"
+            + " VALUES (d.department, d.period_start, 1, d.score, d.score, d.score)";
+
+    private final EntityManager entityManager;
+    private volatile Boolean postgres;
+
+    PerformanceRollupRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void addScore(String department, LocalDate periodStart, int score) {
+        entityManager.flush();
+        entityManager.createNativeQuery(onPostgres() ? POSTGRES_UPSERT : MERGE)
+                .setParameter("department", department)
+                .setParameter("periodStart", periodStart)
+                .setParameter("score", score)
+                .executeUpdate();
+    }
+
+    private boolean onPostgres() {
+        Boolean onPostgres = postgres;
+        if (onPostgres == null) {
+            onPostgres = DatabaseProduct.isPostgres(entityManager);
+            postgres = onPostgres;
+        }
+        return onPostgres;
+    }
+}
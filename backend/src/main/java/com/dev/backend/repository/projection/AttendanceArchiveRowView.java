@@ -0,0 +1,12 @@
+package com.dev.backend.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface AttendanceArchiveRowView {
+    Long getId();
+    Long getEmployeeId();
+    LocalDate getDate();
+    LocalDateTime getClockIn();
+    LocalDateTime getClockOut();
+}
@@ -0,0 +1,5 @@
+package com.dev.backend.repository.projection;
+
+public interface AttendanceDepartmentTimesView extends AttendanceTimesView {
+    String getDepartment();
+}
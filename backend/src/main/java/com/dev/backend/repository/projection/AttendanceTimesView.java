@@ -0,0 +1,10 @@
+package com.dev.backend.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface AttendanceTimesView {
+    LocalDate getDate();
+    LocalDateTime getClockIn();
+    LocalDateTime getClockOut();
+}
@@ -0,0 +1,12 @@
+package com.dev.backend.repository.projection;
+
+import java.time.LocalDate;
+
+public interface AttendanceTotalsView {
+    LocalDate getSummaryDate();
+    Long getPresent();
+    Long getLate();
+    Long getHalfDay();
+    Long getAbsent();
+    Long getOvertimeMinutes();
+}
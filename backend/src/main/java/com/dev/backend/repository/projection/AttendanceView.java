@@ -0,0 +1,14 @@
+package com.dev.backend.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Everything AttendanceDTO needs, read straight from the columns without hydrating Attendance/Employee
+public interface AttendanceView {
+    Long getId();
+    Long getEmployeeId();
+    String getEmployeeName();
+    LocalDate getDate();
+    LocalDateTime getClockIn();
+    LocalDateTime getClockOut();
+}
@@ -0,0 +1,6 @@
+package com.dev.backend.repository.projection;
+
+public interface EmployeeCountView {
+    Long getEmployeeId();
+    Long getTotal();
+}
@@ -0,0 +1,8 @@
+package com.dev.backend.repository.projection;
+
+import java.time.LocalDate;
+
+public interface EmployeeDateView {
+    Long getEmployeeId();
+    LocalDate getDate();
+}
@@ -0,0 +1,9 @@
+package com.dev.backend.repository.projection;
+
+import java.time.LocalDate;
+
+public interface EmployeeDepartmentView {
+    Long getId();
+    String getDepartment();
+    LocalDate getJoinDate();
+}
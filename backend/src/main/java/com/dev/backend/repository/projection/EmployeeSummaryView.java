@@ -0,0 +1,11 @@
+package com.dev.backend.repository.projection;
+
+import java.time.LocalDate;
+
+public interface EmployeeSummaryView {
+    Long getId();
+    String getName();
+    String getDesignation();
+    String getDepartment();
+    LocalDate getJoinDate();
+}
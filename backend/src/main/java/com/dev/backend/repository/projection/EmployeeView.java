@@ -0,0 +1,18 @@
+package com.dev.backend.repository.projection;
+
+import com.dev.backend.model.Role;
+
+import java.time.LocalDate;
+
+// Everything EmployeeDTO needs; manager and user columns come from left joins instead of loaded associations
+public interface EmployeeView {
+    Long getId();
+    String getName();
+    String getDesignation();
+    String getDepartment();
+    LocalDate getJoinDate();
+    Long getManagerId();
+    String getManagerName();
+    String getEmail();
+    Role getRole();
+}
@@ -0,0 +1,10 @@
+package com.dev.backend.repository.projection;
+
+import java.time.LocalDate;
+
+public interface LatestReviewView {
+    Long getEmployeeId();
+    Long getReviewId();
+    Integer getScore();
+    LocalDate getReviewDate();
+}
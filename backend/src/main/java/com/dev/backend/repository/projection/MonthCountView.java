@@ -0,0 +1,7 @@
+package com.dev.backend.repository.projection;
+
+public interface MonthCountView {
+    Integer getPeriodYear();
+    Integer getPeriodMonth();
+    Long getTotal();
+}
@@ -0,0 +1,14 @@
+package com.dev.backend.repository.projection;
+
+import java.time.LocalDate;
+
+// A review as served by the read endpoints, with the employee flattened to id and name
+public interface PerformanceView {
+    Long getId();
+    Long getEmployeeId();
+    String getEmployeeName();
+    String getReviewer();
+    int getScore();
+    String getFeedback();
+    LocalDate getDate();
+}
@@ -0,0 +1,6 @@
+package com.dev.backend.repository.projection;
+
+public interface ReportingLineView {
+    Long getId();
+    Long getManagerId();
+}
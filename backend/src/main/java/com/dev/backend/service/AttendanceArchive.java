@@ -0,0 +1,227 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.AttendanceArchiveProperties;
+import com.dev.backend.event.AttendanceChangedEvent;
+import com.dev.backend.event.AttendanceSnapshot;
+import com.dev.backend.exception.BusinessLogicException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Directory of monthly AttendanceArchiveFiles, kept current by attendance events after commit.
+// A month being rebuilt from the database is written to a side file; events for it meanwhile go to the
+// live file as usual and are replayed onto the rebuilt one before it is swapped in.
+@Component
+public class AttendanceArchive implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(AttendanceArchive.class);
+
+    private static final String FILE_PREFIX = "attendance-";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private final int initialMonthCapacity;
+    private final Path directory;
+    private final boolean temporary;
+    private final Map<YearMonth, AttendanceArchiveFile> months = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    private final Map<YearMonth, List<AttendanceChangedEvent>> rebuilding = new HashMap<>(); // guarded by writeLock
+
+    public AttendanceArchive(AttendanceArchiveProperties properties) throws IOException {
+        this.initialMonthCapacity = properties.getInitialMonthCapacity();
+        this.temporary = properties.getDirectory() == null || properties.getDirectory().isBlank();
+        this.directory = temporary
+                ? Files.createTempDirectory("attendance-archive")
+                : Files.createDirectories(Path.of(properties.getDirectory()));
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    YearMonth month = YearMonth.parse(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+                    months.put(month, AttendanceArchiveFile.open(file, initialMonthCapacity));
+                } catch (DateTimeParseException | IOException e) {
+                    // Left out; verification on startup rebuilds the month from the database
+                    log.warn("Skipping unreadable attendance archive file {}: {}", file, e.getMessage());
+                }
+            }
+        }
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    // Null when nothing has been archived for the month
+    AttendanceArchiveFile month(YearMonth month) {
+        return months.get(month);
+    }
+
+    SortedMap<YearMonth, AttendanceArchiveFile> months() {
+        return new TreeMap<>(months);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        YearMonth previousMonth = monthOf(event.getPrevious());
+        YearMonth currentMonth = monthOf(event.getCurrent());
+        synchronized (writeLock) {
+            if (previousMonth != null && !previousMonth.equals(currentMonth)) {
+                record(previousMonth, event);
+            }
+            if (currentMonth != null) {
+                record(currentMonth, event);
+            }
+        }
+    }
+
+    // Starts a rebuild of the month into a side file sized for expectedRecords
+    AttendanceArchiveFile beginRebuild(YearMonth month, int expectedRecords) throws IOException {
+        synchronized (writeLock) {
+            if (rebuilding.containsKey(month)) {
+                throw new BusinessLogicException("Attendance archive for " + month + " is already being rebuilt");
+            }
+            Path side = rebuildPath(month);
+            Files.deleteIfExists(side);
+            AttendanceArchiveFile file = AttendanceArchiveFile.open(side, Math.max(expectedRecords, initialMonthCapacity));
+            rebuilding.put(month, new ArrayList<>());
+            return file;
+        }
+    }
+
+    void finishRebuild(YearMonth month, AttendanceArchiveFile rebuilt) throws IOException {
+        synchronized (writeLock) {
+            List<AttendanceChangedEvent> missed = rebuilding.remove(month);
+            for (AttendanceChangedEvent event : missed) {
+                apply(rebuilt, month, event);
+            }
+            rebuilt.force();
+            Path target = path(month);
+            Files.move(rebuildPath(month), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            rebuilt.relocate(target);
+            months.put(month, rebuilt);
+        }
+    }
+
+    void abortRebuild(YearMonth month) {
+        synchronized (writeLock) {
+            rebuilding.remove(month);
+            try {
+                Files.deleteIfExists(rebuildPath(month));
+            } catch (IOException e) {
+                log.warn("Could not remove attendance archive side file for {}: {}", month, e.getMessage());
+            }
+        }
+    }
+
+    // Forgets a month the database no longer has attendance for
+    void drop(YearMonth month) throws IOException {
+        synchronized (writeLock) {
+            months.remove(month);
+            Files.deleteIfExists(path(month));
+        }
+    }
+
+    static void append(AttendanceArchiveFile file, Long attendanceId, Long employeeId, LocalDate date,
+                       LocalDateTime clockIn, LocalDateTime clockOut) throws IOException {
+        file.append(attendanceId, employeeId != null ? employeeId : 0L, (int) date.toEpochDay(),
+                minuteOfDay(date, clockIn), minuteOfDay(date, clockOut));
+    }
+
+    @Override
+    public void destroy() {
+        months.values().forEach(AttendanceArchiveFile::force);
+        if (!temporary) {
+            return;
+        }
+        // Mappings stay valid after the files are unlinked, so this is safe while readers finish
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            log.warn("Could not remove temporary attendance archive {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private void record(YearMonth month, AttendanceChangedEvent event) {
+        List<AttendanceChangedEvent> pending = rebuilding.get(month);
+        if (pending != null) {
+            pending.add(event);
+        }
+        try {
+            AttendanceArchiveFile file = month.equals(monthOf(event.getCurrent()))
+                    ? months.computeIfAbsent(month, this::create)
+                    : months.get(month);
+            if (file != null) {
+                apply(file, month, event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Attendance archive update for {} failed; rebuild the month to repair it: {}", month, e.getMessage());
+        }
+    }
+
+    // Applies the part of the change that falls in this month: the new state is upserted, a record that
+    // was deleted or moved to another month is removed
+    private static void apply(AttendanceArchiveFile file, YearMonth month, AttendanceChangedEvent event) throws IOException {
+        AttendanceSnapshot previous = event.getPrevious();
+        AttendanceSnapshot current = event.getCurrent();
+        if (current != null && month.equals(monthOf(current))) {
+            file.upsert(current.getId(), current.getEmployeeId() != null ? current.getEmployeeId() : 0L,
+                    (int) current.getDate().toEpochDay(),
+                    minuteOfDay(current.getDate(), current.getClockIn()),
+                    minuteOfDay(current.getDate(), current.getClockOut()));
+        } else if (previous != null && month.equals(monthOf(previous))) {
+            file.remove(previous.getId());
+        }
+    }
+
+    private AttendanceArchiveFile create(YearMonth month) {
+        try {
+            return AttendanceArchiveFile.open(path(month), initialMonthCapacity);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create attendance archive file for " + month, e);
+        }
+    }
+
+    private static YearMonth monthOf(AttendanceSnapshot attendance) {
+        return attendance != null && attendance.getDate() != null ? YearMonth.from(attendance.getDate()) : null;
+    }
+
+    // Minutes after midnight of the record's own day, so overnight clock-outs run past 1440
+    private static short minuteOfDay(LocalDate date, LocalDateTime time) {
+        if (time == null) {
+            return AttendanceArchiveFile.NO_TIME;
+        }
+        long minutes = Duration.between(date.atStartOfDay(), time).toMinutes();
+        return (short) Math.max(0, Math.min(Short.MAX_VALUE, minutes));
+    }
+
+    private Path path(YearMonth month) {
+        return directory.resolve(FILE_PREFIX + month + FILE_SUFFIX);
+    }
+
+    private Path rebuildPath(YearMonth month) {
+        return directory.resolve(FILE_PREFIX + month + FILE_SUFFIX + ".rebuild");
+    }
+}
@@ -0,0 +1,257 @@
+package com.dev.backend.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// One month of attendance as fixed-width records in a memory-mapped file.
+//
+// Layout: a 16-byte header (magic, version, record count, live record count) followed by 24-byte records:
+// attendance id (long), employee id (long), epoch day (int), clock-in and clock-out as minutes after
+// midnight of that day (short each, NO_TIME when missing). New records are appended; a changed record is
+// rewritten in place and a deleted one has its day overwritten with REMOVED, so readers scanning the
+// mapping skip it. Writers are serialised by AttendanceArchive; readers never lock: they read count()
+// first, then data(), and only touch records below that count.
+final class AttendanceArchiveFile {
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 24;
+    static final int REMOVED = Integer.MIN_VALUE;
+    static final short NO_TIME = -1;
+
+    private static final int MAGIC = 0x50504154; // "PPAT"
+    private static final int VERSION = 1;
+
+    private static final int ATTENDANCE_ID = 0;
+    private static final int EMPLOYEE_ID = 8;
+    private static final int EPOCH_DAY = 16;
+    private static final int CLOCK_IN = 20;
+    private static final int CLOCK_OUT = 22;
+
+    private Path path;
+    private volatile MappedByteBuffer buffer;
+    private volatile int count;
+    private int live;
+    private int capacity;
+    private SlotIndex slots; // built on the first update or delete
+
+    private AttendanceArchiveFile(Path path) {
+        this.path = path;
+    }
+
+    // Maps an existing month file, or creates one with room for initialCapacity records
+    static AttendanceArchiveFile open(Path path, int initialCapacity) throws IOException {
+        AttendanceArchiveFile file = new AttendanceArchiveFile(path);
+        if (Files.exists(path) && Files.size(path) >= HEADER_BYTES) {
+            long size = Files.size(path);
+            file.capacity = (int) Math.min((size - HEADER_BYTES) / RECORD_BYTES, Integer.MAX_VALUE);
+            file.map(HEADER_BYTES + (long) file.capacity * RECORD_BYTES);
+            MappedByteBuffer header = file.buffer;
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not an attendance archive file: " + path);
+            }
+            file.live = header.getInt(12);
+            file.count = Math.min(header.getInt(8), file.capacity);
+        } else {
+            file.capacity = Math.max(initialCapacity, 1);
+            file.map(HEADER_BYTES + (long) file.capacity * RECORD_BYTES);
+            file.buffer.putInt(0, MAGIC);
+            file.buffer.putInt(4, VERSION);
+            file.writeHeader();
+        }
+        return file;
+    }
+
+    // Record accessors for scans: count() before data(), so the mapping is at least as large as the count
+
+    ByteBuffer data() {
+        return buffer;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int liveCount() {
+        return live;
+    }
+
+    long sizeInBytes() {
+        return HEADER_BYTES + (long) capacity * RECORD_BYTES;
+    }
+
+    static long employeeId(ByteBuffer data, int slot) {
+        return data.getLong(offset(slot) + EMPLOYEE_ID);
+    }
+
+    static int epochDay(ByteBuffer data, int slot) {
+        return data.getInt(offset(slot) + EPOCH_DAY);
+    }
+
+    static int clockIn(ByteBuffer data, int slot) {
+        return data.getShort(offset(slot) + CLOCK_IN);
+    }
+
+    static int clockOut(ByteBuffer data, int slot) {
+        return data.getShort(offset(slot) + CLOCK_OUT);
+    }
+
+    // Writers
+
+    void append(long attendanceId, long employeeId, int epochDay, short clockIn, short clockOut) throws IOException {
+        if (count == capacity) {
+            grow();
+        }
+        int slot = count;
+        write(slot, attendanceId, employeeId, epochDay, clockIn, clockOut);
+        live++;
+        if (slots != null) {
+            slots.put(attendanceId, slot);
+        }
+        // Publishing the new count last makes the record visible to readers only once it is complete
+        count = slot + 1;
+        writeHeader();
+    }
+
+    // Inserts the record or overwrites the one already held for the attendance id
+    void upsert(long attendanceId, long employeeId, int epochDay, short clockIn, short clockOut) throws IOException {
+        int slot = slots().get(attendanceId);
+        if (slot < 0) {
+            append(attendanceId, employeeId, epochDay, clockIn, clockOut);
+            return;
+        }
+        write(slot, attendanceId, employeeId, epochDay, clockIn, clockOut);
+    }
+
+    void remove(long attendanceId) {
+        int slot = slots().get(attendanceId);
+        if (slot < 0) {
+            return;
+        }
+        buffer.putInt(offset(slot) + EPOCH_DAY, REMOVED);
+        slots.put(attendanceId, -1);
+        live--;
+        writeHeader();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    // After a rebuilt file has been moved into place, later growth must remap the new path
+    void relocate(Path path) {
+        this.path = path;
+    }
+
+    private void write(int slot, long attendanceId, long employeeId, int epochDay, short clockIn, short clockOut) {
+        int base = offset(slot);
+        MappedByteBuffer data = buffer;
+        data.putLong(base + ATTENDANCE_ID, attendanceId);
+        data.putLong(base + EMPLOYEE_ID, employeeId);
+        data.putInt(base + EPOCH_DAY, epochDay);
+        data.putShort(base + CLOCK_IN, clockIn);
+        data.putShort(base + CLOCK_OUT, clockOut);
+    }
+
+    private void writeHeader() {
+        buffer.putInt(8, count);
+        buffer.putInt(12, live);
+    }
+
+    private void grow() throws IOException {
+        long maxCapacity = (Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES;
+        if (capacity >= maxCapacity) {
+            throw new IOException("Attendance archive month is full: " + path);
+        }
+        capacity = (int) Math.min((long) capacity * 2, maxCapacity);
+        // Readers holding the old mapping keep working: both map the same file pages
+        map(HEADER_BYTES + (long) capacity * RECORD_BYTES);
+    }
+
+    private void map(long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private SlotIndex slots() {
+        if (slots == null) {
+            SlotIndex index = new SlotIndex(Math.max(count, 16));
+            ByteBuffer data = buffer;
+            for (int slot = 0; slot < count; slot++) {
+                if (epochDay(data, slot) != REMOVED) {
+                    index.put(data.getLong(offset(slot) + ATTENDANCE_ID), slot);
+                }
+            }
+            slots = index;
+        }
+        return slots;
+    }
+
+    private static int offset(int slot) {
+        return HEADER_BYTES + slot * RECORD_BYTES;
+    }
+
+    // Attendance id -> slot, open addressing over primitive arrays. Ids are positive, so 0 marks an empty cell;
+    // deleted records keep their key with slot -1.
+    private static final class SlotIndex {
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        SlotIndex(int expected) {
+            int cells = Integer.highestOneBit(Math.max(expected * 2, 16) - 1) << 1;
+            keys = new long[cells];
+            values = new int[cells];
+        }
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int cell = hash(key) & mask; keys[cell] != 0; cell = (cell + 1) & mask) {
+                if (keys[cell] == key) {
+                    return values[cell];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            int mask = keys.length - 1;
+            int cell = hash(key) & mask;
+            while (keys[cell] != 0 && keys[cell] != key) {
+                cell = (cell + 1) & mask;
+            }
+            if (keys[cell] == 0) {
+                keys[cell] = key;
+                if (++size * 2 > keys.length) {
+                    values[cell] = value;
+                    resize();
+                    return;
+                }
+            }
+            values[cell] = value;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int cell = 0; cell < oldKeys.length; cell++) {
+                if (oldKeys[cell] != 0) {
+                    put(oldKeys[cell], oldValues[cell]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32));
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.AttendanceArchiveProperties;
+import com.dev.backend.config.AttendancePolicy;
+import com.dev.backend.dto.AttendancePunctualityDTO;
+import com.dev.backend.dto.AttendanceTrendDTO;
+import com.dev.backend.exception.EmployeeNotFoundException;
+import com.dev.backend.exception.InvalidAttendanceException;
+import com.dev.backend.repository.AttendanceRepository;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.repository.projection.AttendanceArchiveRowView;
+import com.dev.backend.repository.projection.MonthCountView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+// Long-range attendance analytics over the AttendanceArchive. Scans read the mapped month files
+// directly, accumulating into locals, so their cost is independent of the database and allocates
+// nothing per record. The archive is checked against per-month row counts on startup and any month
+// that disagrees is rebuilt from the database.
+@Service
+@Transactional(readOnly = true)
+public class AttendanceArchiveService {
+    private static final Logger log = LoggerFactory.getLogger(AttendanceArchiveService.class);
+
+    private final AttendanceArchive archive;
+    private final AttendanceRepository attendanceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AttendancePolicy policy;
+    private final AttendanceArchiveProperties properties;
+
+    public AttendanceArchiveService(AttendanceArchive archive,
+                                    AttendanceRepository attendanceRepository,
+                                    EmployeeRepository employeeRepository,
+                                    AttendancePolicy policy,
+                                    AttendanceArchiveProperties properties) {
+        this.archive = archive;
+        this.attendanceRepository = attendanceRepository;
+        this.employeeRepository = employeeRepository;
+        this.policy = policy;
+        this.properties = properties;
+    }
+
+    // Attendance loaded outside the application (restores, synthetic data) or missed while the
+    // application was down shows up here as a count mismatch
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        Map<YearMonth, Long> expected = new HashMap<>();
+        for (MonthCountView row : attendanceRepository.countByMonth()) {
+            expected.put(YearMonth.of(row.getPeriodYear(), row.getPeriodMonth()), row.getTotal());
+        }
+        SortedSet<YearMonth> months = new TreeSet<>(expected.keySet());
+        months.addAll(archive.months().keySet());
+
+        int rebuilt = 0;
+        long records = 0;
+        for (YearMonth month : months) {
+            long want = expected.getOrDefault(month, 0L);
+            AttendanceArchiveFile file = archive.month(month);
+            if (want == 0) {
+                try {
+                    archive.drop(month);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            } else if (file == null || file.liveCount() != want) {
+                records += rebuildMonth(month, want);
+                rebuilt++;
+            }
+        }
+        log.info("Attendance archive in {} verified: {} months, {} rebuilt ({} records)",
+                archive.getDirectory(), expected.size(), rebuilt, records);
+    }
+
+    public Map<String, Object> rebuild(YearMonth from, YearMonth to) {
+        validateRange(from, to);
+        long records = 0;
+        int months = 0;
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            records += rebuildMonth(month, 0);
+            months++;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("from", from.toString());
+        report.put("to", to.toString());
+        report.put("months", months);
+        report.put("records", records);
+        return report;
+    }
+
+    public Map<String, Object> getStatus() {
+        List<Map<String, Object>> months = new ArrayList<>();
+        long records = 0;
+        long bytes = 0;
+        for (Map.Entry<YearMonth, AttendanceArchiveFile> entry : archive.months().entrySet()) {
+            AttendanceArchiveFile file = entry.getValue();
+            Map<String, Object> month = new LinkedHashMap<>();
+            month.put("month", entry.getKey().toString());
+            month.put("records", file.liveCount());
+            month.put("bytes", file.sizeInBytes());
+            months.add(month);
+            records += file.liveCount();
+            bytes += file.sizeInBytes();
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("directory", archive.getDirectory().toString());
+        status.put("records", records);
+        status.put("bytes", bytes);
+        status.put("months", months);
+        return status;
+    }
+
+    // Late means clocking in after the policy's late mark, compared at minute resolution
+    public List<AttendancePunctualityDTO> getPunctuality(int fromYear, int toYear) {
+        validateRange(YearMonth.of(fromYear, 1), YearMonth.of(toYear, 12));
+        int lateMark = policy.getLateMarkTime().toSecondOfDay() / 60;
+
+        List<AttendancePunctualityDTO> result = new ArrayList<>();
+        Double previousLateRate = null;
+        for (int year = fromYear; year <= toYear; year++) {
+            long records = 0;
+            long late = 0;
+            long clockInSum = 0;
+            for (int monthOfYear = 1; monthOfYear <= 12; monthOfYear++) {
+                AttendanceArchiveFile file = archive.month(YearMonth.of(year, monthOfYear));
+                if (file == null) {
+                    continue;
+                }
+                int count = file.count();
+                ByteBuffer data = file.data();
+                for (int slot = 0; slot < count; slot++) {
+                    int clockIn = AttendanceArchiveFile.clockIn(data, slot);
+                    if (clockIn == AttendanceArchiveFile.NO_TIME
+                            || AttendanceArchiveFile.epochDay(data, slot) == AttendanceArchiveFile.REMOVED) {
+                        continue;
+                    }
+                    records++;
+                    clockInSum += clockIn;
+                    if (clockIn > lateMark) {
+                        late++;
+                    }
+                }
+            }
+            Double lateRate = records > 0 ? round(late * 100.0 / records) : null;
+            Double change = lateRate != null && previousLateRate != null ? round(lateRate - previousLateRate) : null;
+            result.add(new AttendancePunctualityDTO(year, records, records - late, late, lateRate, change,
+                    records > 0 ? formatMinutes(clockInSum / records) : null));
+            previousLateRate = lateRate;
+        }
+        return result;
+    }
+
+    public List<AttendanceTrendDTO> getEmployeeTrend(Long employeeId, YearMonth from, YearMonth to) {
+        validateRange(from, to);
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new EmployeeNotFoundException("Employee not found with id: " + employeeId);
+        }
+        int lateMark = policy.getLateMarkTime().toSecondOfDay() / 60;
+        long id = employeeId;
+
+        List<AttendanceTrendDTO> result = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            int days = 0;
+            int late = 0;
+            long clockInSum = 0;
+            int completed = 0;
+            long workedMinutes = 0;
+            AttendanceArchiveFile file = archive.month(month);
+            if (file != null) {
+                int count = file.count();
+                ByteBuffer data = file.data();
+                for (int slot = 0; slot < count; slot++) {
+                    if (AttendanceArchiveFile.employeeId(data, slot) != id
+                            || AttendanceArchiveFile.epochDay(data, slot) == AttendanceArchiveFile.REMOVED) {
+                        continue;
+                    }
+                    int clockIn = AttendanceArchiveFile.clockIn(data, slot);
+                    if (clockIn == AttendanceArchiveFile.NO_TIME) {
+                        continue;
+                    }
+                    days++;
+                    clockInSum += clockIn;
+                    if (clockIn > lateMark) {
+                        late++;
+                    }
+                    int clockOut = AttendanceArchiveFile.clockOut(data, slot);
+                    if (clockOut != AttendanceArchiveFile.NO_TIME && clockOut >= clockIn) {
+                        completed++;
+                        workedMinutes += clockOut - clockIn;
+                    }
+                }
+            }
+            result.add(new AttendanceTrendDTO(month.toString(), days, late,
+                    days > 0 ? formatMinutes(clockInSum / days) : null,
+                    completed > 0 ? round(workedMinutes / 60.0 / completed) : null));
+        }
+        return result;
+    }
+
+    private int rebuildMonth(YearMonth month, long expectedRecords) {
+        AttendanceArchiveFile file;
+        try {
+            file = archive.beginRebuild(month, (int) Math.min(expectedRecords, Integer.MAX_VALUE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start rebuilding the attendance archive for " + month, e);
+        }
+        boolean finished = false;
+        try (Stream<AttendanceArchiveRowView> rows =
+                     attendanceRepository.streamArchiveRowsByDateBetween(month.atDay(1), month.atEndOfMonth())) {
+            Iterator<AttendanceArchiveRowView> it = rows.iterator();
+            while (it.hasNext()) {
+                AttendanceArchiveRowView row = it.next();
+                AttendanceArchive.append(file, row.getId(), row.getEmployeeId(), row.getDate(),
+                        row.getClockIn(), row.getClockOut());
+            }
+            archive.finishRebuild(month, file);
+            finished = true;
+            return file.liveCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rebuild the attendance archive for " + month, e);
+        } finally {
+            if (!finished) {
+                archive.abortRebuild(month);
+            }
+        }
+    }
+
+    private void validateRange(YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            throw new InvalidAttendanceException("End month cannot be before start month");
+        }
+        if (ChronoUnit.MONTHS.between(from, to) >= properties.getMaxRangeMonths()) {
+            throw new InvalidAttendanceException("Range cannot exceed " + properties.getMaxRangeMonths() + " months");
+        }
+    }
+
+    private static String formatMinutes(long minutes) {
+        return String.format("%02d:%02d", minutes / 60, minutes % 60);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
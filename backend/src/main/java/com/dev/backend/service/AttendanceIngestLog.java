@@ -0,0 +1,220 @@
+package com.dev.backend.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// Write-ahead log of accepted clock events.
+//
+// Layout: a 16-byte header (magic, version, checkpoint = highest sequence known to be in the database)
+// followed by 44-byte records: sequence, employee id, event time (local date-time as epoch seconds),
+// accepted at (epoch millis), epoch day, event type, and a CRC32 of the preceding 40 bytes. A record
+// with a bad checksum or an out-of-order sequence marks a write torn by a crash; the log is cut there
+// on open. Appends are ordered by the caller; sync() makes them durable, one force covering every
+// append that preceded it, so concurrent writers share the cost of a force.
+final class AttendanceIngestLog implements Closeable {
+    static final int CLOCK_IN = 1;
+    static final int CLOCK_OUT = 2;
+
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 44;
+    private static final int CHECKSUMMED_BYTES = 40;
+
+    private static final int MAGIC = 0x50504957; // "PPIW"
+    private static final int VERSION = 1;
+
+    record Entry(long sequence, int type, long employeeId, LocalDate date, LocalDateTime time, long acceptedAt) {
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Object syncLock = new Object();
+    private long end;                    // guarded by this
+    private long lastSequence;           // guarded by this
+    private long checkpoint;             // guarded by this
+    private volatile long durableSequence;
+
+    private AttendanceIngestLog(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    // Opens or creates the log and adds every entry after the checkpoint to pending, oldest first
+    static AttendanceIngestLog open(Path path, List<Entry> pending) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        AttendanceIngestLog log = new AttendanceIngestLog(path, channel);
+        try {
+            log.load(pending);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return log;
+    }
+
+    private void load(List<Entry> pending) throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putLong(0).flip();
+            channel.truncate(0);
+            writeFully(header, 0);
+            channel.force(true);
+            end = HEADER_BYTES;
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("Not an attendance ingestion log: " + path);
+        }
+        checkpoint = header.getLong();
+        lastSequence = checkpoint;
+
+        long size = channel.size();
+        long position = HEADER_BYTES;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        CRC32 crc = new CRC32();
+        long previous = 0;
+        while (position + RECORD_BYTES <= size) {
+            record.clear();
+            readFully(record, position);
+            crc.reset();
+            crc.update(record.array(), 0, CHECKSUMMED_BYTES);
+            record.flip();
+            long sequence = record.getLong();
+            long employeeId = record.getLong();
+            long time = record.getLong();
+            long acceptedAt = record.getLong();
+            int epochDay = record.getInt();
+            int type = record.getInt();
+            int checksum = record.getInt();
+            if (checksum != (int) crc.getValue() || sequence <= previous) {
+                break;
+            }
+            if (sequence > checkpoint) {
+                pending.add(new Entry(sequence, type, employeeId, LocalDate.ofEpochDay(epochDay),
+                        LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC), acceptedAt));
+            }
+            lastSequence = Math.max(lastSequence, sequence);
+            previous = sequence;
+            position += RECORD_BYTES;
+        }
+        if (position < size) {
+            channel.truncate(position);
+        }
+        end = position;
+        channel.force(true);
+        durableSequence = lastSequence;
+    }
+
+    synchronized Entry append(int type, long employeeId, LocalDate date, LocalDateTime time, long acceptedAt)
+            throws IOException {
+        long sequence = lastSequence + 1;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        record.putLong(sequence)
+                .putLong(employeeId)
+                .putLong(time.toEpochSecond(ZoneOffset.UTC))
+                .putLong(acceptedAt)
+                .putInt((int) date.toEpochDay())
+                .putInt(type);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, CHECKSUMMED_BYTES);
+        record.putInt((int) crc.getValue()).flip();
+        writeFully(record, end);
+        end += RECORD_BYTES;
+        lastSequence = sequence;
+        return new Entry(sequence, type, employeeId, date, time.withNano(0), acceptedAt);
+    }
+
+    // Returns once every entry up to and including sequence is on disk
+    void sync(long sequence) throws IOException {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durableSequence >= sequence) {
+                return;
+            }
+            long target;
+            synchronized (this) {
+                target = lastSequence;
+            }
+            channel.force(false);
+            durableSequence = target;
+        }
+    }
+
+    long durableSequence() {
+        return durableSequence;
+    }
+
+    // Not forced: if it is lost, the entries it covers are replayed and come back as duplicates
+    synchronized void checkpoint(long sequence) throws IOException {
+        if (sequence <= checkpoint) {
+            return;
+        }
+        ByteBuffer value = ByteBuffer.allocate(Long.BYTES);
+        value.putLong(sequence).flip();
+        writeFully(value, 8);
+        checkpoint = sequence;
+    }
+
+    // Cuts the log back to its header once every entry in it is checkpointed; sequences keep counting
+    // up from the checkpoint, which stays in the header
+    synchronized boolean truncateIfDrained(long maxBytes) throws IOException {
+        if (checkpoint < lastSequence || end <= maxBytes) {
+            return false;
+        }
+        channel.truncate(HEADER_BYTES);
+        channel.force(true);
+        end = HEADER_BYTES;
+        return true;
+    }
+
+    synchronized long checkpoint() {
+        return checkpoint;
+    }
+
+    synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    synchronized long sizeInBytes() {
+        return end;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of attendance ingestion log: " + path);
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.AttendanceIngestProperties;
+import com.dev.backend.dto.AttendanceBatchResultDTO;
+import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.exception.BusinessLogicException;
+import com.dev.backend.exception.EmployeeNotFoundException;
+import com.dev.backend.exception.InvalidAttendanceException;
+import com.dev.backend.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.PermissionDeniedDataAccessException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Write-behind clock-in/clock-out. An event is checked against the in-memory roster, appended to the
+// AttendanceIngestLog and acknowledged once the log is forced; nothing touches the database on the
+// request path. A scheduled drainer writes queued events in log order through the batch paths of
+// AttendanceService, one transaction per kind per batch, then checkpoints the log. Events still in the
+// log on startup are queued again; replaying an event that already reached the database is harmless,
+// since a repeated clock-in or clock-out comes back as a duplicate.
+//
+// Rows refused at flush time (an employee deleted meanwhile, a second clock-in for the day) cannot be
+// reported to a client that was already answered; they are counted and the latest one is kept for the
+// status endpoint. A batch that fails outright is retried one event at a time, and events that still
+// fail are dead-lettered (logged with everything needed to re-enter them, counted, and skipped) so they
+// cannot hold up the queue. Failures to reach the database are not the events' fault: the batch stays
+// queued and is retried on the next tick.
+@Service
+public class AttendanceIngestService implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(AttendanceIngestService.class);
+
+    static final String METRIC_PREFIX = "attendance.ingest";
+    static final String LOG_FILE = "attendance-ingest.wal";
+    private static final int MAX_BATCH_SIZE = 5000;
+
+    private final AttendanceService attendanceService;
+    private final EmployeeRoster roster;
+    private final EmployeeRepository employeeRepository;
+    private final AttendanceIngestProperties properties;
+    private final MeterRegistry registry;
+    private final AttendanceIngestLog wal; // null when ingestion is disabled
+
+    private final ArrayDeque<AttendanceIngestLog.Entry> queue = new ArrayDeque<>(); // guarded by itself
+    // One drain at a time: only the drainer removes entries, always the head of the queue it just flushed
+    private final Object drainLock = new Object();
+
+    private final Counter accepted;
+    private final Counter flushed;
+    private final Counter duplicates;
+    private final Counter rejected;
+    private final Counter deadLettered;
+    private volatile String lastRejection;
+    private volatile String lastDeadLetter;
+    private volatile String lastError;
+    private volatile Instant lastFlushAt;
+    private volatile long lastFlushMillis;
+    private volatile int lastFlushSize;
+
+    public AttendanceIngestService(AttendanceService attendanceService, EmployeeRoster roster,
+                                   EmployeeRepository employeeRepository, AttendanceIngestProperties properties,
+                                   MeterRegistry registry) throws IOException {
+        this.attendanceService = attendanceService;
+        this.roster = roster;
+        this.employeeRepository = employeeRepository;
+        this.properties = properties;
+        this.registry = registry;
+
+        if (properties.isEnabled()) {
+            Path directory = Files.createDirectories(Path.of(properties.getDirectory()));
+            List<AttendanceIngestLog.Entry> pending = new ArrayList<>();
+            wal = AttendanceIngestLog.open(directory.resolve(LOG_FILE), pending);
+            queue.addAll(pending);
+            log.info("Attendance ingestion log {} opened; {} unflushed events queued for replay",
+                    wal.getPath(), pending.size());
+        } else {
+            wal = null;
+        }
+
+        this.accepted = Counter.builder(METRIC_PREFIX + ".accepted")
+                .description("Clock events acknowledged after being written to the ingestion log")
+                .register(registry);
+        this.flushed = Counter.builder(METRIC_PREFIX + ".flushed")
+                .description("Clock events written through to the database")
+                .register(registry);
+        this.duplicates = Counter.builder(METRIC_PREFIX + ".duplicates")
+                .description("Flushed clock events the database already held, including replays")
+                .register(registry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Flushed clock events refused by attendance validation")
+                .register(registry);
+        this.deadLettered = Counter.builder(METRIC_PREFIX + ".dead.lettered")
+                .description("Clock events skipped after failing to flush even on their own")
+                .register(registry);
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", this, AttendanceIngestService::queueDepth)
+                .description("Acknowledged clock events not yet in the database")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".flush.lag", this, service -> service.flushLagMillis() / 1000.0)
+                .description("Seconds the oldest unflushed clock event has been waiting")
+                .register(registry);
+    }
+
+    public Map<String, Object> clockIn(AttendanceDTO event) {
+        requireEnabled();
+        requireEmployee(event);
+        if (event.getClockIn() == null) {
+            throw new InvalidAttendanceException("Clock in time is required");
+        }
+        if (event.getClockIn().isAfter(LocalDateTime.now())) {
+            throw new InvalidAttendanceException("Clock in time cannot be in the future");
+        }
+        LocalDate date = event.getDate() != null ? event.getDate() : event.getClockIn().toLocalDate();
+        return accept(AttendanceIngestLog.CLOCK_IN, event.getEmployeeId(), date, event.getClockIn());
+    }
+
+    public Map<String, Object> clockOut(AttendanceDTO event) {
+        requireEnabled();
+        requireEmployee(event);
+        if (event.getClockOut() == null) {
+            throw new InvalidAttendanceException("Clock out time is required");
+        }
+        if (event.getClockOut().isAfter(LocalDateTime.now())) {
+            throw new InvalidAttendanceException("Clock out time cannot be in the future");
+        }
+        LocalDate date = event.getDate() != null ? event.getDate() : event.getClockOut().toLocalDate();
+        return accept(AttendanceIngestLog.CLOCK_OUT, event.getEmployeeId(), date, event.getClockOut());
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.ingest.flush-interval:PT0.2S}")
+    public void drain() {
+        if (wal == null) {
+            return;
+        }
+        synchronized (drainLock) {
+            drainQueued();
+        }
+    }
+
+    private void drainQueued() {
+        List<AttendanceIngestLog.Entry> batch;
+        while (!(batch = nextBatch()).isEmpty()) {
+            long started = System.nanoTime();
+            int done;
+            try {
+                flush(batch);
+                flushed.increment(batch.size());
+                done = batch.size();
+            } catch (RuntimeException e) {
+                if (isSystemic(e)) {
+                    // Left queued: the same batch is retried on the next tick
+                    lastError = e.getMessage();
+                    log.warn("Flushing {} ingested clock events failed; retrying", batch.size(), e);
+                    return;
+                }
+                log.warn("Flushing {} ingested clock events failed; retrying them one at a time", batch.size(), e);
+                done = flushEach(batch);
+            }
+            if (done > 0) {
+                complete(batch.subList(0, done), started);
+            }
+            if (done < batch.size()) {
+                return;
+            }
+        }
+    }
+
+    // Returns how many entries from the head of the batch were either flushed or dead-lettered
+    private int flushEach(List<AttendanceIngestLog.Entry> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            AttendanceIngestLog.Entry entry = batch.get(i);
+            try {
+                flush(List.of(entry));
+                flushed.increment();
+            } catch (RuntimeException e) {
+                if (isSystemic(e)) {
+                    lastError = e.getMessage();
+                    log.warn("Flushing ingested clock event #{} failed; retrying", entry.sequence(), e);
+                    return i;
+                }
+                deadLettered.increment();
+                lastDeadLetter = describe(entry) + ": " + e.getMessage();
+                log.error("Dead-lettered ingested clock event {}", lastDeadLetter, e);
+            }
+        }
+        return batch.size();
+    }
+
+    private void complete(List<AttendanceIngestLog.Entry> done, long started) {
+        synchronized (queue) {
+            for (int i = 0; i < done.size(); i++) {
+                queue.pollFirst();
+            }
+        }
+        lastError = null;
+        lastFlushAt = Instant.now();
+        lastFlushMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        lastFlushSize = done.size();
+        try {
+            wal.checkpoint(done.get(done.size() - 1).sequence());
+            wal.truncateIfDrained(properties.getMaxLogBytes());
+        } catch (IOException e) {
+            // The events are in the database; at worst they are replayed as duplicates
+            log.warn("Could not checkpoint the attendance ingestion log", e);
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", wal != null);
+        status.put("queueDepth", queueDepth());
+        status.put("flushLagMillis", flushLagMillis());
+        status.put("accepted", (long) accepted.count());
+        status.put("flushed", (long) flushed.count());
+        status.put("duplicates", (long) duplicates.count());
+        status.put("rejected", (long) rejected.count());
+        status.put("deadLettered", (long) deadLettered.count());
+        status.put("lastRejection", lastRejection);
+        status.put("lastDeadLetter", lastDeadLetter);
+        status.put("lastFlushAt", lastFlushAt);
+        status.put("lastFlushMillis", lastFlushMillis);
+        status.put("lastFlushSize", lastFlushSize);
+        status.put("lastError", lastError);
+        if (wal != null) {
+            status.put("log", wal.getPath().toString());
+            status.put("logBytes", wal.sizeInBytes());
+            status.put("lastSequence", wal.lastSequence());
+            status.put("checkpoint", wal.checkpoint());
+        }
+        return status;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        // Whatever is still queued is in the log and is replayed on the next start
+        if (wal != null) {
+            wal.close();
+        }
+    }
+
+    private Map<String, Object> accept(int type, long employeeId, LocalDate date, LocalDateTime time) {
+        AttendanceIngestLog.Entry entry;
+        int depth;
+        try {
+            synchronized (queue) {
+                if (queue.size() >= properties.getMaxQueueDepth()) {
+                    throw new BusinessLogicException("Attendance ingestion queue is full; retry shortly");
+                }
+                entry = wal.append(type, employeeId, date, time, System.currentTimeMillis());
+                queue.addLast(entry);
+                depth = queue.size();
+            }
+            wal.sync(entry.sequence());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write to the attendance ingestion log", e);
+        }
+        accepted.increment();
+
+        Map<String, Object> receipt = new LinkedHashMap<>();
+        receipt.put("sequence", entry.sequence());
+        receipt.put("status", "QUEUED");
+        receipt.put("employeeId", employeeId);
+        receipt.put("date", date);
+        receipt.put("queueDepth", depth);
+        return receipt;
+    }
+
+    // Entries in log order, only those already forced to disk, so nothing reaches the database that
+    // a crash could make the log forget
+    private List<AttendanceIngestLog.Entry> nextBatch() {
+        int limit = Math.max(1, Math.min(properties.getBatchSize(), MAX_BATCH_SIZE));
+        long durable = wal.durableSequence();
+        List<AttendanceIngestLog.Entry> batch = new ArrayList<>();
+        synchronized (queue) {
+            for (AttendanceIngestLog.Entry entry : queue) {
+                if (batch.size() == limit || entry.sequence() > durable) {
+                    break;
+                }
+                batch.add(entry);
+            }
+        }
+        return batch;
+    }
+
+    // Clock-ins go first so a clock-out queued behind its clock-in in the same batch finds the record
+    private void flush(List<AttendanceIngestLog.Entry> batch) {
+        List<AttendanceIngestLog.Entry> clockIns = new ArrayList<>();
+        List<AttendanceIngestLog.Entry> clockOuts = new ArrayList<>();
+        for (AttendanceIngestLog.Entry entry : batch) {
+            (entry.type() == AttendanceIngestLog.CLOCK_IN ? clockIns : clockOuts).add(entry);
+        }
+        if (!clockIns.isEmpty()) {
+            List<AttendanceDTO> rows = new ArrayList<>(clockIns.size());
+            for (AttendanceIngestLog.Entry entry : clockIns) {
+                rows.add(AttendanceDTO.builder().employeeId(entry.employeeId()).date(entry.date()).clockIn(entry.time()).build());
+            }
+            tally(clockIns, attendanceService.createAttendanceBatch(rows));
+        }
+        if (!clockOuts.isEmpty()) {
+            List<AttendanceDTO> rows = new ArrayList<>(clockOuts.size());
+            for (AttendanceIngestLog.Entry entry : clockOuts) {
+                rows.add(AttendanceDTO.builder().employeeId(entry.employeeId()).date(entry.date()).clockOut(entry.time()).build());
+            }
+            tally(clockOuts, attendanceService.recordClockOutBatch(rows));
+        }
+    }
+
+    private void tally(List<AttendanceIngestLog.Entry> entries, List<AttendanceBatchResultDTO> results) {
+        for (AttendanceBatchResultDTO result : results) {
+            if (AttendanceBatchResultDTO.DUPLICATE.equals(result.getStatus())) {
+                duplicates.increment();
+            } else if (AttendanceBatchResultDTO.REJECTED.equals(result.getStatus())) {
+                AttendanceIngestLog.Entry entry = entries.get(result.getIndex());
+                rejected.increment();
+                lastRejection = describe(entry) + ": " + result.getMessage();
+            }
+        }
+    }
+
+    private static String describe(AttendanceIngestLog.Entry entry) {
+        return (entry.type() == AttendanceIngestLog.CLOCK_IN ? "Clock in" : "Clock out")
+                + " #" + entry.sequence() + " for employee " + entry.employeeId() + " on " + entry.date()
+                + " at " + entry.time();
+    }
+
+    // Failures that say nothing about the events themselves: the database is down or busy, or the schema,
+    // the grants or the SQL are wrong (bad grammar is an InvalidDataAccessResourceUsageException). Every
+    // event would fail the same way, so they stay queued until the cause is fixed.
+    private static boolean isSystemic(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException || e instanceof CannotCreateTransactionException
+                || e instanceof InvalidDataAccessResourceUsageException
+                || e instanceof NonTransientDataAccessResourceException
+                || e instanceof PermissionDeniedDataAccessException
+                || e instanceof InvalidDataAccessApiUsageException;
+    }
+
+    private int queueDepth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    private long flushLagMillis() {
+        AttendanceIngestLog.Entry oldest;
+        synchronized (queue) {
+            oldest = queue.peekFirst();
+        }
+        return oldest != null ? Math.max(0, System.currentTimeMillis() - oldest.acceptedAt()) : 0;
+    }
+
+    private void requireEnabled() {
+        if (wal == null) {
+            throw new BusinessLogicException("Attendance ingestion is disabled; set attendance.ingest.enabled=true");
+        }
+    }
+
+    // The roster is kept current after every committed employee change; before it is seeded the
+    // database answers instead
+    private void requireEmployee(AttendanceDTO event) {
+        if (event == null || event.getEmployeeId() == null) {
+            throw new InvalidAttendanceException("Employee ID is required");
+        }
+        long id = event.getEmployeeId();
+        boolean known = roster.isReady() ? roster.contains(id) : employeeRepository.existsById(id);
+        if (!known) {
+            throw new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package com.dev.backend.service;
 
+import com.dev.backend.config.AttendancePolicy;
+import com.dev.backend.dto.AttendanceBatchResultDTO;
 import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.dto.CursorPageDTO;
+import com.dev.backend.event.AttendanceChangedEvent;
+import com.dev.backend.event.AttendanceSnapshot;
 import com.dev.backend.model.Attendance;
+import com.dev.backend.model.Employee;
 import com.dev.backend.repository.AttendanceRepository;
 import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.repository.projection.AttendanceView;
+import com.dev.backend.repository.projection.EmployeeDateView;
 import com.dev.backend.exception.InvalidAttendanceException;
 import com.dev.backend.exception.EmployeeNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,41 +25,84 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class AttendanceService {
+    private static final int MAX_BATCH_SIZE = 5000;
+    // A multiple of hibernate.jdbc.batch_size so each flush goes out as full JDBC batches
+    private static final int INSERT_FLUSH_SIZE = 500;
+
     private final AttendanceRepository attendanceRepository;
     private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final AttendancePolicy policy;
 
-    public AttendanceService(AttendanceRepository attendanceRepository, EmployeeRepository employeeRepository) {
+    public AttendanceService(AttendanceRepository attendanceRepository, EmployeeRepository employeeRepository,
+                             ApplicationEventPublisher eventPublisher, EntityManager entityManager,
+                             AttendancePolicy policy) {
         this.attendanceRepository = attendanceRepository;
         this.employeeRepository = employeeRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.policy = policy;
     }
 
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getAllAttendances() {
-        return attendanceRepository.findAll().stream()
+        return attendanceRepository.findAllViews().stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AttendanceDTO> getAttendancePage(Long after, int limit) {
+        List<AttendanceView> page = attendanceRepository.findViewPageAfter(after, Limit.of(limit));
+        List<AttendanceDTO> items = page.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
+        return CursorPageDTO.of(items, limit, page.isEmpty() ? null : page.get(page.size() - 1).getId());
     }
 
+    // Hands every record to the sink in id order without materializing the result set.
+    // Rows are projections, so nothing accumulates in the persistence context.
+    @Transactional(readOnly = true)
+    public void streamAllAttendances(Consumer<AttendanceDTO> sink) {
+        try (Stream<AttendanceView> rows = attendanceRepository.streamAllViews()) {
+            rows.forEach(row -> sink.accept(convertToDTO(row)));
+        }
+    }
+
+    @Transactional(readOnly = true)
     public AttendanceDTO getAttendanceById(Long id) {
-        Attendance attendance = attendanceRepository.findById(id)
+        AttendanceView attendance = attendanceRepository.findViewById(id)
                 .orElseThrow(() -> new InvalidAttendanceException("Attendance record not found with id: " + id));
         return convertToDTO(attendance);
     }
 
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getAttendancesByEmployeeId(Long employeeId) {
-        return attendanceRepository.findByEmployeeId(employeeId).stream()
+        return attendanceRepository.findViewsByEmployeeId(employeeId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getAttendancesByDate(LocalDate date) {
-        return attendanceRepository.findByDate(date).stream()
+        return attendanceRepository.findViewsByDate(date).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -55,28 +110,198 @@ public class AttendanceService {
     public AttendanceDTO createAttendance(AttendanceDTO attendanceDTO) {
         validateAttendanceData(attendanceDTO);
         
-        // Check if employee already has attendance for today
-        if (attendanceDTO.getClockIn() != null) {
-            LocalDate attendanceDate = attendanceDTO.getClockIn().toLocalDate();
-            boolean hasExistingAttendance = attendanceRepository.existsByEmployeeIdAndDate(
-                attendanceDTO.getEmployeeId(), attendanceDate);
-            
-            if (hasExistingAttendance) {
-                throw new InvalidAttendanceException("Employee already has attendance record for this date");
-            }
-        }
-        
         Attendance attendance = convertToEntity(attendanceDTO);
-        attendance = attendanceRepository.save(attendance);
+        attendance.setDate(attendanceDate(attendanceDTO));
+        
+        // One record per employee per day is enforced by uk_attendance_employee_date
+        try {
+            attendance = attendanceRepository.saveAndFlush(attendance);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidAttendanceException("Employee already has attendance record for this date");
+        }
+        eventPublisher.publishEvent(AttendanceChangedEvent.created(AttendanceSnapshot.of(attendance)));
         
         return convertToDTO(attendance);
     }
 
+    // Bulk clock-in path: validation and duplicate detection are set-based and the inserts
+    // are JDBC-batched. Rows are reported individually; a bad row never fails the others.
+    public List<AttendanceBatchResultDTO> createAttendanceBatch(List<AttendanceDTO> batch) {
+        if (batch == null || batch.isEmpty()) {
+            throw new InvalidAttendanceException("Attendance batch is empty");
+        }
+        if (batch.size() > MAX_BATCH_SIZE) {
+            throw new InvalidAttendanceException("Attendance batch exceeds " + MAX_BATCH_SIZE + " records");
+        }
+
+        Set<Long> employeeIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (AttendanceDTO row : batch) {
+            if (row != null && row.getEmployeeId() != null && row.getClockIn() != null) {
+                employeeIds.add(row.getEmployeeId());
+                dates.add(attendanceDate(row));
+            }
+        }
+        Map<Long, Employee> employees = employeeRepository.findAllById(employeeIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        Map<Long, Set<LocalDate>> taken = new HashMap<>();
+        if (!employeeIds.isEmpty()) {
+            for (EmployeeDateView existing : attendanceRepository.findEmployeeDates(employeeIds, dates)) {
+                taken.computeIfAbsent(existing.getEmployeeId(), id -> new HashSet<>()).add(existing.getDate());
+            }
+        }
+
+        AttendanceBatchResultDTO[] results = new AttendanceBatchResultDTO[batch.size()];
+        List<Attendance> toInsert = new ArrayList<>();
+        List<Integer> insertIndexes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            AttendanceDTO row = batch.get(i);
+            String problem = validateBatchRow(row, employees, now);
+            if (problem != null) {
+                results[i] = AttendanceBatchResultDTO.rejected(i, problem);
+                continue;
+            }
+            LocalDate date = attendanceDate(row);
+            // Also catches the same employee/date appearing twice within this batch
+            if (!taken.computeIfAbsent(row.getEmployeeId(), id -> new HashSet<>()).add(date)) {
+                results[i] = AttendanceBatchResultDTO.duplicate(i);
+                continue;
+            }
+            Attendance attendance = new Attendance();
+            attendance.setEmployee(employees.get(row.getEmployeeId()));
+            attendance.setDepartment(attendance.getEmployee().getDepartment());
+            attendance.setDate(date);
+            attendance.setClockIn(row.getClockIn());
+            attendance.setClockOut(row.getClockOut());
+            toInsert.add(attendance);
+            insertIndexes.add(i);
+        }
+
+        List<AttendanceSnapshot> inserted = new ArrayList<>(toInsert.size());
+        try {
+            for (int from = 0; from < toInsert.size(); from += INSERT_FLUSH_SIZE) {
+                List<Attendance> chunk = toInsert.subList(from, Math.min(from + INSERT_FLUSH_SIZE, toInsert.size()));
+                attendanceRepository.saveAll(chunk);
+                attendanceRepository.flush();
+                for (int j = 0; j < chunk.size(); j++) {
+                    Attendance attendance = chunk.get(j);
+                    int index = insertIndexes.get(from + j);
+                    results[index] = AttendanceBatchResultDTO.created(index, attendance.getId());
+                    inserted.add(AttendanceSnapshot.of(attendance));
+                }
+                entityManager.clear();
+            }
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent writer claimed one of the rows after the duplicate check; nothing was committed
+            throw new InvalidAttendanceException("Attendance batch conflicts with concurrent updates; retry the batch");
+        }
+
+        inserted.forEach(snapshot -> eventPublisher.publishEvent(AttendanceChangedEvent.created(snapshot)));
+        return List.of(results);
+    }
+
+    // Bulk clock-out path: each row closes the employee's record for the day, found set-based like
+    // the clock-in batch. Re-sending a clock-out already recorded is reported as a duplicate.
+    public List<AttendanceBatchResultDTO> recordClockOutBatch(List<AttendanceDTO> batch) {
+        if (batch == null || batch.isEmpty()) {
+            throw new InvalidAttendanceException("Attendance batch is empty");
+        }
+        if (batch.size() > MAX_BATCH_SIZE) {
+            throw new InvalidAttendanceException("Attendance batch exceeds " + MAX_BATCH_SIZE + " records");
+        }
+
+        Set<Long> employeeIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (AttendanceDTO row : batch) {
+            if (row != null && row.getEmployeeId() != null && row.getClockOut() != null) {
+                employeeIds.add(row.getEmployeeId());
+                dates.add(clockOutDate(row));
+            }
+        }
+        Map<Long, Map<LocalDate, Attendance>> open = new HashMap<>();
+        if (!employeeIds.isEmpty()) {
+            for (Attendance attendance : attendanceRepository.findByEmployeeIdsAndDates(employeeIds, dates)) {
+                open.computeIfAbsent(attendance.getEmployee().getId(), id -> new HashMap<>())
+                        .put(attendance.getDate(), attendance);
+            }
+        }
+
+        AttendanceBatchResultDTO[] results = new AttendanceBatchResultDTO[batch.size()];
+        List<AttendanceChangedEvent> changes = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            AttendanceDTO row = batch.get(i);
+            if (row == null || row.getEmployeeId() == null || row.getClockOut() == null) {
+                results[i] = AttendanceBatchResultDTO.rejected(i, "Employee ID and clock out time are required");
+                continue;
+            }
+            Attendance attendance = open.getOrDefault(row.getEmployeeId(), Map.of()).get(clockOutDate(row));
+            if (attendance == null) {
+                results[i] = AttendanceBatchResultDTO.rejected(i, "No clock in recorded for this date");
+                continue;
+            }
+            if (row.getClockOut().equals(attendance.getClockOut())) {
+                results[i] = new AttendanceBatchResultDTO(i, AttendanceBatchResultDTO.DUPLICATE, attendance.getId(),
+                        "Clock out already recorded");
+                continue;
+            }
+            if (row.getClockOut().isBefore(attendance.getClockIn())) {
+                results[i] = AttendanceBatchResultDTO.rejected(i, "Clock out time cannot be before clock in time");
+                continue;
+            }
+            // Same rule as updateAttendance: the first clock-out has to complete a minimum day
+            if (attendance.getClockOut() == null
+                    && Duration.between(attendance.getClockIn(), row.getClockOut()).toHours() < 4) {
+                results[i] = AttendanceBatchResultDTO.rejected(i, "Minimum working hours (4 hours) not met");
+                continue;
+            }
+            AttendanceSnapshot previous = AttendanceSnapshot.of(attendance);
+            attendance.setClockOut(row.getClockOut());
+            changes.add(AttendanceChangedEvent.updated(previous, AttendanceSnapshot.of(attendance)));
+            results[i] = AttendanceBatchResultDTO.updated(i, attendance.getId());
+        }
+        attendanceRepository.flush();
+
+        changes.forEach(eventPublisher::publishEvent);
+        return List.of(results);
+    }
+
+    private LocalDate clockOutDate(AttendanceDTO attendanceDTO) {
+        return attendanceDTO.getDate() != null ? attendanceDTO.getDate() : attendanceDTO.getClockOut().toLocalDate();
+    }
+
+    private String validateBatchRow(AttendanceDTO row, Map<Long, Employee> employees, LocalDateTime now) {
+        if (row == null) {
+            return "Attendance record is required";
+        }
+        if (row.getEmployeeId() == null) {
+            return "Employee ID is required";
+        }
+        if (!employees.containsKey(row.getEmployeeId())) {
+            return "Employee not found with id: " + row.getEmployeeId();
+        }
+        if (row.getClockIn() == null) {
+            return "Clock in time is required";
+        }
+        if (row.getClockIn().isAfter(now)) {
+            return "Clock in time cannot be in the future";
+        }
+        if (row.getClockOut() != null && row.getClockOut().isBefore(row.getClockIn())) {
+            return "Clock out time cannot be before clock in time";
+        }
+        return null;
+    }
+
+    private LocalDate attendanceDate(AttendanceDTO attendanceDTO) {
+        return attendanceDTO.getDate() != null ? attendanceDTO.getDate() : attendanceDTO.getClockIn().toLocalDate();
+    }
+
     public AttendanceDTO updateAttendance(Long id, AttendanceDTO attendanceDTO) {
         Attendance existingAttendance = attendanceRepository.findById(id)
                 .orElseThrow(() -> new InvalidAttendanceException("Attendance record not found with id: " + id));
         
         validateAttendanceData(attendanceDTO);
+        AttendanceSnapshot previous = AttendanceSnapshot.of(existingAttendance);
         
         // Business logic for clock out
         if (attendanceDTO.getClockOut() != null && existingAttendance.getClockOut() == null) {
@@ -94,6 +319,7 @@ public class AttendanceService {
         
         existingAttendance.setClockOut(attendanceDTO.getClockOut());
         existingAttendance = attendanceRepository.save(existingAttendance);
+        eventPublisher.publishEvent(AttendanceChangedEvent.updated(previous, AttendanceSnapshot.of(existingAttendance)));
         
         return convertToDTO(existingAttendance);
     }
@@ -108,39 +334,42 @@ public class AttendanceService {
         }
         
         attendanceRepository.deleteById(id);
+        eventPublisher.publishEvent(AttendanceChangedEvent.deleted(AttendanceSnapshot.of(attendance)));
     }
 
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getTodayAttendance() {
-        return attendanceRepository.findByDate(LocalDate.now()).stream()
+        return attendanceRepository.findViewsByDate(LocalDate.now()).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getAttendanceByDateRange(LocalDate startDate, LocalDate endDate) {
-        return attendanceRepository.findByDateBetween(startDate, endDate).stream()
+        return attendanceRepository.findViewsByDateBetween(startDate, endDate).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getLateArrivals(LocalDate date) {
-        LocalDateTime lateThreshold = date.atTime(9, 30); // 9:30 AM
-        return attendanceRepository.findByDate(date).stream()
-                .filter(attendance -> attendance.getClockIn().isAfter(lateThreshold))
+        LocalDateTime lateThreshold = date.atTime(policy.getLateArrivalCutoff());
+        return attendanceRepository.findViewsByDateAndClockInAfter(date, lateThreshold).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getOvertimeEmployees(LocalDate date) {
-        LocalDateTime overtimeThreshold = date.atTime(18, 0); // 6:00 PM
-        return attendanceRepository.findByDate(date).stream()
-                .filter(attendance -> attendance.getClockOut() != null && 
-                        attendance.getClockOut().isAfter(overtimeThreshold))
+        LocalDateTime overtimeThreshold = date.atTime(policy.getOvertimeStart());
+        return attendanceRepository.findViewsByDateAndClockOutAfter(date, overtimeThreshold).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public AttendanceDTO getEmployeeTodayAttendance(Long employeeId) {
-        return attendanceRepository.findByEmployeeIdAndDate(employeeId, LocalDate.now())
+        return attendanceRepository.findViewByEmployeeIdAndDate(employeeId, LocalDate.now())
                 .map(this::convertToDTO)
                 .orElse(null);
     }
@@ -171,24 +400,35 @@ public class AttendanceService {
     }
 
     private AttendanceDTO convertToDTO(Attendance attendance) {
+        return convertToDTO(attendance.getId(), attendance.getEmployee().getId(), attendance.getEmployee().getName(),
+                attendance.getDate(), attendance.getClockIn(), attendance.getClockOut());
+    }
+
+    private AttendanceDTO convertToDTO(AttendanceView attendance) {
+        return convertToDTO(attendance.getId(), attendance.getEmployeeId(), attendance.getEmployeeName(),
+                attendance.getDate(), attendance.getClockIn(), attendance.getClockOut());
+    }
+
+    private AttendanceDTO convertToDTO(Long id, Long employeeId, String employeeName, LocalDate date,
+                                       LocalDateTime clockIn, LocalDateTime clockOut) {
         Duration totalHours = null;
-        if (attendance.getClockOut() != null) {
-            totalHours = Duration.between(attendance.getClockIn(), attendance.getClockOut());
+        if (clockOut != null) {
+            totalHours = Duration.between(clockIn, clockOut);
         }
         
-        boolean isLate = attendance.getClockIn().toLocalTime().isAfter(java.time.LocalTime.of(9, 0));
-        boolean isOvertime = attendance.getClockOut() != null && 
-                attendance.getClockOut().toLocalTime().isAfter(java.time.LocalTime.of(18, 0));
+        boolean isLate = clockIn.toLocalTime().isAfter(policy.getLateMarkTime());
+        boolean isOvertime = clockOut != null && 
+                clockOut.toLocalTime().isAfter(policy.getOvertimeStart());
         
-        String status = determineStatus(attendance, isLate, isOvertime);
+        String status = determineStatus(clockIn, clockOut, isLate);
         
         return AttendanceDTO.builder()
-                .id(attendance.getId())
-                .employeeId(attendance.getEmployee().getId())
-                .employeeName(attendance.getEmployee().getName())
-                .date(attendance.getDate())
-                .clockIn(attendance.getClockIn())
-                .clockOut(attendance.getClockOut())
+                .id(id)
+                .employeeId(employeeId)
+                .employeeName(employeeName)
+                .date(date)
+                .clockIn(clockIn)
+                .clockOut(clockOut)
                 .totalHours(totalHours)
                 .status(status)
                 .isLate(isLate)
@@ -196,7 +436,7 @@ public class AttendanceService {
                 .notes("")
                 .location("Office")
                 .workMode("OFFICE")
-                .overtimeHours(isOvertime ? calculateOvertimeHours(attendance) : 0.0)
+                .overtimeHours(isOvertime ? calculateOvertimeHours(date, clockOut) : 0.0)
                 .isHoliday(false)
                 .holidayReason("")
                 .build();
@@ -208,15 +448,20 @@ public class AttendanceService {
         attendance.setClockIn(attendanceDTO.getClockIn());
         attendance.setClockOut(attendanceDTO.getClockOut());
         
-        // Set employee
-        employeeRepository.findById(attendanceDTO.getEmployeeId())
-                .ifPresent(attendance::setEmployee);
+        // Existence was checked in validateAttendanceData; a reference avoids loading the employee graph
+        attendance.setEmployee(employeeRepository.getReferenceById(attendanceDTO.getEmployeeId()));
+        // The record keeps the department it was written in, whatever transfers come later
+        attendance.setDepartment(employeeRepository.findDepartmentById(attendanceDTO.getEmployeeId()).orElse(null));
         
         return attendance;
     }
 
-    private String determineStatus(Attendance attendance, boolean isLate, boolean isOvertime) {
-        if (attendance.getClockOut() == null) {
+    public String determineStatus(LocalDateTime clockIn, LocalDateTime clockOut) {
+        return determineStatus(clockIn, clockOut, clockIn.toLocalTime().isAfter(policy.getLateMarkTime()));
+    }
+
+    private String determineStatus(LocalDateTime clockIn, LocalDateTime clockOut, boolean isLate) {
+        if (clockOut == null) {
             return "PRESENT";
         }
         
@@ -224,7 +469,7 @@ public class AttendanceService {
             return "LATE";
         }
         
-        Duration workingHours = Duration.between(attendance.getClockIn(), attendance.getClockOut());
+        Duration workingHours = Duration.between(clockIn, clockOut);
         if (workingHours.toHours() < 4) {
             return "HALF_DAY";
         }
@@ -232,12 +477,12 @@ public class AttendanceService {
         return "PRESENT";
     }
 
-    private Double calculateOvertimeHours(Attendance attendance) {
-        if (attendance.getClockOut() == null) return 0.0;
+    private Double calculateOvertimeHours(LocalDate date, LocalDateTime clockOut) {
+        if (clockOut == null) return 0.0;
         
-        LocalDateTime overtimeStart = attendance.getDate().atTime(18, 0);
-        if (attendance.getClockOut().isAfter(overtimeStart)) {
-            Duration overtime = Duration.between(overtimeStart, attendance.getClockOut());
+        LocalDateTime overtimeStart = date.atTime(policy.getOvertimeStart());
+        if (clockOut.isAfter(overtimeStart)) {
+            Duration overtime = Duration.between(overtimeStart, clockOut);
             return overtime.toMinutes() / 60.0;
         }
         
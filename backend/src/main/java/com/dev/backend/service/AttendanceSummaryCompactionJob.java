@@ -0,0 +1,34 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.AttendanceSummaryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+public class AttendanceSummaryCompactionJob {
+    private static final Logger log = LoggerFactory.getLogger(AttendanceSummaryCompactionJob.class);
+
+    private final AttendanceSummaryService summaryService;
+    private final AttendanceSummaryProperties properties;
+
+    public AttendanceSummaryCompactionJob(AttendanceSummaryService summaryService,
+                                          AttendanceSummaryProperties properties) {
+        this.summaryService = summaryService;
+        this.properties = properties;
+    }
+
+    // Closes yesterday (absences filled in) and re-derives the days before it, which may have been corrected since
+    @Scheduled(cron = "${attendance.summary.compaction-cron:0 30 1 * * *}")
+    public void compact() {
+        LocalDate endDate = LocalDate.now().minusDays(1);
+        LocalDate startDate = endDate.minusDays(Math.max(1, properties.getCompactionLookbackDays()) - 1L);
+        long started = System.nanoTime();
+        int rows = summaryService.compact(startDate, endDate);
+        log.info("Compacted daily attendance summary {} to {}: {} rows in {} ms",
+                startDate, endDate, rows, (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,360 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.AttendancePolicy;
+import com.dev.backend.config.AttendanceSummaryProperties;
+import com.dev.backend.dto.AttendancePeriodSummaryDTO;
+import com.dev.backend.event.AttendanceChangedEvent;
+import com.dev.backend.event.AttendanceSnapshot;
+import com.dev.backend.exception.InvalidAttendanceException;
+import com.dev.backend.model.DailyAttendanceSummary;
+import com.dev.backend.repository.AttendanceRepository;
+import com.dev.backend.repository.DailyAttendanceSummaryRepository;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.repository.projection.AttendanceDepartmentTimesView;
+import com.dev.backend.repository.projection.AttendanceTotalsView;
+import com.dev.backend.repository.projection.EmployeeDepartmentView;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Keeps daily_attendance_summary in step with attendance writes and serves range reports from it,
+// so month and year views cost one row per day and department instead of one per attendance record.
+// Changes are collected for the whole writing transaction and applied just before it commits, one
+// upsert per touched day and department, which keeps the batch upload path from issuing one per row.
+@Service
+@Transactional
+public class AttendanceSummaryService {
+    private static final Logger log = LoggerFactory.getLogger(AttendanceSummaryService.class);
+    private static final int PERSIST_BATCH_SIZE = 500;
+
+    private final DailyAttendanceSummaryRepository summaryRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AttendanceService attendanceService;
+    private final AttendancePolicy policy;
+    private final AttendanceSummaryProperties properties;
+    private final EntityManager entityManager;
+
+    // Transaction resource key for the changes not yet applied
+    private final Object pendingKey = new Object();
+
+    public AttendanceSummaryService(DailyAttendanceSummaryRepository summaryRepository,
+                                    AttendanceRepository attendanceRepository,
+                                    EmployeeRepository employeeRepository,
+                                    AttendanceService attendanceService,
+                                    AttendancePolicy policy,
+                                    AttendanceSummaryProperties properties,
+                                    EntityManager entityManager) {
+        this.summaryRepository = summaryRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.employeeRepository = employeeRepository;
+        this.attendanceService = attendanceService;
+        this.policy = policy;
+        this.properties = properties;
+        this.entityManager = entityManager;
+    }
+
+    @EventListener
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        List<Change> pending = pendingChanges();
+        if (event.getPrevious() != null) {
+            pending.add(new Change(event.getPrevious(), -1));
+        }
+        if (event.getCurrent() != null) {
+            pending.add(new Change(event.getCurrent(), 1));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttendancePeriodSummaryDTO> getDailySummary(LocalDate startDate, LocalDate endDate, String department) {
+        validateRange(startDate, endDate);
+        List<AttendancePeriodSummaryDTO> days = new ArrayList<>();
+        for (AttendanceTotalsView row : totalsByDate(startDate, endDate, department)) {
+            Totals totals = new Totals();
+            totals.add(row);
+            days.add(totals.toDTO(row.getSummaryDate(), row.getSummaryDate(), department));
+        }
+        return days;
+    }
+
+    // All twelve months of the year, months without attendance included with zero counts
+    @Transactional(readOnly = true)
+    public List<AttendancePeriodSummaryDTO> getMonthlySummary(int year, String department) {
+        if (year < 1900 || year > 9999) {
+            throw new InvalidAttendanceException("Year must be between 1900 and 9999");
+        }
+        Map<YearMonth, Totals> months = new HashMap<>();
+        for (AttendanceTotalsView row : totalsByDate(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), department)) {
+            months.computeIfAbsent(YearMonth.from(row.getSummaryDate()), month -> new Totals()).add(row);
+        }
+        List<AttendancePeriodSummaryDTO> summary = new ArrayList<>(12);
+        for (int month = 1; month <= 12; month++) {
+            YearMonth yearMonth = YearMonth.of(year, month);
+            summary.add(months.getOrDefault(yearMonth, new Totals())
+                    .toDTO(yearMonth.atDay(1), yearMonth.atEndOfMonth(), department));
+        }
+        return summary;
+    }
+
+    // One day, company-wide
+    @Transactional(readOnly = true)
+    public AttendancePeriodSummaryDTO getTotals(LocalDate date) {
+        return getTotals(date, date, null);
+    }
+
+    @Transactional(readOnly = true)
+    public AttendancePeriodSummaryDTO getTotals(LocalDate startDate, LocalDate endDate, String department) {
+        Totals totals = new Totals();
+        totalsByDate(startDate, endDate, department).forEach(totals::add);
+        return totals.toDTO(startDate, endDate, department);
+    }
+
+    // Recomputes the range from attendance and replaces what the summary holds for it. Days before
+    // today are marked compacted and get their absences filled in; today keeps absent at zero.
+    // Writes to the range that commit while this runs are only picked up by the next compaction.
+    public int compact(LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        Map<DailyAttendanceSummary.Key, DayCounts> buckets = new HashMap<>();
+        try (Stream<AttendanceDepartmentTimesView> rows =
+                     attendanceRepository.streamDepartmentTimesByDateBetween(startDate, endDate)) {
+            rows.forEach(row -> {
+                if (row.getDate() != null && row.getClockIn() != null) {
+                    buckets.computeIfAbsent(key(row.getDate(), row.getDepartment()), key -> new DayCounts())
+                            .record(row.getDate(), row.getClockIn(), row.getClockOut(), 1);
+                }
+            });
+        }
+        LocalDate lastClosed = endDate.isBefore(today) ? endDate : today.minusDays(1);
+        if (!lastClosed.isBefore(startDate)) {
+            addAbsences(buckets, lastClosed);
+        }
+
+        summaryRepository.deleteByDateBetween(startDate, endDate);
+        int written = 0;
+        for (Map.Entry<DailyAttendanceSummary.Key, DayCounts> bucket : buckets.entrySet()) {
+            DailyAttendanceSummary.Key key = bucket.getKey();
+            DayCounts counts = bucket.getValue();
+            entityManager.persist(new DailyAttendanceSummary(key.getSummaryDate(), key.getDepartment(),
+                    counts.present, counts.late, counts.halfDay, counts.absent, counts.overtimeMinutes,
+                    key.getSummaryDate().isBefore(today)));
+            if (++written % PERSIST_BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return written;
+    }
+
+    // Attendance loaded outside the application (restores, synthetic data) is summarised once on startup
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (summaryRepository.count() > 0) {
+            return;
+        }
+        LocalDate earliest = attendanceRepository.findEarliestDate();
+        if (earliest == null) {
+            return;
+        }
+        int rows = compact(earliest, LocalDate.now());
+        log.info("Built daily attendance summary from {}: {} rows", earliest, rows);
+    }
+
+    private List<AttendanceTotalsView> totalsByDate(LocalDate startDate, LocalDate endDate, String department) {
+        return department != null
+                ? summaryRepository.sumByDateForDepartment(startDate, endDate, department)
+                : summaryRepository.sumByDate(startDate, endDate);
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidAttendanceException("End date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= properties.getMaxRangeDays()) {
+            throw new InvalidAttendanceException("Date range cannot exceed " + properties.getMaxRangeDays() + " days");
+        }
+    }
+
+    // Everyone who had joined a department by a working day and has no attendance that day is absent.
+    // A day nobody clocked in on is taken as a non-working day and records no absences.
+    private void addAbsences(Map<DailyAttendanceSummary.Key, DayCounts> buckets, LocalDate lastClosed) {
+        Set<LocalDate> workingDays = new HashSet<>();
+        for (DailyAttendanceSummary.Key key : buckets.keySet()) {
+            if (!key.getSummaryDate().isAfter(lastClosed)) {
+                workingDays.add(key.getSummaryDate());
+            }
+        }
+        if (workingDays.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<LocalDate>> joinDates = new HashMap<>();
+        for (EmployeeDepartmentView employee : employeeRepository.findAllDepartmentViews()) {
+            joinDates.computeIfAbsent(departmentOrUnassigned(employee.getDepartment()), department -> new ArrayList<>())
+                    .add(employee.getJoinDate() != null ? employee.getJoinDate() : LocalDate.MIN);
+        }
+        joinDates.values().forEach(Collections::sort);
+
+        for (LocalDate day : workingDays) {
+            for (Map.Entry<String, List<LocalDate>> department : joinDates.entrySet()) {
+                int headcount = countJoinedBy(department.getValue(), day);
+                DailyAttendanceSummary.Key key = new DailyAttendanceSummary.Key(day, department.getKey());
+                DayCounts counts = buckets.get(key);
+                int recorded = counts != null ? counts.present + counts.late + counts.halfDay : 0;
+                if (headcount > recorded) {
+                    if (counts == null) {
+                        counts = new DayCounts();
+                        buckets.put(key, counts);
+                    }
+                    counts.absent = headcount - recorded;
+                }
+            }
+        }
+    }
+
+    // Join dates are sorted, so this is the index of the first one after the day
+    private static int countJoinedBy(List<LocalDate> joinDates, LocalDate day) {
+        int low = 0;
+        int high = joinDates.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (joinDates.get(mid).isAfter(day)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private List<Change> pendingChanges() {
+        @SuppressWarnings("unchecked")
+        List<Change> pending = (List<Change>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending == null) {
+            List<Change> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingKey, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    apply(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                }
+            });
+            pending = changes;
+        }
+        return pending;
+    }
+
+    private void apply(List<Change> changes) {
+        // Each record counts towards the department stamped on it, so an edit after a transfer takes the
+        // record out of the bucket it was counted in
+        Map<DailyAttendanceSummary.Key, DayCounts> deltas = new HashMap<>();
+        for (Change change : changes) {
+            AttendanceSnapshot snapshot = change.snapshot;
+            if (snapshot.getDate() == null || snapshot.getClockIn() == null) {
+                continue;
+            }
+            deltas.computeIfAbsent(key(snapshot.getDate(), snapshot.getDepartment()), key -> new DayCounts())
+                    .record(snapshot.getDate(), snapshot.getClockIn(), snapshot.getClockOut(), change.sign);
+        }
+
+        deltas.forEach((key, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+            summaryRepository.upsertDelta(key.getSummaryDate(), key.getDepartment(),
+                    delta.present, delta.late, delta.halfDay, delta.overtimeMinutes);
+        });
+    }
+
+    private static DailyAttendanceSummary.Key key(LocalDate date, String department) {
+        return new DailyAttendanceSummary.Key(date, departmentOrUnassigned(department));
+    }
+
+    private static String departmentOrUnassigned(String department) {
+        return department != null ? department : DailyAttendanceSummary.UNASSIGNED;
+    }
+
+    private static final class Change {
+        final AttendanceSnapshot snapshot;
+        final int sign;
+
+        Change(AttendanceSnapshot snapshot, int sign) {
+            this.snapshot = snapshot;
+            this.sign = sign;
+        }
+    }
+
+    private final class DayCounts {
+        int present;
+        int late;
+        int halfDay;
+        int absent;
+        long overtimeMinutes;
+
+        // Same classification as the attendance DTOs
+        void record(LocalDate date, LocalDateTime clockIn, LocalDateTime clockOut, int sign) {
+            switch (attendanceService.determineStatus(clockIn, clockOut)) {
+                case "LATE" -> late += sign;
+                case "HALF_DAY" -> halfDay += sign;
+                default -> present += sign;
+            }
+            LocalDateTime overtimeStart = date.atTime(policy.getOvertimeStart());
+            if (clockOut != null && clockOut.isAfter(overtimeStart)) {
+                overtimeMinutes += sign * Duration.between(overtimeStart, clockOut).toMinutes();
+            }
+        }
+
+        boolean isEmpty() {
+            return present == 0 && late == 0 && halfDay == 0 && absent == 0 && overtimeMinutes == 0;
+        }
+    }
+
+    private static final class Totals {
+        long present;
+        long late;
+        long halfDay;
+        long absent;
+        long overtimeMinutes;
+
+        void add(AttendanceTotalsView row) {
+            present += valueOf(row.getPresent());
+            late += valueOf(row.getLate());
+            halfDay += valueOf(row.getHalfDay());
+            absent += valueOf(row.getAbsent());
+            overtimeMinutes += valueOf(row.getOvertimeMinutes());
+        }
+
+        AttendancePeriodSummaryDTO toDTO(LocalDate startDate, LocalDate endDate, String department) {
+            return new AttendancePeriodSummaryDTO(startDate, endDate, department,
+                    present, late, halfDay, absent, overtimeMinutes);
+        }
+
+        private static long valueOf(Long value) {
+            return value != null ? value : 0L;
+        }
+    }
+}
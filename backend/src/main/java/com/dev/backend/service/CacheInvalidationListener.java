@@ -0,0 +1,62 @@
+package com.dev.backend.service;
+
+import com.dev.backend.event.AttendanceChangedEvent;
+import com.dev.backend.event.EmployeeChangedEvent;
+import com.dev.backend.event.PerformanceChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Employee DTOs embed scores and attendance rates, so any domain write invalidates the derived caches
+@Component
+public class CacheInvalidationListener {
+    private final CacheService cacheService;
+
+    public CacheInvalidationListener(CacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    @Order(ChangeVersionRegistry.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        evictDerivedCaches();
+    }
+
+    @Order(ChangeVersionRegistry.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        evictDerivedCaches();
+    }
+
+    @Order(ChangeVersionRegistry.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPerformanceChanged(PerformanceChangedEvent event) {
+        evictDerivedCaches();
+    }
+
+    // For changes without a domain event, paired with ChangeVersionRegistry.employeesChanged(): user accounts
+    // and reloaded aggregates both show up in the employee DTOs, and the eviction must land before the bump
+    public void employeesChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return ChangeVersionRegistry.INVALIDATION_ORDER;
+                }
+
+                @Override
+                public void afterCommit() {
+                    evictDerivedCaches();
+                }
+            });
+        } else {
+            evictDerivedCaches();
+        }
+    }
+
+    private void evictDerivedCaches() {
+        cacheService.evictAll(EmployeeService.EMPLOYEES_CACHE);
+    }
+}
@@ -1,59 +1,47 @@
 package com.dev.backend.service;
 
-import org.springframework.cache.annotation.Cacheable;
+import com.dev.backend.cache.BoundedCache;
+import com.dev.backend.cache.BoundedCacheManager;
+import com.dev.backend.cache.CacheStats;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.List;
 
 @Service
 public class CacheService {
-    
-    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
-    
-    @Cacheable(value = "dashboardStats", key = "'dashboard'")
-    public String getCachedDashboardStats() {
-        // This would be used with Spring Cache annotations
-        return "cached_dashboard_stats";
+    // Cache backing the ad-hoc put/get API; annotation-driven caches live alongside it in the same manager
+    static final String DEFAULT_CACHE = "default";
+
+    private final BoundedCacheManager cacheManager;
+    private final BoundedCache<Object, Object> cache;
+
+    public CacheService(BoundedCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+        this.cache = cacheManager.getBoundedCache(DEFAULT_CACHE);
     }
     
     public void put(String key, Object value, long ttlMinutes) {
-        cache.put(key, new CacheEntry(value, LocalDateTime.now().plusMinutes(ttlMinutes)));
+        cache.put(key, value, Duration.ofMinutes(ttlMinutes));
     }
     
     public Object get(String key) {
-        CacheEntry entry = cache.get(key);
-        if (entry != null && entry.isExpired()) {
-            cache.remove(key);
-            return null;
-        }
-        return entry != null ? entry.getValue() : null;
+        return cache.get(key);
     }
     
     public void evict(String key) {
-        cache.remove(key);
+        cache.evict(key);
     }
     
     public void clear() {
         cache.clear();
     }
-    
-    private static class CacheEntry {
-        private final Object value;
-        private final LocalDateTime expiryTime;
-        
-        public CacheEntry(Object value, LocalDateTime expiryTime) {
-            this.value = value;
-            this.expiryTime = expiryTime;
-        }
-        
-        public Object getValue() {
-            return value;
-        }
-        
-        public boolean isExpired() {
-            return LocalDateTime.now().isAfter(expiryTime);
-        }
+
+    public void evictAll(String cacheName) {
+        cacheManager.getBoundedCache(cacheName).clear();
+    }
+
+    public List<CacheStats> getStatistics() {
+        return cacheManager.getStatistics();
     }
 }
@@ -0,0 +1,135 @@
+package com.dev.backend.service;
+
+import com.dev.backend.event.AttendanceChangedEvent;
+import com.dev.backend.event.AttendanceSnapshot;
+import com.dev.backend.event.EmployeeChangedEvent;
+import com.dev.backend.event.PerformanceChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Change versions per aggregate, bumped once a write has committed and turned into strong ETags by
+// the polled read endpoints. All versions come from one sequence, so a value is never reused within
+// a process; the start time in every tag keeps tags from an earlier process from matching.
+// Readers must take the tag before loading the data it describes.
+@Component
+public class ChangeVersionRegistry {
+    // After-commit listeners that rebuild in-memory state run at REBUILD_ORDER, then those that evict
+    // caches filled from that state at INVALIDATION_ORDER, both ahead of the version bumps, so a reader
+    // holding a new tag never loads data cached before the write. Live event pushes keep the default
+    // order and go out last.
+    public static final int REBUILD_ORDER = Ordered.LOWEST_PRECEDENCE - 300;
+    public static final int INVALIDATION_ORDER = Ordered.LOWEST_PRECEDENCE - 200;
+    static final int VERSION_ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    // Attendance dates tracked individually; older ones share a floor version once this is exceeded
+    static final int MAX_TRACKED_DATES = 400;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long employees;
+    private volatile long performance;
+    private volatile long attendance;
+    private final Map<LocalDate, Long> attendanceByDate = new ConcurrentHashMap<>();
+    private volatile long attendanceFloor;
+
+    @Order(VERSION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        employees = sequence.incrementAndGet();
+    }
+
+    @Order(VERSION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPerformanceChanged(PerformanceChangedEvent event) {
+        performance = sequence.incrementAndGet();
+    }
+
+    @Order(VERSION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        long version = sequence.incrementAndGet();
+        attendance = version;
+        touchDate(event.getPrevious(), version);
+        touchDate(event.getCurrent(), version);
+        if (attendanceByDate.size() > MAX_TRACKED_DATES) {
+            forgetOldestDates();
+        }
+    }
+
+    // For changes without a domain event: user accounts show up in employee views through their role, and a
+    // reloaded dashboard aggregate can change the employee filters as well as the dashboard
+    public void employeesChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return VERSION_ORDER;
+                }
+
+                @Override
+                public void afterCommit() {
+                    employees = sequence.incrementAndGet();
+                }
+            });
+        } else {
+            employees = sequence.incrementAndGet();
+        }
+    }
+
+    // Employee DTOs embed review scores and attendance rates, and the rates depend on the current date
+    public String employeesTag() {
+        return tag("employees-" + LocalDate.now(), employees, performance, attendance);
+    }
+
+    public String performanceTag() {
+        return tag("performance", performance, employees);
+    }
+
+    public String attendanceTag(LocalDate date) {
+        return tag("attendance-" + date, attendanceByDate.getOrDefault(date, attendanceFloor), employees);
+    }
+
+    // Part of the dashboard depends on the current date as well as on the data
+    public String dashboardTag(LocalDate today) {
+        return tag("dashboard-" + today, employees, performance, attendance);
+    }
+
+    private void touchDate(AttendanceSnapshot snapshot, long version) {
+        if (snapshot != null && snapshot.getDate() != null) {
+            attendanceByDate.merge(snapshot.getDate(), version, Math::max);
+        }
+    }
+
+    // Forgotten dates fall back to the floor, which is at least as new as any version they had
+    private synchronized void forgetOldestDates() {
+        if (attendanceByDate.size() <= MAX_TRACKED_DATES) {
+            return;
+        }
+        List<LocalDate> dates = new ArrayList<>(attendanceByDate.keySet());
+        Collections.sort(dates);
+        attendanceFloor = sequence.get();
+        for (LocalDate date : dates.subList(0, dates.size() - MAX_TRACKED_DATES / 2)) {
+            attendanceByDate.remove(date);
+        }
+    }
+
+    private String tag(String name, long... versions) {
+        StringBuilder tag = new StringBuilder("\"").append(name).append('-').append(epoch);
+        for (long version : versions) {
+            tag.append('-').append(version);
+        }
+        return tag.append('"').toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.dev.backend.service;
+
+import com.dev.backend.repository.AttendanceRepository;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.repository.PerformanceRepository;
+import com.dev.backend.repository.projection.AttendanceTimesView;
+import com.dev.backend.repository.projection.EmployeeCountView;
+import com.dev.backend.repository.projection.EmployeeSummaryView;
+import com.dev.backend.repository.projection.LatestReviewView;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+// Computes dashboard aggregates from the database with a handful of set-based queries.
+// Used to seed DashboardAggregateStore and to reconcile it.
+@Service
+@Transactional(readOnly = true)
+public class DashboardAggregateLoader {
+    private final EmployeeRepository employeeRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final PerformanceRepository performanceRepository;
+    private final AttendanceService attendanceService;
+
+    public DashboardAggregateLoader(EmployeeRepository employeeRepository,
+                                    AttendanceRepository attendanceRepository,
+                                    PerformanceRepository performanceRepository,
+                                    AttendanceService attendanceService) {
+        this.employeeRepository = employeeRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.performanceRepository = performanceRepository;
+        this.attendanceService = attendanceService;
+    }
+
+    DashboardAggregateState load(LocalDate day) {
+        DashboardAggregateState state = new DashboardAggregateState(day);
+
+        Map<Long, DashboardAggregateState.EmployeeEntry> entries = new HashMap<>();
+        for (EmployeeSummaryView employee : employeeRepository.findAllSummaries()) {
+            entries.put(employee.getId(), new DashboardAggregateState.EmployeeEntry(employee.getId(),
+                    employee.getName(), employee.getDesignation(), employee.getDepartment(), employee.getJoinDate()));
+        }
+
+        for (LatestReviewView review : performanceRepository.findLatestReviews()) {
+            DashboardAggregateState.EmployeeEntry entry = entries.get(review.getEmployeeId());
+            // Same-day ties: keep the newest review, like the per-employee lookup does
+            if (entry != null && (entry.latestReviewId == null || review.getReviewId() > entry.latestReviewId)) {
+                entry.latestScore = review.getScore();
+                entry.latestReviewId = review.getReviewId();
+                entry.latestReviewDate = review.getReviewDate();
+            }
+        }
+
+        for (EmployeeCountView count : attendanceRepository.countByDateBetweenGroupedByEmployee(state.windowStart, day)) {
+            DashboardAggregateState.EmployeeEntry entry = entries.get(count.getEmployeeId());
+            if (entry != null) {
+                entry.presentDays = count.getTotal();
+            }
+        }
+
+        entries.values().forEach(state::addEmployee);
+
+        // Per-employee present days are already loaded above, so month rows only feed the day/month counters
+        for (AttendanceTimesView attendance : attendanceRepository.findTimesByDateBetween(state.monthStart, day)) {
+            String status = attendanceService.determineStatus(attendance.getClockIn(), attendance.getClockOut());
+            state.recordAttendance(null, attendance.getDate(), status, 1);
+        }
+
+        return state;
+    }
+}
@@ -0,0 +1,307 @@
+package com.dev.backend.service;
+
+import com.dev.backend.dto.DashboardStatsDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+// Running aggregates behind the dashboard. Not thread-safe: DashboardAggregateStore guards every access.
+class DashboardAggregateState {
+
+    static final class EmployeeEntry {
+        final Long id;
+        String name;
+        String designation;
+        String department;
+        LocalDate joinDate;
+        Integer latestScore;
+        Long latestReviewId;
+        LocalDate latestReviewDate;
+        long presentDays;
+        int attendanceRate;
+
+        EmployeeEntry(Long id, String name, String designation, String department, LocalDate joinDate) {
+            this.id = id;
+            this.name = name;
+            this.designation = designation;
+            this.department = department;
+            this.joinDate = joinDate;
+        }
+
+        double performanceScore() {
+            // Same default as EmployeeService for employees without a review
+            return latestScore != null ? latestScore / 10.0 : 8.5;
+        }
+
+        // Mock values, derived from the id so they stay stable across reconciliations
+        int totalProjects() {
+            return 5 + (int) (id % 10);
+        }
+
+        int completedProjects() {
+            return 3 + (int) (id % 5);
+        }
+    }
+
+    private static final Comparator<EmployeeEntry> BY_PERFORMANCE =
+            Comparator.comparingDouble(EmployeeEntry::performanceScore).reversed()
+                    .thenComparing(entry -> entry.id);
+
+    private static final int TOP_PERFORMERS = 5;
+
+    final LocalDate day;
+    final LocalDate windowStart;
+    final LocalDate monthStart;
+
+    private final Map<Long, EmployeeEntry> employees = new HashMap<>();
+    private final Map<String, Integer> departmentCounts = new HashMap<>();
+    private final Map<String, Integer> performanceDistribution = new HashMap<>();
+    private final TreeSet<EmployeeEntry> ranking = new TreeSet<>(BY_PERFORMANCE);
+    private double performanceSum;
+    private long attendanceRateSum;
+    private long totalProjects;
+    private long completedProjects;
+
+    private EmployeeRoster roster; // written through once attached
+
+    private int presentToday;
+    private int lateToday;
+    private int absentToday;
+    private long monthRecords;
+    private long monthPresentRecords;
+
+    DashboardAggregateState(LocalDate day) {
+        this.day = day;
+        this.windowStart = day.minusMonths(1);
+        this.monthStart = day.withDayOfMonth(1);
+    }
+
+    // Loads the roster with this state's employees and keeps it in step with every later change
+    void attach(EmployeeRoster roster) {
+        this.roster = roster;
+        roster.replaceAll(employees.values(), day);
+    }
+
+    EmployeeEntry getEmployee(Long id) {
+        return employees.get(id);
+    }
+
+    void addEmployee(EmployeeEntry entry) {
+        entry.attendanceRate = EmployeeService.calculateAttendanceRate(windowStart, entry.presentDays);
+        employees.put(entry.id, entry);
+        index(entry);
+        if (roster != null) {
+            roster.put(entry);
+        }
+    }
+
+    void removeEmployee(Long id) {
+        EmployeeEntry entry = employees.remove(id);
+        if (entry != null) {
+            unindex(entry);
+            if (roster != null) {
+                roster.remove(id);
+            }
+        }
+    }
+
+    void updateEmployee(Long id, String name, String designation, String department, LocalDate joinDate) {
+        EmployeeEntry entry = employees.get(id);
+        if (entry == null) {
+            return;
+        }
+        unindex(entry);
+        entry.name = name;
+        entry.designation = designation;
+        entry.department = department;
+        entry.joinDate = joinDate;
+        index(entry);
+        if (roster != null) {
+            roster.put(entry);
+        }
+    }
+
+    void setLatestReview(Long employeeId, Integer score, Long reviewId, LocalDate reviewDate) {
+        EmployeeEntry entry = employees.get(employeeId);
+        if (entry == null) {
+            return;
+        }
+        unindex(entry);
+        entry.latestScore = score;
+        entry.latestReviewId = reviewId;
+        entry.latestReviewDate = reviewDate;
+        index(entry);
+        if (roster != null) {
+            roster.put(entry);
+        }
+    }
+
+    void recordAttendance(Long employeeId, LocalDate date, String status, int delta) {
+        if (date == null || date.isAfter(day)) {
+            return;
+        }
+
+        if (date.equals(day)) {
+            if ("PRESENT".equals(status) || "LATE".equals(status)) {
+                presentToday += delta;
+            }
+            if ("LATE".equals(status)) {
+                lateToday += delta;
+            }
+            if ("ABSENT".equals(status)) {
+                absentToday += delta;
+            }
+        }
+
+        if (!date.isBefore(monthStart)) {
+            monthRecords += delta;
+            if ("PRESENT".equals(status) || "LATE".equals(status)) {
+                monthPresentRecords += delta;
+            }
+        }
+
+        EmployeeEntry entry = employeeId != null ? employees.get(employeeId) : null;
+        if (entry != null && !date.isBefore(windowStart)) {
+            attendanceRateSum -= entry.attendanceRate;
+            entry.presentDays += delta;
+            entry.attendanceRate = EmployeeService.calculateAttendanceRate(windowStart, entry.presentDays);
+            attendanceRateSum += entry.attendanceRate;
+            if (roster != null) {
+                roster.put(entry);
+            }
+        }
+    }
+
+    private void index(EmployeeEntry entry) {
+        departmentCounts.merge(entry.department, 1, Integer::sum);
+        performanceDistribution.merge(DashboardService.getPerformanceCategory(entry.performanceScore()), 1, Integer::sum);
+        ranking.add(entry);
+        performanceSum += entry.performanceScore();
+        attendanceRateSum += entry.attendanceRate;
+        totalProjects += entry.totalProjects();
+        completedProjects += entry.completedProjects();
+    }
+
+    private void unindex(EmployeeEntry entry) {
+        decrement(departmentCounts, entry.department);
+        decrement(performanceDistribution, DashboardService.getPerformanceCategory(entry.performanceScore()));
+        ranking.remove(entry);
+        performanceSum -= entry.performanceScore();
+        attendanceRateSum -= entry.attendanceRate;
+        totalProjects -= entry.totalProjects();
+        completedProjects -= entry.completedProjects();
+    }
+
+    private static void decrement(Map<String, Integer> counts, String key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    Snapshot snapshot() {
+        int total = employees.size();
+
+        List<DashboardStatsDTO.TopPerformerDTO> topPerformers = new ArrayList<>(TOP_PERFORMERS);
+        Iterator<EmployeeEntry> it = ranking.iterator();
+        while (it.hasNext() && topPerformers.size() < TOP_PERFORMERS) {
+            EmployeeEntry entry = it.next();
+            topPerformers.add(DashboardStatsDTO.TopPerformerDTO.builder()
+                    .employeeName(entry.name)
+                    .department(entry.department)
+                    .performanceScore(entry.performanceScore())
+                    .designation(entry.designation)
+                    .build());
+        }
+
+        return new Snapshot(
+                day,
+                total,
+                departmentCounts.size(),
+                total > 0 ? performanceSum / total : 0.0,
+                total > 0 ? (double) attendanceRateSum / total : 0.0,
+                (int) totalProjects,
+                (int) completedProjects,
+                Collections.unmodifiableMap(new HashMap<>(departmentCounts)),
+                Collections.unmodifiableMap(new HashMap<>(performanceDistribution)),
+                Collections.unmodifiableList(topPerformers),
+                presentToday,
+                absentToday,
+                lateToday,
+                monthRecords > 0 ? monthPresentRecords * 100.0 / monthRecords : 0.0);
+    }
+
+    // Immutable view handed to readers; rebuilt only after a write
+    static final class Snapshot {
+        final LocalDate day;
+        final int totalEmployees;
+        final int totalDepartments;
+        final double averagePerformance;
+        final double averageAttendance;
+        final int totalProjects;
+        final int completedProjects;
+        final Map<String, Integer> departmentStats;
+        final Map<String, Integer> performanceDistribution;
+        final List<DashboardStatsDTO.TopPerformerDTO> topPerformers;
+        final int presentToday;
+        final int absentToday;
+        final int lateToday;
+        final double averageAttendanceThisMonth;
+
+        Snapshot(LocalDate day, int totalEmployees, int totalDepartments, double averagePerformance,
+                 double averageAttendance, int totalProjects, int completedProjects,
+                 Map<String, Integer> departmentStats, Map<String, Integer> performanceDistribution,
+                 List<DashboardStatsDTO.TopPerformerDTO> topPerformers, int presentToday, int absentToday,
+                 int lateToday, double averageAttendanceThisMonth) {
+            this.day = day;
+            this.totalEmployees = totalEmployees;
+            this.totalDepartments = totalDepartments;
+            this.averagePerformance = averagePerformance;
+            this.averageAttendance = averageAttendance;
+            this.totalProjects = totalProjects;
+            this.completedProjects = completedProjects;
+            this.departmentStats = departmentStats;
+            this.performanceDistribution = performanceDistribution;
+            this.topPerformers = topPerformers;
+            this.presentToday = presentToday;
+            this.absentToday = absentToday;
+            this.lateToday = lateToday;
+            this.averageAttendanceThisMonth = averageAttendanceThisMonth;
+        }
+
+        // Metrics whose incrementally maintained value differs from a freshly computed one
+        Map<String, Object> differencesFrom(Snapshot expected) {
+            Map<String, Object> differences = new LinkedHashMap<>();
+            compare(differences, "totalEmployees", expected.totalEmployees, totalEmployees);
+            compare(differences, "totalDepartments", expected.totalDepartments, totalDepartments);
+            compare(differences, "averagePerformance", round(expected.averagePerformance), round(averagePerformance));
+            compare(differences, "averageAttendance", round(expected.averageAttendance), round(averageAttendance));
+            compare(differences, "departmentStats", expected.departmentStats, departmentStats);
+            compare(differences, "performanceDistribution", expected.performanceDistribution, performanceDistribution);
+            compare(differences, "presentToday", expected.presentToday, presentToday);
+            compare(differences, "lateToday", expected.lateToday, lateToday);
+            compare(differences, "averageAttendanceThisMonth",
+                    round(expected.averageAttendanceThisMonth), round(averageAttendanceThisMonth));
+            return differences;
+        }
+
+        private static void compare(Map<String, Object> differences, String metric, Object expected, Object actual) {
+            if (!Objects.equals(expected, actual)) {
+                Map<String, Object> values = new LinkedHashMap<>();
+                values.put("expected", expected);
+                values.put("actual", actual);
+                differences.put(metric, values);
+            }
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 10.0) / 10.0;
+        }
+    }
+}
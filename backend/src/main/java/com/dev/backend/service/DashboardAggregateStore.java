@@ -0,0 +1,270 @@
+package com.dev.backend.service;
+
+import com.dev.backend.event.AttendanceChangedEvent;
+import com.dev.backend.event.AttendanceSnapshot;
+import com.dev.backend.event.EmployeeChangedEvent;
+import com.dev.backend.event.EmployeeSnapshot;
+import com.dev.backend.event.PerformanceChangedEvent;
+import com.dev.backend.event.PerformanceSnapshot;
+import com.dev.backend.model.Performance;
+import com.dev.backend.repository.PerformanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// In-memory dashboard aggregates, seeded once from the database and kept current by domain events
+// so that reading the dashboard never touches the database.
+@Service
+public class DashboardAggregateStore {
+    private static final Logger log = LoggerFactory.getLogger(DashboardAggregateStore.class);
+    private static final int MAX_SEED_ATTEMPTS = 3;
+
+    private final DashboardAggregateLoader loader;
+    private final AttendanceService attendanceService;
+    private final PerformanceRepository performanceRepository;
+    private final EmployeeRoster roster;
+    private final CacheInvalidationListener cacheInvalidation;
+    private final ChangeVersionRegistry changeVersions;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private DashboardAggregateState state; // guarded by lock
+    private long modifications;            // guarded by lock
+    private volatile DashboardAggregateState.Snapshot snapshot;
+    private volatile Map<String, Object> lastReconciliation = Map.of();
+
+    public DashboardAggregateStore(DashboardAggregateLoader loader,
+                                   AttendanceService attendanceService,
+                                   PerformanceRepository performanceRepository,
+                                   EmployeeRoster roster,
+                                   CacheInvalidationListener cacheInvalidation,
+                                   ChangeVersionRegistry changeVersions) {
+        this.loader = loader;
+        this.attendanceService = attendanceService;
+        this.performanceRepository = performanceRepository;
+        this.roster = roster;
+        this.cacheInvalidation = cacheInvalidation;
+        this.changeVersions = changeVersions;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        for (int attempt = 1; !reload(null); attempt++) {
+            if (attempt == MAX_SEED_ATTEMPTS) {
+                // Keeps serving the old state; the next read of a stale day tries again
+                log.warn("Dashboard aggregates not reseeded: {} attempts overlapped with writes", attempt);
+                return;
+            }
+        }
+        log.info("Dashboard aggregates seeded for {} employees", snapshot.totalEmployees);
+    }
+
+    // Returns null until the store has been seeded
+    DashboardAggregateState.Snapshot snapshot() {
+        rollOver();
+        return snapshot;
+    }
+
+    // Day rolled over: today's counters, the month/30-day windows and the roster's attendance rates have
+    // to be recomputed. Runs on the first dashboard read of the day and on a schedule just after midnight.
+    public void rollOver() {
+        DashboardAggregateState.Snapshot current = snapshot;
+        if (current != null && !current.day.equals(LocalDate.now()) && reloading.compareAndSet(false, true)) {
+            try {
+                seed();
+            } finally {
+                reloading.set(false);
+            }
+        }
+    }
+
+    public Map<String, Object> getLastReconciliation() {
+        return lastReconciliation;
+    }
+
+    // Recomputes the aggregates from the database and reports how far the incremental state drifted.
+    // The fresh state is only installed when no event was applied while it was being computed.
+    public Map<String, Object> reconcile() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now());
+        report.put("applied", reload(report));
+        lastReconciliation = report;
+        return report;
+    }
+
+    // Loads a fresh state and installs it unless an event was applied meanwhile, which the fresh state may
+    // or may not reflect. Fills in the drift against the current state when given a report.
+    private boolean reload(Map<String, Object> report) {
+        long modificationsAtStart;
+        lock.lock();
+        try {
+            modificationsAtStart = modifications;
+        } finally {
+            lock.unlock();
+        }
+
+        DashboardAggregateState fresh = loader.load(LocalDate.now());
+
+        boolean installed;
+        lock.lock();
+        try {
+            if (report != null) {
+                Map<String, Object> differences = state != null && state.day.equals(fresh.day)
+                        ? state.snapshot().differencesFrom(fresh.snapshot())
+                        : Map.of();
+                report.put("driftDetected", !differences.isEmpty());
+                report.put("differences", differences);
+            }
+            installed = modifications == modificationsAtStart;
+            if (installed) {
+                install(fresh);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (installed) {
+            // No domain event announces the new state
+            cacheInvalidation.employeesChanged();
+            changeVersions.employeesChanged();
+        }
+        return installed;
+    }
+
+    @Order(ChangeVersionRegistry.REBUILD_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.lock();
+        try {
+            if (state == null) {
+                return;
+            }
+            switch (event.getType()) {
+                case CREATED -> {
+                    EmployeeSnapshot current = event.getCurrent();
+                    state.addEmployee(new DashboardAggregateState.EmployeeEntry(current.getId(), current.getName(),
+                            current.getDesignation(), current.getDepartment(), current.getJoinDate()));
+                }
+                case UPDATED -> {
+                    EmployeeSnapshot current = event.getCurrent();
+                    state.updateEmployee(current.getId(), current.getName(), current.getDesignation(),
+                            current.getDepartment(), current.getJoinDate());
+                }
+                case DELETED -> state.removeEmployee(event.getEmployeeId());
+            }
+            modified();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Order(ChangeVersionRegistry.REBUILD_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        AttendanceSnapshot previous = event.getPrevious();
+        AttendanceSnapshot current = event.getCurrent();
+        String previousStatus = previous != null ? attendanceService.determineStatus(previous.getClockIn(), previous.getClockOut()) : null;
+        String currentStatus = current != null ? attendanceService.determineStatus(current.getClockIn(), current.getClockOut()) : null;
+
+        lock.lock();
+        try {
+            if (state == null) {
+                return;
+            }
+            if (previous != null) {
+                state.recordAttendance(previous.getEmployeeId(), previous.getDate(), previousStatus, -1);
+            }
+            if (current != null) {
+                state.recordAttendance(current.getEmployeeId(), current.getDate(), currentStatus, 1);
+            }
+            modified();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Order(ChangeVersionRegistry.REBUILD_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPerformanceChanged(PerformanceChangedEvent event) {
+        Long employeeId = event.getLatest().getEmployeeId();
+        PerformanceSnapshot previous = event.getPrevious();
+        PerformanceSnapshot current = event.getCurrent();
+
+        boolean latestReplaced;
+        lock.lock();
+        try {
+            if (state == null) {
+                return;
+            }
+            DashboardAggregateState.EmployeeEntry entry = state.getEmployee(employeeId);
+            if (entry == null) {
+                return;
+            }
+            latestReplaced = previous != null && previous.getId().equals(entry.latestReviewId);
+            if (!latestReplaced && current != null && isNewer(current, entry)) {
+                state.setLatestReview(employeeId, current.getScore(), current.getId(), current.getDate());
+                modified();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (latestReplaced) {
+            // The review that defined the current score changed or disappeared: look up the new latest one
+            // outside the lock
+            Optional<Performance> latest = performanceRepository.findTopByEmployeeIdOrderByDateDesc(employeeId);
+            lock.lock();
+            try {
+                DashboardAggregateState.EmployeeEntry entry = state.getEmployee(employeeId);
+                // Another event may have moved the entry on while the lock was released; the lookup only
+                // wins if the entry still points at the replaced review or is older than what was found
+                boolean stillReplaced = entry != null && previous.getId().equals(entry.latestReviewId);
+                if (entry != null && (stillReplaced
+                        || latest.filter(review -> isNewer(review.getDate(), review.getId(), entry)).isPresent())) {
+                    state.setLatestReview(employeeId,
+                            latest.map(Performance::getScore).orElse(null),
+                            latest.map(Performance::getId).orElse(null),
+                            latest.map(Performance::getDate).orElse(null));
+                    modified();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static boolean isNewer(PerformanceSnapshot review, DashboardAggregateState.EmployeeEntry entry) {
+        return isNewer(review.getDate(), review.getId(), entry);
+    }
+
+    private static boolean isNewer(LocalDate date, Long id, DashboardAggregateState.EmployeeEntry entry) {
+        if (entry.latestReviewDate == null || date == null) {
+            return entry.latestReviewDate == null;
+        }
+        int byDate = date.compareTo(entry.latestReviewDate);
+        return byDate > 0 || (byDate == 0 && id > entry.latestReviewId);
+    }
+
+    private void install(DashboardAggregateState fresh) {
+        state = fresh;
+        state.attach(roster);
+        modified();
+    }
+
+    private void modified() {
+        modifications++;
+        snapshot = state.snapshot();
+    }
+}
@@ -0,0 +1,37 @@
+package com.dev.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class DashboardReconciliationJob {
+    private static final Logger log = LoggerFactory.getLogger(DashboardReconciliationJob.class);
+
+    private final DashboardAggregateStore aggregateStore;
+
+    public DashboardReconciliationJob(DashboardAggregateStore aggregateStore) {
+        this.aggregateStore = aggregateStore;
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.reconciliation.interval:PT15M}",
+               initialDelayString = "${dashboard.reconciliation.interval:PT15M}")
+    public void reconcile() {
+        Map<String, Object> report = aggregateStore.reconcile();
+        if (Boolean.TRUE.equals(report.get("driftDetected"))) {
+            log.warn("Dashboard aggregates drifted from the database: {}", report.get("differences"));
+        }
+        if (!Boolean.TRUE.equals(report.get("applied"))) {
+            log.info("Dashboard reconciliation skipped install because of concurrent writes; retrying next cycle");
+        }
+    }
+
+    // Also covers the employee filters, which read the roster and never the dashboard snapshot
+    @Scheduled(cron = "${dashboard.rollover-cron:5 0 0 * * *}")
+    public void rollOver() {
+        aggregateStore.rollOver();
+    }
+}
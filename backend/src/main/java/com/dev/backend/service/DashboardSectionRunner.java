@@ -0,0 +1,92 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.DashboardProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Runs independent dashboard sections concurrently on a small bounded pool. A section that fails,
+// is rejected by the full pool or misses the shared deadline is reported by name instead of
+// failing the whole dashboard. The pool is deliberately not an Executor bean: one would make Boot
+// back off from the applicationTaskExecutor that async MVC requests run on.
+@Component
+public class DashboardSectionRunner implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(DashboardSectionRunner.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    public DashboardSectionRunner(DashboardProperties properties) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dashboard-section-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()), threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeoutNanos = properties.getTimeout().toNanos();
+    }
+
+    // Starts a set of sections that share one deadline, counted from now
+    public Fork fork() {
+        return new Fork(System.nanoTime() + timeoutNanos);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public final class Fork {
+        private final long deadline;
+        private final List<String> unavailable = new ArrayList<>();
+
+        private Fork(long deadline) {
+            this.deadline = deadline;
+        }
+
+        // A plain executor future: cancelling a CompletableFuture would not interrupt the section, which
+        // would then hold its connection until its queries finished
+        public <T> Future<T> submit(Supplier<T> section) {
+            try {
+                return executor.submit(section::get);
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        // The section's result, or null once it is recorded as unavailable
+        public <T> T join(String name, Future<T> section) {
+            try {
+                return section.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                section.cancel(true);
+                log.warn("dashboard_section_unavailable section={} reason=timeout", name);
+            } catch (ExecutionException e) {
+                log.warn("dashboard_section_unavailable section={} reason=\"{}\"", name, e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                section.cancel(true);
+                log.warn("dashboard_section_unavailable section={} reason=interrupted", name);
+            }
+            unavailable.add(name);
+            return null;
+        }
+
+        public List<String> getUnavailable() {
+            return unavailable;
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.dev.backend.service;
 
 import com.dev.backend.dto.DashboardStatsDTO;
 import com.dev.backend.dto.EmployeeDTO;
-import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.dto.AttendancePeriodSummaryDTO;
 import com.dev.backend.dto.PerformanceDTO;
 import com.dev.backend.repository.EmployeeRepository;
 import com.dev.backend.repository.AttendanceRepository;
@@ -12,32 +12,118 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.format.TextStyle;
 import java.util.*;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @Service
 public class DashboardService {
+    static final String SECTION_EMPLOYEES = "employees";
+    static final String SECTION_ATTENDANCE_TODAY = "attendanceToday";
+    static final String SECTION_ATTENDANCE_MONTH = "attendanceMonth";
+    static final String SECTION_PERFORMANCE_TREND = "performanceTrend";
+
     private final EmployeeRepository employeeRepository;
     private final AttendanceRepository attendanceRepository;
     private final PerformanceRepository performanceRepository;
     private final EmployeeService employeeService;
-    private final AttendanceService attendanceService;
+    private final AttendanceSummaryService attendanceSummaryService;
+    private final DashboardAggregateStore aggregateStore;
+    private final DashboardSectionRunner sectionRunner;
+    private final PerformanceTrendService performanceTrendService;
 
     public DashboardService(EmployeeRepository employeeRepository,
                            AttendanceRepository attendanceRepository,
                            PerformanceRepository performanceRepository,
                            EmployeeService employeeService,
-                           AttendanceService attendanceService) {
+                           AttendanceSummaryService attendanceSummaryService,
+                           DashboardAggregateStore aggregateStore,
+                           DashboardSectionRunner sectionRunner,
+                           PerformanceTrendService performanceTrendService) {
         this.employeeRepository = employeeRepository;
         this.attendanceRepository = attendanceRepository;
         this.performanceRepository = performanceRepository;
         this.employeeService = employeeService;
-        this.attendanceService = attendanceService;
+        this.attendanceSummaryService = attendanceSummaryService;
+        this.aggregateStore = aggregateStore;
+        this.sectionRunner = sectionRunner;
+        this.performanceTrendService = performanceTrendService;
     }
 
+    // Not cached: the snapshot is already in memory and is replaced as events arrive, so a cached copy
+    // could only lag behind it
     public DashboardStatsDTO getDashboardStats() {
-        List<EmployeeDTO> allEmployees = employeeService.getAllEmployees();
-        List<AttendanceDTO> todayAttendance = attendanceService.getTodayAttendance();
-        
+        DashboardAggregateState.Snapshot snapshot = aggregateStore.snapshot();
+        if (snapshot == null) {
+            // Store not seeded yet (application still starting)
+            return calculateDashboardStats();
+        }
+
+        DashboardStatsDTO.AttendanceSummaryDTO attendanceSummary = DashboardStatsDTO.AttendanceSummaryDTO.builder()
+                .presentToday(snapshot.presentToday)
+                .absentToday(snapshot.absentToday)
+                .lateToday(snapshot.lateToday)
+                .averageAttendanceThisMonth(Math.round(snapshot.averageAttendanceThisMonth * 10.0) / 10.0)
+                .totalWorkingDays(snapshot.day.getDayOfMonth())
+                .build();
+
+        double projectCompletionRate = snapshot.totalProjects > 0
+                ? (double) snapshot.completedProjects / snapshot.totalProjects * 100 : 0.0;
+
+        return DashboardStatsDTO.builder()
+                .totalEmployees(snapshot.totalEmployees)
+                .activeEmployees(snapshot.totalEmployees)
+                .totalDepartments(snapshot.totalDepartments)
+                .averagePerformance(Math.round(snapshot.averagePerformance * 10.0) / 10.0)
+                .averageAttendance(Math.round(snapshot.averageAttendance * 10.0) / 10.0)
+                .totalProjects(snapshot.totalProjects)
+                .completedProjects(snapshot.completedProjects)
+                .projectCompletionRate(Math.round(projectCompletionRate * 10.0) / 10.0)
+                .departmentStats(snapshot.departmentStats)
+                .performanceDistribution(snapshot.performanceDistribution)
+                .recentActivities(generateRecentActivities())
+                .topPerformers(snapshot.topPerformers)
+                .attendanceSummary(attendanceSummary)
+                .performanceTrend(performanceTrendService.getDashboardTrend())
+                .build();
+    }
+
+    // Fallback before the aggregate store is seeded: the employee list, both attendance totals (from
+    // the daily summary) and the performance trend are loaded concurrently, each in its own read-only transaction, and sections that miss the
+    // deadline are left out and flagged rather than holding up the response
+    private DashboardStatsDTO calculateDashboardStats() {
+        LocalDate today = LocalDate.now();
+        DashboardSectionRunner.Fork fork = sectionRunner.fork();
+        Future<List<EmployeeDTO>> employees = fork.submit(employeeService::getAllEmployees);
+        Future<AttendancePeriodSummaryDTO> todayAttendance = fork.submit(
+                () -> attendanceSummaryService.getTotals(today));
+        Future<AttendancePeriodSummaryDTO> monthlyAttendance = fork.submit(
+                () -> attendanceSummaryService.getTotals(today.withDayOfMonth(1), today, null));
+        Future<DashboardStatsDTO.PerformanceTrendDTO> performanceTrend = fork.submit(
+                performanceTrendService::getDashboardTrend);
+
+        DashboardStatsDTO.DashboardStatsDTOBuilder stats = DashboardStatsDTO.builder()
+                .recentActivities(generateRecentActivities());
+
+        List<EmployeeDTO> allEmployees = fork.join(SECTION_EMPLOYEES, employees);
+        if (allEmployees != null) {
+            addEmployeeStats(stats, allEmployees);
+        }
+
+        AttendancePeriodSummaryDTO todayTotals = fork.join(SECTION_ATTENDANCE_TODAY, todayAttendance);
+        AttendancePeriodSummaryDTO monthTotals = fork.join(SECTION_ATTENDANCE_MONTH, monthlyAttendance);
+        if (todayTotals != null || monthTotals != null) {
+            stats.attendanceSummary(calculateAttendanceSummary(todayTotals, monthTotals));
+        }
+
+        stats.performanceTrend(fork.join(SECTION_PERFORMANCE_TREND, performanceTrend));
+
+        return stats
+                .degraded(!fork.getUnavailable().isEmpty())
+                .unavailableSections(fork.getUnavailable())
+                .build();
+    }
+
+    private void addEmployeeStats(DashboardStatsDTO.DashboardStatsDTOBuilder stats, List<EmployeeDTO> allEmployees) {
         // Calculate basic stats
         int totalEmployees = allEmployees.size();
         int activeEmployees = (int) allEmployees.stream().filter(EmployeeDTO::getIsActive).count();
@@ -83,9 +169,6 @@ public class DashboardService {
                     Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
                 ));
         
-        // Recent activities
-        List<DashboardStatsDTO.RecentActivityDTO> recentActivities = generateRecentActivities();
-        
         // Top performers
         List<DashboardStatsDTO.TopPerformerDTO> topPerformers = allEmployees.stream()
                 .sorted((a, b) -> Double.compare(
@@ -101,14 +184,7 @@ public class DashboardService {
                     .build())
                 .collect(Collectors.toList());
         
-        // Attendance summary
-        DashboardStatsDTO.AttendanceSummaryDTO attendanceSummary = calculateAttendanceSummary(todayAttendance);
-        
-        // Performance trend
-        DashboardStatsDTO.PerformanceTrendDTO performanceTrend = calculatePerformanceTrend();
-        
-        return DashboardStatsDTO.builder()
-                .totalEmployees(totalEmployees)
+        stats.totalEmployees(totalEmployees)
                 .activeEmployees(activeEmployees)
                 .totalDepartments(totalDepartments)
                 .averagePerformance(Math.round(averagePerformance * 10.0) / 10.0)
@@ -118,14 +194,10 @@ public class DashboardService {
                 .projectCompletionRate(Math.round(projectCompletionRate * 10.0) / 10.0)
                 .departmentStats(departmentStats)
                 .performanceDistribution(performanceDistribution)
-                .recentActivities(recentActivities)
-                .topPerformers(topPerformers)
-                .attendanceSummary(attendanceSummary)
-                .performanceTrend(performanceTrend)
-                .build();
+                .topPerformers(topPerformers);
     }
 
-    private String getPerformanceCategory(Double score) {
+    static String getPerformanceCategory(Double score) {
         if (score == null) return "Not Rated";
         if (score >= 9.0) return "Excellent";
         if (score >= 8.0) return "Good";
@@ -172,53 +244,22 @@ public class DashboardService {
         return activities;
     }
 
-    private DashboardStatsDTO.AttendanceSummaryDTO calculateAttendanceSummary(List<AttendanceDTO> todayAttendance) {
-        int presentToday = (int) todayAttendance.stream()
-                .filter(att -> "PRESENT".equals(att.getStatus()) || "LATE".equals(att.getStatus()))
-                .count();
-        
-        int absentToday = (int) todayAttendance.stream()
-                .filter(att -> "ABSENT".equals(att.getStatus()))
-                .count();
-        
-        int lateToday = (int) todayAttendance.stream()
-                .filter(att -> "LATE".equals(att.getStatus()))
-                .count();
-        
-        // Calculate monthly average
-        LocalDate startOfMonth = LocalDate.now().withDayOfMonth(1);
-        List<AttendanceDTO> monthlyAttendance = attendanceService.getAttendanceByDateRange(
-                startOfMonth, LocalDate.now());
-        
-        double averageAttendanceThisMonth = monthlyAttendance.stream()
-                .mapToDouble(att -> "PRESENT".equals(att.getStatus()) || "LATE".equals(att.getStatus()) ? 100.0 : 0.0)
-                .average()
-                .orElse(0.0);
-        
-        int totalWorkingDays = LocalDate.now().getDayOfMonth();
-        
-        return DashboardStatsDTO.AttendanceSummaryDTO.builder()
-                .presentToday(presentToday)
-                .absentToday(absentToday)
-                .lateToday(lateToday)
-                .averageAttendanceThisMonth(Math.round(averageAttendanceThisMonth * 10.0) / 10.0)
-                .totalWorkingDays(totalWorkingDays)
-                .build();
-    }
+    // Either total may be null when its section was unavailable; the matching fields stay null
+    private DashboardStatsDTO.AttendanceSummaryDTO calculateAttendanceSummary(AttendancePeriodSummaryDTO todayAttendance,
+                                                                             AttendancePeriodSummaryDTO monthlyAttendance) {
+        DashboardStatsDTO.AttendanceSummaryDTO.AttendanceSummaryDTOBuilder summary = DashboardStatsDTO.AttendanceSummaryDTO.builder()
+                .totalWorkingDays(LocalDate.now().getDayOfMonth());
 
-    private DashboardStatsDTO.PerformanceTrendDTO calculatePerformanceTrend() {
-        // Mock performance trend data for the last 6 months
-        List<Double> monthlyScores = Arrays.asList(8.2, 8.4, 8.6, 8.5, 8.7, 8.8);
-        List<String> months = Arrays.asList("Jul", "Aug", "Sep", "Oct", "Nov", "Dec");
-        
-        double trendDirection = monthlyScores.get(monthlyScores.size() - 1) - monthlyScores.get(0);
-        String trendDescription = trendDirection > 0 ? "Improving" : "Declining";
-        
-        return DashboardStatsDTO.PerformanceTrendDTO.builder()
-                .monthlyScores(monthlyScores)
-                .months(months)
-                .trendDirection(trendDirection)
-                .trendDescription(trendDescription)
-                .build();
+        if (todayAttendance != null) {
+            summary.presentToday((int) (todayAttendance.getPresent() + todayAttendance.getLate()))
+                    .absentToday((int) todayAttendance.getAbsent())
+                    .lateToday((int) todayAttendance.getLate());
+        }
+
+        if (monthlyAttendance != null) {
+            summary.averageAttendanceThisMonth(monthlyAttendance.getAttendanceRate());
+        }
+
+        return summary.build();
     }
 }
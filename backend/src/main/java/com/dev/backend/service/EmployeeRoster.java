@@ -0,0 +1,326 @@
+package com.dev.backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+// Columnar copy of the per-employee values the filters need: one row per employee spread over primitive
+// arrays, departments dictionary-encoded. DashboardAggregateState writes through to it on every change, so
+// filters run as tight loops over the columns instead of scanning DTOs or querying. Rows are unordered;
+// a removal moves the last row into the hole.
+@Component
+public class EmployeeRoster {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final float NO_SCORE = Float.NaN;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // guarded by lock
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] departments = new int[INITIAL_CAPACITY];
+    private float[] scores = new float[INITIAL_CAPACITY];
+    private short[] attendanceRates = new short[INITIAL_CAPACITY];
+    private int[] joinDays = new int[INITIAL_CAPACITY];
+    private int size;
+    private final Map<Long, Integer> rows = new HashMap<>();
+    private final Map<String, Integer> departmentCodes = new HashMap<>();
+    private final List<String> departmentNames = new ArrayList<>();
+    private int[] departmentSizes = new int[16];
+    private boolean ready;
+    private LocalDate day;
+
+    // False until the dashboard aggregates have been seeded, and again from the day after they were seeded
+    // for until they are reseeded, since the attendance rates cover a window ending on that day. Callers
+    // fall back to the database meanwhile.
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready && day.equals(LocalDate.now());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Swaps in a complete set of rows at once, so readers never see a half-loaded roster
+    void replaceAll(Collection<DashboardAggregateState.EmployeeEntry> entries, LocalDate day) {
+        lock.writeLock().lock();
+        try {
+            rows.clear();
+            Arrays.fill(departmentSizes, 0);
+            size = 0;
+            ensureCapacity(entries.size());
+            for (DashboardAggregateState.EmployeeEntry entry : entries) {
+                put(entry);
+            }
+            this.day = day;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(DashboardAggregateState.EmployeeEntry entry) {
+        lock.writeLock().lock();
+        try {
+            long id = entry.id;
+            Integer existing = rows.get(id);
+            int row;
+            if (existing != null) {
+                row = existing;
+                departmentSizes[departments[row]]--;
+            } else {
+                row = size++;
+                ensureCapacity(size);
+                rows.put(id, row);
+            }
+            int code = departmentCode(entry.department);
+            ids[row] = id;
+            departments[row] = code;
+            scores[row] = entry.latestScore != null ? entry.latestScore : NO_SCORE;
+            attendanceRates[row] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, entry.attendanceRate));
+            joinDays[row] = entry.joinDate != null ? (int) entry.joinDate.toEpochDay() : Integer.MAX_VALUE;
+            departmentSizes[code]++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.remove(id);
+            if (row == null) {
+                return;
+            }
+            departmentSizes[departments[row]]--;
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                departments[row] = departments[last];
+                scores[row] = scores[last];
+                attendanceRates[row] = attendanceRates[last];
+                joinDays[row] = joinDays[last];
+                rows.put(ids[row], row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return rows.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Headcount per department, largest first; departments that emptied out are left out
+    public Map<String, Integer> departmentCounts() {
+        lock.readLock().lock();
+        try {
+            int departmentCount = departmentNames.size();
+            int[] order = new int[departmentCount];
+            int nonEmpty = 0;
+            for (int code = 0; code < departmentCount; code++) {
+                if (departmentSizes[code] > 0) {
+                    order[nonEmpty++] = code;
+                }
+            }
+            // Insertion sort: there are only ever a handful of departments
+            for (int i = 1; i < nonEmpty; i++) {
+                int code = order[i];
+                int j = i - 1;
+                while (j >= 0 && departmentSizes[order[j]] < departmentSizes[code]) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = code;
+            }
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (int i = 0; i < nonEmpty; i++) {
+                counts.put(departmentNames.get(order[i]), departmentSizes[order[i]]);
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The id arrays returned below are sorted ascending
+
+    public long[] idsInDepartment(String department) {
+        lock.readLock().lock();
+        try {
+            Integer code = departmentCodes.get(department);
+            if (code == null) {
+                return new long[0];
+            }
+            int target = code;
+            return select(row -> departments[row] == target);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] idsJoinedBefore(LocalDate cutoffDate) {
+        int cutoff = (int) cutoffDate.toEpochDay();
+        return select(row -> joinDays[row] < cutoff);
+    }
+
+    // Employees whose latest review scored below the threshold; the unreviewed never match (NaN compares false)
+    public long[] idsScoredBelow(int threshold) {
+        float limit = threshold;
+        return select(row -> scores[row] < limit);
+    }
+
+    public long[] idsWithAttendanceRateBelow(int rate) {
+        return select(row -> attendanceRates[row] < rate);
+    }
+
+    // Two passes over the rows, counting then copying, so the only allocation is the result itself
+    private long[] select(IntPredicate matches) {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (matches.test(row)) {
+                    count++;
+                }
+            }
+            long[] result = new long[count];
+            int next = 0;
+            for (int row = 0; row < size; row++) {
+                if (matches.test(row)) {
+                    result[next++] = ids[row];
+                }
+            }
+            Arrays.sort(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The n best performance scores, best first and lowest id first on ties, ranked the way the dashboard's
+    // top performers are (8.5 for the unreviewed). Keeps a bounded min-heap of row numbers.
+    public long[] topPerformers(int n) {
+        lock.readLock().lock();
+        try {
+            int limit = Math.min(n, size);
+            if (limit <= 0) {
+                return new long[0];
+            }
+            int[] heap = new int[limit];
+            int heapSize = 0;
+            for (int row = 0; row < size; row++) {
+                if (heapSize < limit) {
+                    heap[heapSize] = row;
+                    siftUp(heap, heapSize++);
+                } else if (ranksAbove(row, heap[0])) {
+                    heap[0] = row;
+                    siftDown(heap, heapSize);
+                }
+            }
+            long[] result = new long[heapSize];
+            // Popping the min-heap yields the weakest first, so fill from the back
+            for (int i = heapSize - 1; i >= 0; i--) {
+                result[i] = ids[heap[0]];
+                heap[0] = heap[i];
+                siftDown(heap, i);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private float performanceScore(int row) {
+        float score = scores[row];
+        return Float.isNaN(score) ? 85f : score;
+    }
+
+    private boolean ranksAbove(int row, int other) {
+        float score = performanceScore(row);
+        float otherScore = performanceScore(other);
+        return score > otherScore || (score == otherScore && ids[row] < ids[other]);
+    }
+
+    private void siftUp(int[] heap, int index) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(heap[parent], row)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int index = 0;
+        int row = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && ranksAbove(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksAbove(row, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    private int departmentCode(String department) {
+        String key = department != null ? department : "";
+        Integer code = departmentCodes.get(key);
+        if (code == null) {
+            code = departmentNames.size();
+            departmentCodes.put(key, code);
+            departmentNames.add(key);
+            if (code == departmentSizes.length) {
+                departmentSizes = Arrays.copyOf(departmentSizes, code * 2);
+            }
+        }
+        return code;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        departments = Arrays.copyOf(departments, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+        attendanceRates = Arrays.copyOf(attendanceRates, capacity);
+        joinDays = Arrays.copyOf(joinDays, capacity);
+    }
+}
@@ -0,0 +1,534 @@
+package com.dev.backend.service;
+
+import com.dev.backend.dto.EmployeeSearchResultDTO;
+import com.dev.backend.event.EmployeeChangedEvent;
+import com.dev.backend.event.EmployeeSnapshot;
+import com.dev.backend.exception.BusinessLogicException;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.repository.projection.EmployeeView;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// In-process search over employee name, designation, department and email. Each field is split into
+// lower-case terms; a sorted term dictionary answers exact and prefix lookups, and padded trigrams of
+// every term find typo candidates, which are confirmed with a bounded edit distance. Every query term
+// has to match some field of an employee; hits are ranked by how well (exact > prefix > typo) and where
+// (name counts most) each term matched.
+//
+// Documents are never changed in place: an update marks the old document dead and appends a new one, so
+// posting lists stay sorted append-only arrays. The index compacts itself once dead documents dominate.
+@Component
+public class EmployeeSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+
+    static final String METRIC_PREFIX = "employee.search";
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int MAX_PREFIX_EXPANSIONS = 256;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private static final int NAME = 1;
+    private static final int DESIGNATION = 2;
+    private static final int DEPARTMENT = 4;
+    private static final int EMAIL = 8;
+
+    private static final float EXACT = 1.0f;
+    private static final float PREFIX = 0.6f;
+    private static final float ONE_EDIT = 0.4f;
+    private static final float TWO_EDITS = 0.25f;
+
+    private final EmployeeRepository employeeRepository;
+    private final MeterRegistry registry;
+    private final Timer searches;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();                  // guarded by lock
+    private List<EmployeeChangedEvent> missedByRebuild; // guarded by lock; non-null while a rebuild loads
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile LocalDateTime lastRebuild;
+    private volatile long lastRebuildMillis;
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository, MeterRegistry registry) {
+        this.employeeRepository = employeeRepository;
+        this.registry = registry;
+        this.searches = Timer.builder(METRIC_PREFIX + ".queries")
+                .description("Employee search queries answered from the in-process index")
+                .register(registry);
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder(METRIC_PREFIX + ".documents", this, EmployeeSearchIndex::liveDocuments)
+                .description("Employees in the search index")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".terms", this, EmployeeSearchIndex::termCount)
+                .description("Distinct terms in the search index")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        Map<String, Object> stats = rebuild();
+        log.info("Employee search index built: {} employees, {} terms in {} ms",
+                stats.get("documents"), stats.get("terms"), stats.get("lastRebuildMillis"));
+    }
+
+    // Reloads every employee. Changes committed while the employees load are replayed onto the new
+    // index before it replaces the old one, which keeps answering queries until then.
+    public Map<String, Object> rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BusinessLogicException("Search index rebuild is already running");
+        }
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            missedByRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            Index fresh = new Index();
+            for (EmployeeView employee : employeeRepository.findAllViews()) {
+                fresh.put(employee.getId(), employee.getName(), employee.getDesignation(),
+                        employee.getDepartment(), employee.getEmail());
+            }
+            lock.writeLock().lock();
+            try {
+                for (EmployeeChangedEvent event : missedByRebuild) {
+                    apply(fresh, event);
+                }
+                index = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastRebuild = LocalDateTime.now();
+            lastRebuildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                missedByRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuilding.set(false);
+        }
+        return getStats();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(index, event);
+            if (missedByRebuild != null) {
+                missedByRebuild.add(event);
+            }
+            if (index.needsCompaction()) {
+                index = index.compacted();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public EmployeeSearchResultDTO search(String query, int page, int size) {
+        if (page < 0) {
+            throw new BusinessLogicException("Page cannot be negative");
+        }
+        long started = System.nanoTime();
+        List<String> terms = queryTerms(query);
+        lock.readLock().lock();
+        try {
+            Index current = index;
+            Matches matches = terms.isEmpty() ? Matches.NONE : current.match(terms);
+            List<EmployeeSearchResultDTO.Hit> results = new ArrayList<>();
+            long from = (long) page * size;
+            for (long i = from; i < matches.docs().length && i < from + size; i++) {
+                int doc = matches.docs()[(int) i];
+                results.add(new EmployeeSearchResultDTO.Hit(current.ids[doc], current.names[doc],
+                        current.designations[doc], current.departments[doc], current.emails[doc],
+                        Math.round(matches.scores()[doc] * 100.0) / 100.0));
+            }
+            return new EmployeeSearchResultDTO(query, matches.docs().length, page, size, results);
+        } finally {
+            lock.readLock().unlock();
+            searches.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("documents", index.docCount - index.deadCount);
+            stats.put("deadDocuments", index.deadCount);
+            stats.put("terms", index.terms.size());
+            stats.put("trigrams", index.trigrams.size());
+            stats.put("postings", index.postingCount);
+            stats.put("approximateBytes", index.approximateBytes());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("lastRebuild", lastRebuild);
+        stats.put("lastRebuildMillis", lastRebuildMillis);
+        stats.put("queries", searches.count());
+        stats.put("meanQueryMillis", Math.round(searches.mean(TimeUnit.MICROSECONDS)) / 1000.0);
+        return stats;
+    }
+
+    private int liveDocuments() {
+        lock.readLock().lock();
+        try {
+            return index.docCount - index.deadCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return index.terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Index target, EmployeeChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> {
+                EmployeeSnapshot employee = event.getCurrent();
+                target.put(employee.getId(), employee.getName(), employee.getDesignation(),
+                        employee.getDepartment(), employee.getEmail());
+            }
+            case DELETED -> target.remove(event.getEmployeeId());
+        }
+    }
+
+    private static List<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query != null) {
+            for (String term : SEPARATORS.split(query.toLowerCase(Locale.ROOT))) {
+                if (!term.isEmpty() && terms.size() < MAX_QUERY_TERMS) {
+                    terms.add(term);
+                }
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private static float boost(int fields) {
+        if ((fields & NAME) != 0) {
+            return 3.0f;
+        }
+        if ((fields & DESIGNATION) != 0) {
+            return 1.5f;
+        }
+        return 1.0f;
+    }
+
+    // Padded with two markers on each side, so a term of length n has n + 2 trigrams and the first
+    // letter alone is enough to share one
+    private static String[] trigrams(String term) {
+        String padded = "$$" + term + "$$";
+        String[] grams = new String[padded.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = padded.substring(i, i + 3);
+        }
+        return grams;
+    }
+
+    // Optimal string alignment distance (an adjacent swap counts as one edit); anything above
+    // maxEdits is reported as maxEdits + 1
+    static int editDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+        int[] previousRow = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        int[] nextRow = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            nextRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(row[j] + 1, nextRow[j - 1] + 1), row[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousRow[j - 2] + 1);
+                }
+                nextRow[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (rowMinimum > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = previousRow;
+            previousRow = row;
+            row = nextRow;
+            nextRow = recycled;
+        }
+        return Math.min(row[b.length()], maxEdits + 1);
+    }
+
+    // Ranked documents of one query, with scores indexed by document
+    private record Matches(int[] docs, float[] scores) {
+        static final Matches NONE = new Matches(new int[0], new float[0]);
+    }
+
+    private static final class Postings {
+        int[] docs = new int[4];
+        byte[] fields = new byte[4];
+        int size;
+
+        void add(int doc, int fieldMask) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+            }
+            docs[size] = doc;
+            fields[size] = (byte) fieldMask;
+            size++;
+        }
+    }
+
+    private static final class Index {
+        long[] ids = new long[1024];
+        String[] names = new String[1024];
+        String[] designations = new String[1024];
+        String[] departments = new String[1024];
+        String[] emails = new String[1024];
+        boolean[] dead = new boolean[1024];
+        int docCount;
+        int deadCount;
+        long postingCount;
+        long termCharacters;
+        long trigramEntries;
+        final Map<Long, Integer> docOf = new HashMap<>();
+        final TreeMap<String, Postings> terms = new TreeMap<>();
+        final Map<String, List<String>> trigrams = new HashMap<>();
+
+        void put(long id, String name, String designation, String department, String email) {
+            remove(id);
+            int doc = docCount++;
+            if (doc == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                names = Arrays.copyOf(names, capacity);
+                designations = Arrays.copyOf(designations, capacity);
+                departments = Arrays.copyOf(departments, capacity);
+                emails = Arrays.copyOf(emails, capacity);
+                dead = Arrays.copyOf(dead, capacity);
+            }
+            ids[doc] = id;
+            names[doc] = name;
+            designations[doc] = designation;
+            departments[doc] = department;
+            emails[doc] = email;
+            docOf.put(id, doc);
+
+            Map<String, Integer> fieldsByTerm = new LinkedHashMap<>();
+            addTerms(fieldsByTerm, name, NAME);
+            addTerms(fieldsByTerm, designation, DESIGNATION);
+            addTerms(fieldsByTerm, department, DEPARTMENT);
+            addTerms(fieldsByTerm, email, EMAIL);
+            for (Map.Entry<String, Integer> entry : fieldsByTerm.entrySet()) {
+                String term = entry.getKey();
+                Postings postings = terms.get(term);
+                if (postings == null) {
+                    postings = new Postings();
+                    terms.put(term, postings);
+                    termCharacters += term.length();
+                    for (String gram : trigrams(term)) {
+                        trigrams.computeIfAbsent(gram, key -> new ArrayList<>()).add(term);
+                        trigramEntries++;
+                    }
+                }
+                postings.add(doc, entry.getValue());
+                postingCount++;
+            }
+        }
+
+        void remove(long id) {
+            Integer doc = docOf.remove(id);
+            if (doc != null) {
+                dead[doc] = true;
+                deadCount++;
+            }
+        }
+
+        boolean needsCompaction() {
+            return deadCount > 1024 && deadCount * 2 > docCount;
+        }
+
+        Index compacted() {
+            Index fresh = new Index();
+            for (int doc = 0; doc < docCount; doc++) {
+                if (!dead[doc]) {
+                    fresh.put(ids[doc], names[doc], designations[doc], departments[doc], emails[doc]);
+                }
+            }
+            return fresh;
+        }
+
+        // Live documents matching every term, best first (then by name and id)
+        Matches match(List<String> queryTerms) {
+            float[] score = new float[docCount];
+            byte[] matchedTerms = new byte[docCount];
+            float[] best = new float[docCount];
+            int[] touched = new int[docCount];
+
+            for (String queryTerm : queryTerms) {
+                int touchedCount = 0;
+                int expansions = 0;
+                for (Map.Entry<String, Postings> entry : terms.tailMap(queryTerm, true).entrySet()) {
+                    String term = entry.getKey();
+                    if (!term.startsWith(queryTerm) || expansions++ == MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    float weight = term.length() == queryTerm.length() ? EXACT : PREFIX;
+                    touchedCount = collect(entry.getValue(), weight, best, touched, touchedCount);
+                }
+                if (queryTerm.length() >= MIN_FUZZY_LENGTH) {
+                    int maxEdits = queryTerm.length() <= 5 ? 1 : 2;
+                    for (String term : typoCandidates(queryTerm)) {
+                        if (term.startsWith(queryTerm)) {
+                            continue; // already counted as exact or prefix
+                        }
+                        int edits = editDistance(queryTerm, term, maxEdits);
+                        if (edits <= maxEdits) {
+                            touchedCount = collect(terms.get(term), edits == 1 ? ONE_EDIT : TWO_EDITS,
+                                    best, touched, touchedCount);
+                        }
+                    }
+                }
+                for (int i = 0; i < touchedCount; i++) {
+                    int doc = touched[i];
+                    score[doc] += best[doc];
+                    matchedTerms[doc]++;
+                    best[doc] = 0;
+                }
+            }
+
+            int hitCount = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (matchedTerms[doc] == queryTerms.size()) {
+                    hitCount++;
+                }
+            }
+            Integer[] hits = new Integer[hitCount];
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (matchedTerms[doc] == queryTerms.size()) {
+                    hits[next++] = doc;
+                }
+            }
+            Arrays.sort(hits, (a, b) -> {
+                int byScore = Float.compare(score[b], score[a]);
+                if (byScore != 0) {
+                    return byScore;
+                }
+                int byName = String.CASE_INSENSITIVE_ORDER.compare(nullToEmpty(names[a]), nullToEmpty(names[b]));
+                return byName != 0 ? byName : Long.compare(ids[a], ids[b]);
+            });
+            int[] docs = new int[hitCount];
+            for (int i = 0; i < hitCount; i++) {
+                docs[i] = hits[i];
+            }
+            return new Matches(docs, score);
+        }
+
+        // Terms sharing at least one padded trigram with the query term and of a length within two of it
+        private Set<String> typoCandidates(String queryTerm) {
+            Set<String> candidates = new LinkedHashSet<>();
+            for (String gram : trigrams(queryTerm)) {
+                List<String> withGram = trigrams.get(gram);
+                if (withGram == null) {
+                    continue;
+                }
+                for (String term : withGram) {
+                    if (Math.abs(term.length() - queryTerm.length()) <= 2) {
+                        candidates.add(term);
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        private int collect(Postings postings, float weight, float[] best, int[] touched, int touchedCount) {
+            for (int i = 0; i < postings.size; i++) {
+                int doc = postings.docs[i];
+                if (dead[doc]) {
+                    continue;
+                }
+                float value = weight * boost(postings.fields[i]);
+                if (best[doc] == 0) {
+                    touched[touchedCount++] = doc;
+                }
+                if (value > best[doc]) {
+                    best[doc] = value;
+                }
+            }
+            return touchedCount;
+        }
+
+        // Rough heap footprint: arrays, stored fields, dictionary entries and trigram lists
+        long approximateBytes() {
+            long bytes = (long) ids.length * (8 + 1 + 4 * 4);
+            for (int doc = 0; doc < docCount; doc++) {
+                bytes += 2L * (length(names[doc]) + length(designations[doc]) + length(departments[doc]) + length(emails[doc]));
+            }
+            bytes += docOf.size() * 48L;
+            bytes += terms.size() * 88L + termCharacters * 2;
+            bytes += postingCount * 5;
+            bytes += trigrams.size() * 80L + trigramEntries * 4;
+            return bytes;
+        }
+
+        private static void addTerms(Map<String, Integer> fieldsByTerm, String text, int field) {
+            if (text == null) {
+                return;
+            }
+            for (String term : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+                if (!term.isEmpty()) {
+                    fieldsByTerm.merge(term, field, (a, b) -> a | b);
+                }
+            }
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+
+        private static String nullToEmpty(String value) {
+            return value != null ? value : "";
+        }
+    }
+}
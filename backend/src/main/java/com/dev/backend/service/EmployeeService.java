@@ -1,65 +1,139 @@
 package com.dev.backend.service;
 
+import com.dev.backend.dto.CursorPageDTO;
 import com.dev.backend.dto.EmployeeDTO;
+import com.dev.backend.event.EmployeeChangedEvent;
+import com.dev.backend.event.EmployeeSnapshot;
 import com.dev.backend.model.Employee;
+import com.dev.backend.model.Role;
 import com.dev.backend.repository.EmployeeRepository;
 import com.dev.backend.repository.AttendanceRepository;
 import com.dev.backend.repository.PerformanceRepository;
+import com.dev.backend.repository.projection.EmployeeCountView;
+import com.dev.backend.repository.projection.EmployeeSummaryView;
+import com.dev.backend.repository.projection.EmployeeView;
+import com.dev.backend.repository.projection.LatestScoreView;
 import com.dev.backend.exception.EmployeeNotFoundException;
 import com.dev.backend.exception.BusinessLogicException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class EmployeeService {
+    static final String EMPLOYEES_CACHE = "employees";
+
+    // Keeps IN lists well below driver bind-parameter limits on large pages
+    private static final int BULK_QUERY_CHUNK_SIZE = 1000;
+
     private final EmployeeRepository employeeRepository;
     private final AttendanceRepository attendanceRepository;
     private final PerformanceRepository performanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeRoster roster;
 
     public EmployeeService(EmployeeRepository employeeRepository, 
                           AttendanceRepository attendanceRepository,
-                          PerformanceRepository performanceRepository) {
+                          PerformanceRepository performanceRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          EmployeeRoster roster) {
         this.employeeRepository = employeeRepository;
         this.attendanceRepository = attendanceRepository;
         this.performanceRepository = performanceRepository;
+        this.eventPublisher = eventPublisher;
+        this.roster = roster;
     }
 
+    @Cacheable(value = EMPLOYEES_CACHE, key = "'all'", sync = true)
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getAllEmployees() {
-        return employeeRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(employeeRepository.findAllViews());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<EmployeeDTO> getEmployeePage(Long after, int limit) {
+        List<EmployeeView> page = employeeRepository.findViewPageAfter(after, Limit.of(limit));
+        return CursorPageDTO.of(convertToDTOs(page), limit, page.isEmpty() ? null : page.get(page.size() - 1).getId());
+    }
+
+    // Streams every employee in id order, converting one bulk chunk at a time
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeDTO> sink) {
+        try (Stream<EmployeeView> rows = employeeRepository.streamAllViews()) {
+            List<EmployeeView> chunk = new ArrayList<>(BULK_QUERY_CHUNK_SIZE);
+            Iterator<EmployeeView> it = rows.iterator();
+            while (it.hasNext()) {
+                chunk.add(it.next());
+                if (chunk.size() == BULK_QUERY_CHUNK_SIZE || !it.hasNext()) {
+                    convertToDTOs(chunk).forEach(sink);
+                    chunk.clear();
+                }
+            }
+        }
     }
 
+    @Transactional(readOnly = true)
     public EmployeeDTO getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
+        EmployeeView employee = employeeRepository.findViewById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
         return convertToDTO(employee);
     }
 
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getEmployeesByManager(Long managerId) {
-        return employeeRepository.findByManagerId(managerId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(employeeRepository.findViewsByManagerId(managerId));
     }
 
+    @Cacheable(value = EMPLOYEES_CACHE, key = "'department:' + #department", sync = true)
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getEmployeesByDepartment(String department) {
-        return employeeRepository.findByDepartment(department).stream()
-                .map(this::convertToDTO)
+        if (roster.isReady()) {
+            return convertIdsToDTOs(roster.idsInDepartment(department));
+        }
+        return convertToDTOs(employeeRepository.findViewsByDepartment(department));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getDepartmentCounts() {
+        if (roster.isReady()) {
+            return roster.departmentCounts();
+        }
+        return employeeRepository.findAllSummaries().stream()
+                .collect(Collectors.groupingBy(EmployeeSummaryView::getDepartment, Collectors.summingInt(employee -> 1)));
+    }
+
+    // Ranked like the dashboard's top performers: score first, then lowest id
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getTopPerformers(int limit) {
+        if (roster.isReady()) {
+            return convertIdsToDTOs(roster.topPerformers(limit));
+        }
+        return getAllEmployees().stream()
+                .sorted(Comparator.comparing(EmployeeDTO::getPerformanceScore).reversed()
+                        .thenComparing(EmployeeDTO::getId))
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getActiveEmployees() {
-        return employeeRepository.findAll().stream()
-                .filter(emp -> emp.getUser() != null && emp.getUser().getRole() != null)
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(employeeRepository.findViewsWithRole());
     }
 
     public EmployeeDTO createEmployee(EmployeeDTO employeeDTO) {
@@ -67,6 +141,7 @@ public class EmployeeService {
         
         Employee employee = convertToEntity(employeeDTO);
         employee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeSnapshot.of(employee)));
         
         return convertToDTO(employee);
     }
@@ -76,6 +151,7 @@ public class EmployeeService {
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
         
         validateEmployeeData(employeeDTO);
+        EmployeeSnapshot previous = EmployeeSnapshot.of(existingEmployee);
         
         // Update fields
         existingEmployee.setName(employeeDTO.getName());
@@ -84,6 +160,7 @@ public class EmployeeService {
         existingEmployee.setJoinDate(employeeDTO.getJoinDate());
         
         existingEmployee = employeeRepository.save(existingEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(previous, EmployeeSnapshot.of(existingEmployee)));
         return convertToDTO(existingEmployee);
     }
 
@@ -97,26 +174,35 @@ public class EmployeeService {
         }
         
         employeeRepository.deleteById(id);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(EmployeeSnapshot.of(employee)));
     }
 
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getEmployeesWithLowPerformance(Integer threshold) {
-        return employeeRepository.findAll().stream()
-                .filter(emp -> {
-                    // Get latest performance score
-                    return performanceRepository.findTopByEmployeeIdOrderByDateDesc(emp.getId())
-                            .map(perf -> perf.getScore() < threshold)
-                            .orElse(false);
-                })
-                .map(this::convertToDTO)
+        if (roster.isReady()) {
+            return convertIdsToDTOs(roster.idsScoredBelow(threshold));
+        }
+        return convertToDTOs(employeeRepository.findViewsWithLatestScoreBelow(threshold));
+    }
+
+    // Rates are over the last month, the same window the DTO's attendanceRate uses
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getEmployeesWithLowAttendance(Integer rate) {
+        if (roster.isReady()) {
+            return convertIdsToDTOs(roster.idsWithAttendanceRateBelow(rate));
+        }
+        return getAllEmployees().stream()
+                .filter(employee -> employee.getAttendanceRate() < rate)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getEmployeesByTenure(Integer years) {
         LocalDate cutoffDate = LocalDate.now().minusYears(years);
-        return employeeRepository.findAll().stream()
-                .filter(emp -> emp.getJoinDate().isBefore(cutoffDate))
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        if (roster.isReady()) {
+            return convertIdsToDTOs(roster.idsJoinedBefore(cutoffDate));
+        }
+        return convertToDTOs(employeeRepository.findViewsByJoinDateBefore(cutoffDate));
     }
 
     private void validateEmployeeData(EmployeeDTO employeeDTO) {
@@ -138,13 +224,79 @@ public class EmployeeService {
     }
 
     private EmployeeDTO convertToDTO(Employee employee) {
+        return convertToDTO(new EntityView(employee));
+    }
+
+    private EmployeeDTO convertToDTO(EmployeeView employee) {
         // Calculate performance score
-        Double performanceScore = performanceRepository.findTopByEmployeeIdOrderByDateDesc(employee.getId())
-                .map(perf -> perf.getScore() / 10.0)
-                .orElse(8.5);
+        Integer latestScore = performanceRepository.findTopByEmployeeIdOrderByDateDesc(employee.getId())
+                .map(perf -> perf.getScore())
+                .orElse(null);
+
+        LocalDate startDate = LocalDate.now().minusMonths(1);
+        long presentDays = attendanceRepository.countByEmployeeIdAndDateBetween(employee.getId(), startDate, LocalDate.now());
+
+        return buildDTO(employee, latestScore, calculateAttendanceRate(startDate, presentDays));
+    }
+
+    // Bulk variant of convertToDTO: one grouped query per chunk for scores and attendance
+    // instead of two queries per employee
+    private List<EmployeeDTO> convertToDTOs(List<EmployeeView> employees) {
+        if (employees.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        // Calculate attendance rate
-        Integer attendanceRate = calculateAttendanceRate(employee.getId());
+        List<Long> employeeIds = employees.stream()
+                .map(EmployeeView::getId)
+                .collect(Collectors.toList());
+
+        LocalDate startDate = LocalDate.now().minusMonths(1);
+        Map<Long, Integer> latestScores = new HashMap<>();
+        Map<Long, Long> presentDays = new HashMap<>();
+        for (int from = 0; from < employeeIds.size(); from += BULK_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = employeeIds.subList(from, Math.min(from + BULK_QUERY_CHUNK_SIZE, employeeIds.size()));
+            for (LatestScoreView view : performanceRepository.findLatestScoresByEmployeeIds(chunk)) {
+                latestScores.put(view.getEmployeeId(), view.getScore());
+            }
+            for (EmployeeCountView view : attendanceRepository.countByEmployeeIdsAndDateBetween(chunk, startDate, LocalDate.now())) {
+                presentDays.put(view.getEmployeeId(), view.getTotal());
+            }
+        }
+
+        List<EmployeeDTO> result = new ArrayList<>(employees.size());
+        for (EmployeeView employee : employees) {
+            result.add(buildDTO(employee,
+                    latestScores.get(employee.getId()),
+                    calculateAttendanceRate(startDate, presentDays.getOrDefault(employee.getId(), 0L))));
+        }
+        return result;
+    }
+
+    // Hydrates ids picked from the roster, keeping their order
+    private List<EmployeeDTO> convertIdsToDTOs(long[] ids) {
+        List<EmployeeDTO> result = new ArrayList<>(ids.length);
+        List<Long> chunk = new ArrayList<>(BULK_QUERY_CHUNK_SIZE);
+        for (int i = 0; i < ids.length; i++) {
+            chunk.add(ids[i]);
+            if (chunk.size() == BULK_QUERY_CHUNK_SIZE || i == ids.length - 1) {
+                Map<Long, EmployeeView> views = employeeRepository.findViewsByIdIn(chunk).stream()
+                        .collect(Collectors.toMap(EmployeeView::getId, view -> view));
+                List<EmployeeView> ordered = new ArrayList<>(chunk.size());
+                for (Long id : chunk) {
+                    EmployeeView view = views.get(id);
+                    if (view != null) {
+                        ordered.add(view);
+                    }
+                }
+                result.addAll(convertToDTOs(ordered));
+                chunk.clear();
+            }
+        }
+        return result;
+    }
+
+    private EmployeeDTO buildDTO(EmployeeView employee, Integer latestScore, Integer attendanceRate) {
+        Double performanceScore = latestScore != null ? latestScore / 10.0 : 8.5;
 
         // Calculate project statistics
         Integer totalProjects = calculateTotalProjects(employee.getId());
@@ -156,11 +308,11 @@ public class EmployeeService {
                 .designation(employee.getDesignation())
                 .department(employee.getDepartment())
                 .joinDate(employee.getJoinDate())
-                .email(employee.getUser() != null ? employee.getUser().getEmail() : null)
+                .email(employee.getEmail())
                 .phone("+1 (555) " + String.format("%03d", employee.getId()) + "-" + String.format("%04d", employee.getId() * 1000))
                 .status("ACTIVE")
-                .managerId(employee.getManager() != null ? employee.getManager().getId() : null)
-                .managerName(employee.getManager() != null ? employee.getManager().getName() : null)
+                .managerId(employee.getManagerId())
+                .managerName(employee.getManagerName())
                 .performanceScore(performanceScore)
                 .attendanceRate(attendanceRate)
                 .skills(List.of("Java", "Spring Boot", "React", "JavaScript"))
@@ -176,6 +328,19 @@ public class EmployeeService {
                 .build();
     }
 
+    // Lets freshly written entities share the projection-based DTO mapping
+    private record EntityView(Employee employee) implements EmployeeView {
+        public Long getId() { return employee.getId(); }
+        public String getName() { return employee.getName(); }
+        public String getDesignation() { return employee.getDesignation(); }
+        public String getDepartment() { return employee.getDepartment(); }
+        public LocalDate getJoinDate() { return employee.getJoinDate(); }
+        public Long getManagerId() { return employee.getManager() != null ? employee.getManager().getId() : null; }
+        public String getManagerName() { return employee.getManager() != null ? employee.getManager().getName() : null; }
+        public String getEmail() { return employee.getUser() != null ? employee.getUser().getEmail() : null; }
+        public Role getRole() { return employee.getUser() != null ? employee.getUser().getRole() : null; }
+    }
+
     private Employee convertToEntity(EmployeeDTO employeeDTO) {
         Employee employee = new Employee();
         employee.setName(employeeDTO.getName());
@@ -185,10 +350,8 @@ public class EmployeeService {
         return employee;
     }
 
-    private Integer calculateAttendanceRate(Long employeeId) {
-        LocalDate startDate = LocalDate.now().minusMonths(1);
+    static Integer calculateAttendanceRate(LocalDate startDate, long presentDays) {
         long totalWorkingDays = ChronoUnit.DAYS.between(startDate, LocalDate.now());
-        long presentDays = attendanceRepository.countByEmployeeIdAndDateBetween(employeeId, startDate, LocalDate.now());
         
         if (totalWorkingDays == 0) return 100;
         return (int) ((presentDays * 100) / totalWorkingDays);
@@ -0,0 +1,199 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.LiveEventsProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fans events out to every open SSE stream. Each event is serialized once and offered to every
+// subscriber's bounded queue without blocking the publisher; a small sender pool drains the queues,
+// at most one task per subscriber. A subscriber whose queue is full has fallen too far behind and is
+// disconnected: its EventSource reconnects and reloads what it missed. Like DashboardSectionRunner,
+// the pool is not an Executor bean.
+@Component
+public class LiveEventBroadcaster implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(LiveEventBroadcaster.class);
+    static final String METRIC_PREFIX = "live.events";
+
+    private final ObjectMapper objectMapper;
+    private final LiveEventsProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadPoolExecutor sender;
+    private final Counter published;
+    private final Counter dropped;
+
+    public LiveEventBroadcaster(ObjectMapper objectMapper, LiveEventsProperties properties, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("live-events-");
+        threadFactory.setDaemon(true);
+        // One queued task per subscriber at most, so this queue is bounded by max-subscribers
+        this.sender = new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        this.sender.allowCoreThreadTimeOut(true);
+        this.published = Counter.builder(METRIC_PREFIX + ".published")
+                .description("Events fanned out to live subscribers")
+                .register(registry);
+        this.dropped = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("Subscribers disconnected for falling behind")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".subscribers", subscribers, Set::size)
+                .description("Open live event streams")
+                .register(registry);
+    }
+
+    // null when the subscriber limit has been reached
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, properties.getSubscriberQueueCapacity());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // Sent straight away so the browser and any proxy in between see the stream open
+        deliver(subscriber, Message.CONNECTED);
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public void publish(String name, Object payload) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize live event {}", name, e);
+            return;
+        }
+        Message message = new Message(Long.toString(sequence.incrementAndGet()), name, json);
+        published.increment();
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, message);
+        }
+    }
+
+    // Keeps idle streams open through proxies and notices clients that went away without closing
+    @Scheduled(fixedDelayString = "${live-events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, Message.HEARTBEAT);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private void deliver(Subscriber subscriber, Message message) {
+        if (!subscriber.queue.offer(message)) {
+            dropped.increment();
+            log.info("live_subscriber_dropped queued={}", subscriber.queue.size());
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Message message;
+            while ((message = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(message.toEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the stream already completed; the container cleans up the request
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An event may have been queued after the last poll but before draining was cleared
+        if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<Message> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private static final class Message {
+        static final Message CONNECTED = new Message(null, null, "connected");
+        static final Message HEARTBEAT = new Message(null, null, "heartbeat");
+
+        final String id;
+        final String name;
+        // JSON for events, comment text for CONNECTED and HEARTBEAT
+        final String data;
+
+        Message(String id, String name, String data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(data);
+            }
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.dev.backend.service;
+
+import com.dev.backend.config.LiveEventsProperties;
+import com.dev.backend.dto.LiveEventDTO;
+import com.dev.backend.event.AttendanceChangedEvent;
+import com.dev.backend.event.AttendanceSnapshot;
+import com.dev.backend.event.ChangeType;
+import com.dev.backend.event.EmployeeChangedEvent;
+import com.dev.backend.event.EmployeeSnapshot;
+import com.dev.backend.event.PerformanceChangedEvent;
+import com.dev.backend.event.PerformanceSnapshot;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Turns committed domain events into live events. Changes are buffered and sent on a short tick:
+// a burst larger than max-events-per-flush (a bulk attendance upload, say) goes out as a single
+// "changes" summary instead of thousands of messages, and the dashboard is computed and sent at
+// most once per tick, however many streams are open.
+@Component
+public class LiveEventRelay {
+    static final String DASHBOARD_EVENT = "dashboard";
+    static final String SUMMARY_EVENT = "changes";
+
+    private final LiveEventBroadcaster broadcaster;
+    private final DashboardService dashboardService;
+    private final AttendanceService attendanceService;
+    private final LiveEventsProperties properties;
+
+    private final Object lock = new Object();
+    private List<LiveEventDTO> buffered = new ArrayList<>();
+    // Changes past max-events-per-flush are only counted
+    private Map<String, Integer> overflow = new HashMap<>();
+
+    public LiveEventRelay(LiveEventBroadcaster broadcaster, DashboardService dashboardService,
+                          AttendanceService attendanceService, LiveEventsProperties properties) {
+        this.broadcaster = broadcaster;
+        this.dashboardService = dashboardService;
+        this.attendanceService = attendanceService;
+        this.properties = properties;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        if (!broadcaster.hasSubscribers()) {
+            return;
+        }
+        AttendanceSnapshot latest = event.getLatest();
+        String type = switch (event.getType()) {
+            case CREATED -> LiveEventDTO.CLOCK_IN;
+            case UPDATED -> event.getPrevious().getClockOut() == null && latest.getClockOut() != null
+                    ? LiveEventDTO.CLOCK_OUT : LiveEventDTO.ATTENDANCE_UPDATED;
+            case DELETED -> LiveEventDTO.ATTENDANCE_DELETED;
+        };
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("clockIn", latest.getClockIn());
+        data.put("clockOut", latest.getClockOut());
+        if (event.getType() != ChangeType.DELETED && latest.getClockIn() != null) {
+            data.put("status", attendanceService.determineStatus(latest.getClockIn(), latest.getClockOut()));
+        }
+        buffer(new LiveEventDTO(type, latest.getId(), latest.getEmployeeId(), latest.getDate(), data));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPerformanceChanged(PerformanceChangedEvent event) {
+        if (!broadcaster.hasSubscribers()) {
+            return;
+        }
+        PerformanceSnapshot latest = event.getLatest();
+        String type = switch (event.getType()) {
+            case CREATED -> LiveEventDTO.REVIEW_ADDED;
+            case UPDATED -> LiveEventDTO.REVIEW_UPDATED;
+            case DELETED -> LiveEventDTO.REVIEW_DELETED;
+        };
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("score", latest.getScore());
+        buffer(new LiveEventDTO(type, latest.getId(), latest.getEmployeeId(), latest.getDate(), data));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!broadcaster.hasSubscribers()) {
+            return;
+        }
+        EmployeeSnapshot latest = event.getLatest();
+        String type = switch (event.getType()) {
+            case CREATED -> LiveEventDTO.EMPLOYEE_ADDED;
+            case UPDATED -> LiveEventDTO.EMPLOYEE_UPDATED;
+            case DELETED -> LiveEventDTO.EMPLOYEE_REMOVED;
+        };
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", latest.getName());
+        data.put("designation", latest.getDesignation());
+        data.put("department", latest.getDepartment());
+        data.put("joinDate", latest.getJoinDate());
+        buffer(new LiveEventDTO(type, latest.getId(), latest.getId(), null, data));
+    }
+
+    @Scheduled(fixedDelayString = "${live-events.flush-interval:PT0.25S}")
+    public void flush() {
+        List<LiveEventDTO> events;
+        Map<String, Integer> skipped;
+        synchronized (lock) {
+            if (buffered.isEmpty()) {
+                return;
+            }
+            events = buffered;
+            skipped = overflow;
+            buffered = new ArrayList<>();
+            overflow = new HashMap<>();
+        }
+
+        if (skipped.isEmpty()) {
+            for (LiveEventDTO event : events) {
+                broadcaster.publish(event.getType(), event);
+            }
+        } else {
+            // Too many to send one by one; clients reload what they show
+            Map<String, Integer> counts = new HashMap<>(skipped);
+            for (LiveEventDTO event : events) {
+                counts.merge(event.getType(), 1, Integer::sum);
+            }
+            broadcaster.publish(SUMMARY_EVENT, Map.of("counts", counts));
+        }
+        if (broadcaster.hasSubscribers()) {
+            broadcaster.publish(DASHBOARD_EVENT, dashboardService.getDashboardStats());
+        }
+    }
+
+    private void buffer(LiveEventDTO event) {
+        synchronized (lock) {
+            if (buffered.size() < properties.getMaxEventsPerFlush()) {
+                buffered.add(event);
+            } else {
+                overflow.merge(event.getType(), 1, Integer::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.dev.backend.service;
+
+import com.dev.backend.event.EmployeeChangedEvent;
+import com.dev.backend.event.EmployeeSnapshot;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.repository.projection.ReportingLineView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Reporting lines held as primitive arrays so subtree questions never walk the manager chain in the database.
+// Rebuilt from one projection query at startup and patched copy-on-write by employee events; readers only
+// ever see a complete, immutable Tree through the volatile field. A patch rebuilds the arrays in O(n), which
+// copy-on-write has to copy anyway: well under a millisecond per write at 10,000 employees and a few at
+// 100,000 (OrgChartIndexBenchmark), against reporting-line changes that arrive a few at a time.
+@Component
+public class OrgChartIndex {
+    private static final Logger log = LoggerFactory.getLogger(OrgChartIndex.class);
+
+    private final EmployeeRepository employeeRepository;
+
+    private final Object writeLock = new Object();
+    private volatile Tree tree;
+
+    public OrgChartIndex(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    // Loading under the write lock makes events that commit meanwhile wait and then re-apply on top;
+    // every patch sets absolute state, so applying one the load already saw is harmless
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Tree fresh;
+        synchronized (writeLock) {
+            List<ReportingLineView> lines = employeeRepository.findAllReportingLines();
+            long[] ids = new long[lines.size()];
+            long[] managerIds = new long[lines.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ReportingLineView line = lines.get(i);
+                ids[i] = line.getId();
+                managerIds[i] = line.getManagerId() != null ? line.getManagerId() : Tree.NO_MANAGER;
+            }
+            fresh = Tree.build(ids, managerIds);
+            tree = fresh;
+        }
+        log.info("Org chart index built for {} employees under {} top-level managers", fresh.size(), fresh.roots);
+    }
+
+    Tree tree() {
+        Tree current = tree;
+        if (current == null) {
+            rebuild();
+            current = tree;
+        }
+        return current;
+    }
+
+    @Order(ChangeVersionRegistry.REBUILD_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        synchronized (writeLock) {
+            Tree current = tree;
+            if (current == null) {
+                return;
+            }
+            tree = switch (event.getType()) {
+                case CREATED, UPDATED -> {
+                    EmployeeSnapshot employee = event.getCurrent();
+                    yield current.withReportingLine(employee.getId(),
+                            employee.getManagerId() != null ? employee.getManagerId() : Tree.NO_MANAGER);
+                }
+                case DELETED -> current.without(event.getEmployeeId());
+            };
+        }
+    }
+
+    // Employees are numbered by their position in the sorted id array. A pre-order walk gives each employee the
+    // range [enter, exit] of tour positions that holds exactly its subtree, so "is A under B" is two comparisons
+    // and listing a subtree is reading a slice of the tour.
+    static final class Tree {
+        static final long NO_MANAGER = 0L;
+
+        final long[] ids;        // ascending
+        final long[] managerIds; // NO_MANAGER when the employee has none
+        final int[] parent;      // -1 for top-level employees
+        final int[] childStart;  // reports of node i are children[childStart[i] .. childStart[i + 1])
+        final int[] children;
+        final int[] depth;
+        final int[] enter;
+        final int[] exit;
+        final int[] tour;        // node at each pre-order position
+        final int roots;
+
+        private Tree(long[] ids, long[] managerIds, int[] parent, int[] childStart, int[] children,
+                     int[] depth, int[] enter, int[] exit, int[] tour, int roots) {
+            this.ids = ids;
+            this.managerIds = managerIds;
+            this.parent = parent;
+            this.childStart = childStart;
+            this.children = children;
+            this.depth = depth;
+            this.enter = enter;
+            this.exit = exit;
+            this.tour = tour;
+            this.roots = roots;
+        }
+
+        // ids must be ascending. Managers that are unknown, the employee itself, or that close a cycle are
+        // treated as absent, so every employee ends up in exactly one tree.
+        static Tree build(long[] ids, long[] managerIds) {
+            int n = ids.length;
+            int[] parent = new int[n];
+            for (int i = 0; i < n; i++) {
+                int manager = managerIds[i] == NO_MANAGER ? -1 : Arrays.binarySearch(ids, managerIds[i]);
+                parent[i] = manager >= 0 && manager != i ? manager : -1;
+            }
+            breakCycles(parent);
+
+            int[] childStart = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                if (parent[i] >= 0) {
+                    childStart[parent[i] + 1]++;
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                childStart[i + 1] += childStart[i];
+            }
+            int[] children = new int[childStart[n]];
+            int[] cursor = Arrays.copyOf(childStart, n);
+            for (int i = 0; i < n; i++) {
+                if (parent[i] >= 0) {
+                    children[cursor[parent[i]]++] = i;
+                }
+            }
+
+            int[] depth = new int[n];
+            int[] enter = new int[n];
+            int[] exit = new int[n];
+            int[] tour = new int[n];
+            int[] stack = new int[n];
+            System.arraycopy(childStart, 0, cursor, 0, n);
+            int position = 0;
+            int roots = 0;
+            for (int root = 0; root < n; root++) {
+                if (parent[root] >= 0) {
+                    continue;
+                }
+                roots++;
+                int top = 0;
+                stack[0] = root;
+                enter[root] = position;
+                tour[position++] = root;
+                while (top >= 0) {
+                    int node = stack[top];
+                    if (cursor[node] < childStart[node + 1]) {
+                        int child = children[cursor[node]++];
+                        depth[child] = depth[node] + 1;
+                        enter[child] = position;
+                        tour[position++] = child;
+                        stack[++top] = child;
+                    } else {
+                        exit[node] = position - 1;
+                        top--;
+                    }
+                }
+            }
+            return new Tree(ids, managerIds, parent, childStart, children, depth, enter, exit, tour, roots);
+        }
+
+        // Walks each manager chain once; a chain that runs back into itself is cut at the last link walked
+        private static void breakCycles(int[] parent) {
+            int n = parent.length;
+            byte[] state = new byte[n]; // 0 unseen, 1 on the chain being walked, 2 settled
+            int[] chain = new int[n];
+            for (int i = 0; i < n; i++) {
+                int length = 0;
+                int node = i;
+                while (node >= 0 && state[node] == 0) {
+                    state[node] = 1;
+                    chain[length++] = node;
+                    node = parent[node];
+                }
+                if (node >= 0 && state[node] == 1) {
+                    parent[chain[length - 1]] = -1;
+                }
+                for (int k = 0; k < length; k++) {
+                    state[chain[k]] = 2;
+                }
+            }
+        }
+
+        Tree withReportingLine(long id, long managerId) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) {
+                if (managerIds[index] == managerId) {
+                    return this;
+                }
+                long[] managers = managerIds.clone();
+                managers[index] = managerId;
+                return build(ids, managers);
+            }
+            int insertAt = -index - 1;
+            long[] newIds = new long[ids.length + 1];
+            long[] newManagers = new long[ids.length + 1];
+            System.arraycopy(ids, 0, newIds, 0, insertAt);
+            System.arraycopy(managerIds, 0, newManagers, 0, insertAt);
+            newIds[insertAt] = id;
+            newManagers[insertAt] = managerId;
+            System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+            System.arraycopy(managerIds, insertAt, newManagers, insertAt + 1, ids.length - insertAt);
+            return build(newIds, newManagers);
+        }
+
+        // Any reports still pointing at the removed employee become top-level rather than dangling
+        Tree without(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) {
+                return this;
+            }
+            long[] newIds = new long[ids.length - 1];
+            long[] newManagers = new long[ids.length - 1];
+            System.arraycopy(ids, 0, newIds, 0, index);
+            System.arraycopy(managerIds, 0, newManagers, 0, index);
+            System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+            System.arraycopy(managerIds, index + 1, newManagers, index, ids.length - index - 1);
+            for (int i = 0; i < newManagers.length; i++) {
+                if (newManagers[i] == id) {
+                    newManagers[i] = NO_MANAGER;
+                }
+            }
+            return build(newIds, newManagers);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        int indexOf(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index >= 0 ? index : -1;
+        }
+
+        // True when node is root or anywhere below it
+        boolean isInSubtree(int node, int root) {
+            return enter[root] <= enter[node] && enter[node] <= exit[root];
+        }
+
+        // Employees below node, not counting node itself
+        int reportCount(int node) {
+            return exit[node] - enter[node];
+        }
+
+        int directReportCount(int node) {
+            return childStart[node + 1] - childStart[node];
+        }
+    }
+}
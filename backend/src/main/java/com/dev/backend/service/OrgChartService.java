@@ -0,0 +1,150 @@
+package com.dev.backend.service;
+
+import com.dev.backend.dto.OrgChartNodeDTO;
+import com.dev.backend.dto.OrgChartStatsDTO;
+import com.dev.backend.exception.BusinessLogicException;
+import com.dev.backend.exception.EmployeeNotFoundException;
+import com.dev.backend.repository.AttendanceRepository;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.repository.PerformanceRepository;
+import com.dev.backend.repository.projection.EmployeeCountView;
+import com.dev.backend.repository.projection.EmployeeSummaryView;
+import com.dev.backend.repository.projection.LatestScoreView;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Manager queries answered from the OrgChartIndex; the database is only asked for the columns of the
+// employees already selected, in id chunks
+@Service
+@Transactional(readOnly = true)
+public class OrgChartService {
+    private static final int BULK_QUERY_CHUNK_SIZE = 1000;
+
+    private final OrgChartIndex orgChartIndex;
+    private final EmployeeRepository employeeRepository;
+    private final PerformanceRepository performanceRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    public OrgChartService(OrgChartIndex orgChartIndex,
+                           EmployeeRepository employeeRepository,
+                           PerformanceRepository performanceRepository,
+                           AttendanceRepository attendanceRepository) {
+        this.orgChartIndex = orgChartIndex;
+        this.employeeRepository = employeeRepository;
+        this.performanceRepository = performanceRepository;
+        this.attendanceRepository = attendanceRepository;
+    }
+
+    // Everyone below the employee in pre-order (each manager directly ahead of their own reports),
+    // cut off maxDepth levels down when given
+    public List<OrgChartNodeDTO> getSubtree(Long employeeId, Integer maxDepth) {
+        if (maxDepth != null && maxDepth < 1) {
+            throw new BusinessLogicException("maxDepth must be at least 1");
+        }
+        OrgChartIndex.Tree tree = orgChartIndex.tree();
+        int root = requireNode(tree, employeeId);
+        int deepest = maxDepth != null ? tree.depth[root] + maxDepth : Integer.MAX_VALUE;
+
+        int[] nodes = new int[tree.reportCount(root)];
+        int count = 0;
+        for (int position = tree.enter[root] + 1; position <= tree.exit[root]; ) {
+            int node = tree.tour[position];
+            nodes[count++] = node;
+            // At the depth limit the node's own subtree is skipped in one step
+            position = tree.depth[node] < deepest ? position + 1 : tree.exit[node] + 1;
+        }
+
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(tree.ids[nodes[i]]);
+        }
+        Map<Long, EmployeeSummaryView> summaries = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += BULK_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_QUERY_CHUNK_SIZE, ids.size()));
+            for (EmployeeSummaryView summary : employeeRepository.findSummariesByIdIn(chunk)) {
+                summaries.put(summary.getId(), summary);
+            }
+        }
+
+        List<OrgChartNodeDTO> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int node = nodes[i];
+            EmployeeSummaryView summary = summaries.get(tree.ids[node]);
+            if (summary == null) {
+                continue; // deleted after the index snapshot was taken
+            }
+            result.add(new OrgChartNodeDTO(summary.getId(), summary.getName(), summary.getDesignation(),
+                    summary.getDepartment(), tree.ids[tree.parent[node]], tree.depth[node] - tree.depth[root],
+                    tree.directReportCount(node), tree.reportCount(node)));
+        }
+        return result;
+    }
+
+    // Headcount and depth come straight from the index; performance and attendance are averaged over
+    // the same per-employee values the employee listing reports (8.5 for the unreviewed, last month's rate)
+    public OrgChartStatsDTO getSubtreeStats(Long employeeId) {
+        OrgChartIndex.Tree tree = orgChartIndex.tree();
+        int root = requireNode(tree, employeeId);
+        int headcount = tree.reportCount(root);
+        int directReports = tree.directReportCount(root);
+        if (headcount == 0) {
+            return new OrgChartStatsDTO(employeeId, 0, 0, 0, 0, null, null);
+        }
+
+        List<Long> ids = new ArrayList<>(headcount);
+        int depth = 0;
+        for (int position = tree.enter[root] + 1; position <= tree.exit[root]; position++) {
+            int node = tree.tour[position];
+            ids.add(tree.ids[node]);
+            depth = Math.max(depth, tree.depth[node] - tree.depth[root]);
+        }
+
+        LocalDate startDate = LocalDate.now().minusMonths(1);
+        int reviewed = 0;
+        long scoreSum = 0;
+        int attended = 0;
+        long attendanceRateSum = 0;
+        for (int from = 0; from < ids.size(); from += BULK_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_QUERY_CHUNK_SIZE, ids.size()));
+            for (LatestScoreView view : performanceRepository.findLatestScoresByEmployeeIds(chunk)) {
+                reviewed++;
+                scoreSum += view.getScore();
+            }
+            for (EmployeeCountView view : attendanceRepository.countByEmployeeIdsAndDateBetween(chunk, startDate, LocalDate.now())) {
+                attended++;
+                attendanceRateSum += EmployeeService.calculateAttendanceRate(startDate, view.getTotal());
+            }
+        }
+
+        double performanceSum = scoreSum / 10.0 + (headcount - reviewed) * 8.5;
+        attendanceRateSum += (long) (headcount - attended) * EmployeeService.calculateAttendanceRate(startDate, 0);
+        return new OrgChartStatsDTO(employeeId, headcount, directReports, depth, reviewed,
+                round(performanceSum / headcount), round(attendanceRateSum / (double) headcount));
+    }
+
+    // True when employeeId sits anywhere below managerId
+    public boolean reportsTo(Long employeeId, Long managerId) {
+        OrgChartIndex.Tree tree = orgChartIndex.tree();
+        int node = requireNode(tree, employeeId);
+        int manager = requireNode(tree, managerId);
+        return node != manager && tree.isInSubtree(node, manager);
+    }
+
+    private static int requireNode(OrgChartIndex.Tree tree, Long employeeId) {
+        int node = tree.indexOf(employeeId);
+        if (node < 0) {
+            throw new EmployeeNotFoundException("Employee not found with id: " + employeeId);
+        }
+        return node;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.dev.backend.service;
+
+import com.dev.backend.event.PerformanceChangedEvent;
+import com.dev.backend.event.PerformanceSnapshot;
+import com.dev.backend.model.PerformanceMonthlyRollup;
+import com.dev.backend.repository.PerformanceRollupRepository;
+import com.dev.backend.repository.projection.ScoreRangeView;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Keeps performance_monthly_rollup in step with review writes. Runs synchronously inside the
+// writer's transaction, so the rollup commits or rolls back together with the review itself.
+@Service
+@Transactional
+public class PerformanceRollupService {
+    private final PerformanceRollupRepository rollupRepository;
+
+    public PerformanceRollupService(PerformanceRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    @EventListener
+    public void onPerformanceChanged(PerformanceChangedEvent event) {
+        PerformanceSnapshot previous = event.getPrevious();
+        PerformanceSnapshot current = event.getCurrent();
+
+        // Each side counts towards the department stored on the review, not the employee's current one
+        if (previous != null && previous.getDate() != null) {
+            for (String department : buckets(previous.getDepartment())) {
+                removeScore(department, periodStart(previous.getDate()), previous.getScore());
+            }
+        }
+        if (current != null && current.getDate() != null) {
+            for (String department : buckets(current.getDepartment())) {
+                rollupRepository.addScore(department, periodStart(current.getDate()), current.getScore());
+            }
+        }
+    }
+
+    static LocalDate periodStart(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+
+    private void removeScore(String department, LocalDate periodStart, int score) {
+        ScoreRangeView range = rollupRepository.findRange(department, periodStart);
+        if (range == null) {
+            return;
+        }
+        rollupRepository.removeScore(department, periodStart, score);
+        if (rollupRepository.deleteIfEmpty(department, periodStart) > 0) {
+            return;
+        }
+        if (score == range.getMinScore() || score == range.getMaxScore()) {
+            // The removed score may have been the month's extreme: recompute from this month's reviews only
+            LocalDate periodEnd = periodStart.plusMonths(1);
+            ScoreRangeView fresh = PerformanceMonthlyRollup.COMPANY_WIDE.equals(department)
+                    ? rollupRepository.computeCompanyRange(periodStart, periodEnd)
+                    : rollupRepository.computeDepartmentRange(department, periodStart, periodEnd);
+            if (fresh != null && fresh.getMinScore() != null) {
+                rollupRepository.updateRange(department, periodStart, fresh.getMinScore(), fresh.getMaxScore());
+            }
+        }
+    }
+
+    private static List<String> buckets(String department) {
+        List<String> buckets = new ArrayList<>(2);
+        buckets.add(PerformanceMonthlyRollup.COMPANY_WIDE);
+        if (department != null) {
+            buckets.add(department);
+        }
+        return buckets;
+    }
+}
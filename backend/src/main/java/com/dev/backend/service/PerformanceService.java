@@ -1,37 +1,89 @@
 package com.dev.backend.service;
 
+import com.dev.backend.dto.CursorPageDTO;
+import com.dev.backend.event.PerformanceChangedEvent;
+import com.dev.backend.event.PerformanceSnapshot;
 import com.dev.backend.model.Performance;
+import com.dev.backend.repository.EmployeeRepository;
 import com.dev.backend.repository.PerformanceRepository;
+import com.dev.backend.repository.projection.PerformanceView;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Transactional
 public class PerformanceService {
     private final PerformanceRepository performanceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PerformanceService(PerformanceRepository performanceRepository) {
+    public PerformanceService(PerformanceRepository performanceRepository, EmployeeRepository employeeRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.performanceRepository = performanceRepository;
+        this.employeeRepository = employeeRepository;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<Performance> getAllPerformances() {
-        return performanceRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<PerformanceView> getAllPerformances() {
+        return performanceRepository.findAllViews();
     }
 
-    public Optional<Performance> getPerformanceById(Long id) {
-        return performanceRepository.findById(id);
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PerformanceView> getPerformancePage(Long after, int limit) {
+        List<PerformanceView> page = performanceRepository.findViewPageAfter(after, Limit.of(limit));
+        return CursorPageDTO.of(page, limit, page.isEmpty() ? null : page.get(page.size() - 1).getId());
     }
 
-    public List<Performance> getPerformancesByEmployeeId(Long employeeId) {
-        return performanceRepository.findByEmployeeId(employeeId);
+    @Transactional(readOnly = true)
+    public void streamAllPerformances(Consumer<PerformanceView> sink) {
+        try (Stream<PerformanceView> rows = performanceRepository.streamAllViews()) {
+            rows.forEach(sink);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PerformanceView> getPerformanceById(Long id) {
+        return performanceRepository.findViewById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PerformanceView> getPerformancesByEmployeeId(Long employeeId) {
+        return performanceRepository.findViewsByEmployeeId(employeeId);
     }
 
     public Performance savePerformance(Performance performance) {
-        return performanceRepository.save(performance);
+        Performance existing = performance.getId() != null
+                ? performanceRepository.findById(performance.getId()).orElse(null)
+                : null;
+        PerformanceSnapshot previous = existing != null ? PerformanceSnapshot.of(existing) : null;
+
+        // A review keeps the department it was written in until it is moved to another employee
+        Long employeeId = performance.getEmployee() != null ? performance.getEmployee().getId() : null;
+        performance.setDepartment(previous != null && Objects.equals(previous.getEmployeeId(), employeeId)
+                ? previous.getDepartment()
+                : employeeId != null ? employeeRepository.findDepartmentById(employeeId).orElse(null) : null);
+
+        Performance saved = performanceRepository.save(performance);
+        PerformanceSnapshot current = PerformanceSnapshot.of(saved);
+        eventPublisher.publishEvent(previous != null
+                ? PerformanceChangedEvent.updated(previous, current)
+                : PerformanceChangedEvent.created(current));
+        return saved;
     }
 
     public void deletePerformance(Long id) {
+        Optional<Performance> existing = performanceRepository.findById(id);
         performanceRepository.deleteById(id);
+        existing.ifPresent(performance ->
+                eventPublisher.publishEvent(PerformanceChangedEvent.deleted(PerformanceSnapshot.of(performance))));
     }
 }
@@ -0,0 +1,116 @@
+package com.dev.backend.service;
+
+import com.dev.backend.dto.DashboardStatsDTO;
+import com.dev.backend.event.PerformanceChangedEvent;
+import com.dev.backend.exception.BusinessLogicException;
+import com.dev.backend.model.PerformanceMonthlyRollup;
+import com.dev.backend.repository.PerformanceRollupRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Monthly score trends read from performance_monthly_rollup: at most one row per month, so the
+// cost does not depend on how many reviews exist. The company-wide dashboard trend is also kept
+// in memory until the next review write, so serving the dashboard stays free of queries.
+@Service
+@Transactional(readOnly = true)
+public class PerformanceTrendService {
+    static final int DASHBOARD_MONTHS = 6;
+    static final int MAX_MONTHS = 60;
+
+    private final PerformanceRollupRepository rollupRepository;
+
+    private final AtomicLong writes = new AtomicLong();
+    private volatile DashboardTrend dashboardTrend;
+
+    public PerformanceTrendService(PerformanceRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    // Company-wide or, when department is given, that department's trend over the last months,
+    // oldest first, including the current month. Months without reviews have a null score.
+    public DashboardStatsDTO.PerformanceTrendDTO getTrend(String department, int months) {
+        if (months < 1 || months > MAX_MONTHS) {
+            throw new BusinessLogicException("Months must be between 1 and " + MAX_MONTHS);
+        }
+        YearMonth end = YearMonth.now();
+        YearMonth start = end.minusMonths(months - 1L);
+        Map<YearMonth, PerformanceMonthlyRollup> rows = new HashMap<>();
+        for (PerformanceMonthlyRollup row : rollupRepository.findByDepartmentAndPeriodStartGreaterThanEqualOrderByPeriodStart(
+                department != null ? department : PerformanceMonthlyRollup.COMPANY_WIDE, start.atDay(1))) {
+            rows.put(YearMonth.from(row.getPeriodStart()), row);
+        }
+
+        List<Double> monthlyScores = new ArrayList<>(months);
+        List<String> labels = new ArrayList<>(months);
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            PerformanceMonthlyRollup row = rows.get(month);
+            // Reviews are scored out of 100; the dashboard shows scores out of 10
+            monthlyScores.add(row != null ? Math.round(row.getAverageScore()) / 10.0 : null);
+            labels.add(month.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+        }
+
+        Double first = monthlyScores.stream().filter(score -> score != null).findFirst().orElse(null);
+        Double last = null;
+        for (Double score : monthlyScores) {
+            if (score != null) {
+                last = score;
+            }
+        }
+        double trendDirection = first != null ? Math.round((last - first) * 10.0) / 10.0 : 0.0;
+
+        return DashboardStatsDTO.PerformanceTrendDTO.builder()
+                .monthlyScores(monthlyScores)
+                .months(labels)
+                .trendDirection(trendDirection)
+                .trendDescription(trendDirection > 0 ? "Improving" : trendDirection < 0 ? "Declining" : "Stable")
+                .build();
+    }
+
+    public DashboardStatsDTO.PerformanceTrendDTO getDashboardTrend() {
+        DashboardTrend current = dashboardTrend;
+        YearMonth month = YearMonth.now();
+        if (current != null && current.month.equals(month)) {
+            return current.trend;
+        }
+        long writesAtStart = writes.get();
+        DashboardStatsDTO.PerformanceTrendDTO trend = getTrend(null, DASHBOARD_MONTHS);
+        if (writes.get() == writesAtStart) {
+            // Not stored when a review was written meanwhile: it may be missing from what was just read
+            dashboardTrend = new DashboardTrend(month, trend);
+        }
+        return trend;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        getDashboardTrend();
+    }
+
+    // Runs after commit and touches no tables; the class-level read-only transaction must not apply here,
+    // which Spring refuses for transactional event listeners
+    @Order(ChangeVersionRegistry.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onPerformanceChanged(PerformanceChangedEvent event) {
+        writes.incrementAndGet();
+        dashboardTrend = null;
+    }
+
+    private record DashboardTrend(YearMonth month, DashboardStatsDTO.PerformanceTrendDTO trend) {
+    }
+}
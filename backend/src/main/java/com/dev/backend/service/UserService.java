@@ -1,42 +1,90 @@
 package com.dev.backend.service;
 
+import com.dev.backend.dto.CursorPageDTO;
 import com.dev.backend.model.User;
 import com.dev.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class UserService {
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ChangeVersionRegistry changeVersions;
+    private final CacheInvalidationListener cacheInvalidation;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, EntityManager entityManager,
+                       ChangeVersionRegistry changeVersions, CacheInvalidationListener cacheInvalidation) {
         this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.changeVersions = changeVersions;
+        this.cacheInvalidation = cacheInvalidation;
     }
 
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<User> getUserPage(Long after, int limit) {
+        List<User> page = userRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+        return CursorPageDTO.of(page, limit, page.isEmpty() ? null : page.get(page.size() - 1).getId());
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<User> sink) {
+        try (Stream<User> rows = userRepository.streamAll()) {
+            Iterator<User> it = rows.iterator();
+            for (int count = 1; it.hasNext(); count++) {
+                sink.accept(it.next());
+                if (count % STREAM_CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> getUserByUsername(String username) {
         return userRepository.findByUsername(username);
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
 
+    @Transactional
     public User saveUser(User user) {
-         System.out.println("ktk Incoming user: " + user);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        usersChanged();
+        return saved;
     }
 
+    @Transactional
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        usersChanged();
+    }
+
+    private void usersChanged() {
+        cacheInvalidation.employeesChanged();
+        changeVersions.employeesChanged();
     }
 }
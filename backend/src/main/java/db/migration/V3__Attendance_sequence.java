@@ -0,0 +1,28 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+// Attendance ids move from IDENTITY to a pooled sequence so inserts can be JDBC-batched.
+// The sequence has to start past the existing ids, which plain SQL cannot express portably.
+public class V3__Attendance_sequence extends BaseJavaMigration {
+    // Must match allocationSize on Attendance's @SequenceGenerator
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM attendance")) {
+                rs.next();
+                maxId = rs.getLong(1);
+            }
+            // Hibernate's pooled optimizer treats each value as the top of a block of ALLOCATION_SIZE ids
+            statement.execute("CREATE SEQUENCE attendance_seq START WITH " + (maxId + ALLOCATION_SIZE)
+                    + " INCREMENT BY " + ALLOCATION_SIZE);
+        }
+    }
+}
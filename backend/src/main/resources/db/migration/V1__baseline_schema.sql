@@ -0,0 +1,53 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at this version and skip it.
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE employee (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255),
+    designation VARCHAR(255),
+    department VARCHAR(255),
+    join_date DATE,
+    user_id BIGINT,
+    manager_id BIGINT,
+    CONSTRAINT uk_employee_user UNIQUE (user_id),
+    CONSTRAINT fk_employee_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_employee_manager FOREIGN KEY (manager_id) REFERENCES employee (id)
+);
+
+CREATE TABLE attendance (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    date DATE,
+    clock_in TIMESTAMP(6),
+    clock_out TIMESTAMP(6),
+    employee_id BIGINT,
+    CONSTRAINT fk_attendance_employee FOREIGN KEY (employee_id) REFERENCES employee (id)
+);
+
+CREATE TABLE performance (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    reviewer VARCHAR(255),
+    score INTEGER NOT NULL,
+    feedback VARCHAR(255),
+    date DATE,
+    employee_id BIGINT,
+    CONSTRAINT fk_performance_employee FOREIGN KEY (employee_id) REFERENCES employee (id)
+);
+
+CREATE TABLE onboarding_task (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    is_completed BOOLEAN NOT NULL,
+    employee_id BIGINT,
+    CONSTRAINT fk_onboarding_task_employee FOREIGN KEY (employee_id) REFERENCES employee (id)
+);
@@ -0,0 +1,20 @@
+-- One attendance record per employee per day. Older databases relied on an
+-- application-side check, so drop any duplicates first, keeping the earliest row.
+DELETE FROM attendance a
+WHERE EXISTS (
+    SELECT 1 FROM attendance b
+    WHERE b.employee_id = a.employee_id AND b.date = a.date AND b.id < a.id
+);
+
+-- Also serves the per-employee lookups on (employee_id) and (employee_id, date)
+ALTER TABLE attendance ADD CONSTRAINT uk_attendance_employee_date UNIQUE (employee_id, date);
+
+-- Date-only filters use the leading column of these
+CREATE INDEX IF NOT EXISTS idx_attendance_date_clock_in ON attendance (date, clock_in);
+CREATE INDEX IF NOT EXISTS idx_attendance_date_clock_out ON attendance (date, clock_out);
+
+CREATE INDEX IF NOT EXISTS idx_performance_employee_date ON performance (employee_id, date DESC);
+
+CREATE INDEX IF NOT EXISTS idx_employee_join_date ON employee (join_date);
+CREATE INDEX IF NOT EXISTS idx_employee_department ON employee (department);
+CREATE INDEX IF NOT EXISTS idx_employee_manager ON employee (manager_id);
@@ -0,0 +1,28 @@
+-- Review scores aggregated per calendar month, per department and company-wide
+-- (department '*'). Kept current by the application on every review write; the
+-- dashboard trend reads a handful of rows from here instead of scanning performance.
+CREATE TABLE performance_monthly_rollup (
+    department VARCHAR(255) NOT NULL,
+    period_start DATE NOT NULL,
+    review_count BIGINT NOT NULL,
+    score_sum BIGINT NOT NULL,
+    min_score INTEGER NOT NULL,
+    max_score INTEGER NOT NULL,
+    CONSTRAINT pk_performance_monthly_rollup PRIMARY KEY (department, period_start)
+);
+
+-- Month-bounded min/max recomputation after a review is removed
+CREATE INDEX IF NOT EXISTS idx_performance_date ON performance (date);
+
+INSERT INTO performance_monthly_rollup (department, period_start, review_count, score_sum, min_score, max_score)
+SELECT e.department, CAST(DATE_TRUNC('MONTH', p.date) AS DATE), COUNT(*), SUM(p.score), MIN(p.score), MAX(p.score)
+FROM performance p
+JOIN employee e ON e.id = p.employee_id
+WHERE p.date IS NOT NULL AND e.department IS NOT NULL
+GROUP BY e.department, CAST(DATE_TRUNC('MONTH', p.date) AS DATE);
+
+INSERT INTO performance_monthly_rollup (department, period_start, review_count, score_sum, min_score, max_score)
+SELECT '*', CAST(DATE_TRUNC('MONTH', p.date) AS DATE), COUNT(*), SUM(p.score), MIN(p.score), MAX(p.score)
+FROM performance p
+WHERE p.date IS NOT NULL
+GROUP BY CAST(DATE_TRUNC('MONTH', p.date) AS DATE);
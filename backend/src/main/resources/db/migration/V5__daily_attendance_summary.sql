@@ -0,0 +1,15 @@
+-- Attendance counted per day and department. Writes adjust the present/late/half-day counts and
+-- overtime as they happen; the nightly compaction recomputes closed days from attendance and fills
+-- in absences. Status rules depend on the configured attendance policy, so the table is populated
+-- by the application on startup rather than here.
+CREATE TABLE daily_attendance_summary (
+    summary_date DATE NOT NULL,
+    department VARCHAR(255) NOT NULL,
+    present_count INTEGER NOT NULL,
+    late_count INTEGER NOT NULL,
+    half_day_count INTEGER NOT NULL,
+    absent_count INTEGER NOT NULL,
+    overtime_minutes BIGINT NOT NULL,
+    compacted BOOLEAN NOT NULL,
+    CONSTRAINT pk_daily_attendance_summary PRIMARY KEY (summary_date, department)
+);
@@ -0,0 +1,6 @@
+-- The department a review counts towards in performance_monthly_rollup, fixed when the review is
+-- written so a later transfer of the employee does not move it between buckets
+ALTER TABLE performance ADD COLUMN department VARCHAR(255);
+
+UPDATE performance p
+SET department = (SELECT e.department FROM employee e WHERE e.id = p.employee_id);
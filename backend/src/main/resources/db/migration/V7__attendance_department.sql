@@ -0,0 +1,6 @@
+-- The department an attendance record counts towards in daily_attendance_summary, fixed when the
+-- record is written so a later transfer of the employee does not move it between buckets
+ALTER TABLE attendance ADD COLUMN department VARCHAR(255);
+
+UPDATE attendance a
+SET department = (SELECT e.department FROM employee e WHERE e.id = a.employee_id);
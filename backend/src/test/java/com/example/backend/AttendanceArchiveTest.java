@@ -0,0 +1,112 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.dto.AttendancePunctualityDTO;
+import com.dev.backend.dto.AttendanceTrendDTO;
+import com.dev.backend.model.Employee;
+import com.dev.backend.repository.AttendanceRepository;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.service.AttendanceArchiveService;
+import com.dev.backend.service.AttendanceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:attendance-archive;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false",
+		"attendance.archive.initial-month-capacity=4"
+})
+@ActiveProfiles("h2")
+class AttendanceArchiveTest {
+
+	// Three past days in one month, recent enough for the records to still be deletable
+	private static final LocalDate DAY = firstOfThreeRecentDays();
+
+	@Autowired
+	private AttendanceService attendanceService;
+
+	@Autowired
+	private AttendanceArchiveService archiveService;
+
+	@Autowired
+	private AttendanceRepository attendanceRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Test
+	void archiveHoldsEveryAttendanceRecord() {
+		long archived = ((Number) archiveService.getStatus().get("records")).longValue();
+		assertEquals(attendanceRepository.count(), archived);
+	}
+
+	@Test
+	void employeeTrendFollowsWrites() {
+		Employee employee = new Employee();
+		employee.setName("Archived");
+		employee.setDepartment("Archive");
+		employee.setJoinDate(LocalDate.now().minusYears(1));
+		employee = employeeRepository.save(employee);
+
+		attendanceService.createAttendance(attendance(employee, DAY, 8, 17));
+		AttendanceDTO late = attendanceService.createAttendance(attendance(employee, DAY.plusDays(1), 10, 18));
+		attendanceService.createAttendance(attendance(employee, DAY.plusDays(2), 9, 13));
+
+		YearMonth month = YearMonth.from(DAY);
+		AttendanceTrendDTO trend = single(archiveService.getEmployeeTrend(employee.getId(), month, month));
+		assertEquals(3, trend.getDaysPresent());
+		assertEquals(1, trend.getLateDays());
+		assertEquals("09:00", trend.getAverageClockIn());
+		assertEquals(7.0, trend.getAverageHoursWorked());
+
+		attendanceService.deleteAttendance(late.getId());
+		trend = single(archiveService.getEmployeeTrend(employee.getId(), month, month));
+		assertEquals(2, trend.getDaysPresent());
+		assertEquals(0, trend.getLateDays());
+
+		archiveService.rebuild(month, month);
+		assertEquals(2, single(archiveService.getEmployeeTrend(employee.getId(), month, month)).getDaysPresent());
+		assertEquals(attendanceRepository.count(), ((Number) archiveService.getStatus().get("records")).longValue());
+	}
+
+	@Test
+	void punctualityReportsEachYear() {
+		List<AttendancePunctualityDTO> years = archiveService.getPunctuality(2001, 2002);
+		assertEquals(2, years.size());
+		assertEquals(0, years.get(1).getRecords());
+		assertNull(years.get(1).getLateRate());
+	}
+
+	private static LocalDate firstOfThreeRecentDays() {
+		LocalDate today = LocalDate.now();
+		if (today.getDayOfMonth() >= 4) {
+			return today.withDayOfMonth(1);
+		}
+		LocalDate previousMonth = today.minusMonths(1);
+		return previousMonth.withDayOfMonth(previousMonth.lengthOfMonth() - 2);
+	}
+
+	private static AttendanceDTO attendance(Employee employee, LocalDate date, int clockInHour, int clockOutHour) {
+		return AttendanceDTO.builder()
+				.employeeId(employee.getId())
+				.date(date)
+				.clockIn(date.atTime(clockInHour, 0))
+				.clockOut(date.atTime(clockOutHour, 0))
+				.build();
+	}
+
+	private static AttendanceTrendDTO single(List<AttendanceTrendDTO> months) {
+		assertEquals(1, months.size());
+		return months.get(0);
+	}
+}
@@ -0,0 +1,106 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.dto.EmployeeDTO;
+import com.dev.backend.exception.EmployeeNotFoundException;
+import com.dev.backend.service.AttendanceIngestService;
+import com.dev.backend.service.AttendanceService;
+import com.dev.backend.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:attendance-ingest;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false",
+		"attendance.ingest.enabled=true",
+		"attendance.ingest.directory=${java.io.tmpdir}/attendance-ingest-${random.uuid}"
+})
+@ActiveProfiles("h2")
+class AttendanceIngestTest {
+
+	@Autowired
+	private AttendanceIngestService ingestService;
+
+	@Autowired
+	private AttendanceService attendanceService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Test
+	void acknowledgedEventsAreFlushedInOrder() {
+		EmployeeDTO employee = employee("Write Behind");
+		LocalDate day = LocalDate.now().minusDays(1);
+
+		Map<String, Object> receipt = ingestService.clockIn(event(employee, day).clockIn(day.atTime(8, 30)).build());
+		assertEquals("QUEUED", receipt.get("status"));
+		ingestService.clockOut(event(employee, day).clockOut(day.atTime(17, 0)).build());
+		ingestService.drain();
+
+		List<AttendanceDTO> records = attendanceService.getAttendancesByEmployeeId(employee.getId());
+		assertEquals(1, records.size());
+		assertEquals(day.atTime(8, 30), records.get(0).getClockIn());
+		assertEquals(day.atTime(17, 0), records.get(0).getClockOut());
+
+		Map<String, Object> status = ingestService.getStatus();
+		assertEquals(0, status.get("queueDepth"));
+		assertEquals(status.get("lastSequence"), status.get("checkpoint"));
+	}
+
+	@Test
+	void repeatedAndInvalidEventsAreCountedNotApplied() {
+		EmployeeDTO employee = employee("Twice In");
+		LocalDate day = LocalDate.now().minusDays(2);
+		long duplicates = count("duplicates");
+		long rejected = count("rejected");
+
+		ingestService.clockIn(event(employee, day).clockIn(day.atTime(9, 0)).build());
+		ingestService.clockIn(event(employee, day).clockIn(day.atTime(9, 5)).build());
+		ingestService.clockOut(event(employee, day).clockOut(day.atTime(10, 0)).build());
+		ingestService.drain();
+
+		assertEquals(duplicates + 1, count("duplicates"));
+		assertEquals(rejected + 1, count("rejected"));
+		List<AttendanceDTO> records = attendanceService.getAttendancesByEmployeeId(employee.getId());
+		assertEquals(1, records.size());
+		assertEquals(day.atTime(9, 0), records.get(0).getClockIn());
+		assertNull(records.get(0).getClockOut());
+	}
+
+	@Test
+	void unknownEmployeesAreRefusedUpFront() {
+		LocalDate day = LocalDate.now().minusDays(1);
+		assertThrows(EmployeeNotFoundException.class, () -> ingestService.clockIn(AttendanceDTO.builder()
+				.employeeId(Long.MAX_VALUE)
+				.clockIn(day.atTime(9, 0))
+				.build()));
+	}
+
+	private long count(String key) {
+		return ((Number) ingestService.getStatus().get(key)).longValue();
+	}
+
+	// Created through the service so the roster the ingestion path checks already knows the employee
+	private EmployeeDTO employee(String name) {
+		return employeeService.createEmployee(EmployeeDTO.builder()
+				.name(name)
+				.department("Ingestion")
+				.joinDate(LocalDate.now().minusYears(1))
+				.build());
+	}
+
+	private static AttendanceDTO.AttendanceDTOBuilder event(EmployeeDTO employee, LocalDate day) {
+		return AttendanceDTO.builder().employeeId(employee.getId()).date(day);
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.dto.AttendancePeriodSummaryDTO;
+import com.dev.backend.model.DailyAttendanceSummary;
+import com.dev.backend.model.Employee;
+import com.dev.backend.repository.DailyAttendanceSummaryRepository;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.service.AttendanceService;
+import com.dev.backend.service.AttendanceSummaryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:attendance-summary;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false"
+})
+@ActiveProfiles("h2")
+class AttendanceSummaryTest {
+
+	private static final LocalDate DAY = LocalDate.now().minusDays(10);
+
+	@Autowired
+	private AttendanceService attendanceService;
+
+	@Autowired
+	private AttendanceSummaryService summaryService;
+
+	@Autowired
+	private DailyAttendanceSummaryRepository summaryRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Test
+	void summaryFollowsWritesAndCompactionFillsInAbsences() {
+		Employee early = employee("Early");
+		Employee late = employee("Late");
+		Employee missing = employee("Missing");
+
+		attendanceService.createAttendance(attendance(early, 8, 19));
+		AttendanceDTO lateRecord = attendanceService.createAttendance(attendance(late, 10, 17));
+
+		AttendancePeriodSummaryDTO day = single(summaryService.getDailySummary(DAY, DAY, "Summary"));
+		assertEquals(1, day.getPresent());
+		assertEquals(1, day.getLate());
+		assertEquals(60, day.getOvertimeMinutes());
+		assertEquals(0, day.getAbsent());
+
+		attendanceService.deleteAttendance(lateRecord.getId());
+		assertEquals(0, single(summaryService.getDailySummary(DAY, DAY, "Summary")).getLate());
+
+		summaryService.compact(DAY, DAY);
+
+		DailyAttendanceSummary compacted = summaryRepository.findById(new DailyAttendanceSummary.Key(DAY, "Summary"))
+				.orElseThrow();
+		assertTrue(compacted.isCompacted());
+		assertEquals(1, compacted.getPresentCount());
+		assertEquals(0, compacted.getLateCount());
+		assertEquals(2, compacted.getAbsentCount());
+		assertEquals(60, compacted.getOvertimeMinutes());
+
+		// A record entered after the day was closed takes its employee out of the absences
+		attendanceService.createAttendance(attendance(missing, 8, 17));
+		AttendancePeriodSummaryDTO corrected = single(summaryService.getDailySummary(DAY, DAY, "Summary"));
+		assertEquals(2, corrected.getPresent());
+		assertEquals(1, corrected.getAbsent());
+	}
+
+	@Test
+	void recordsStayInTheDepartmentTheyWereCountedIn() {
+		Employee mover = employee("Mover");
+		mover.setDepartment("Before");
+		employeeRepository.save(mover);
+		AttendanceDTO record = attendanceService.createAttendance(attendance(mover, 8, 17));
+
+		mover.setDepartment("After");
+		employeeRepository.save(mover);
+		attendanceService.deleteAttendance(record.getId());
+
+		assertEquals(0, single(summaryService.getDailySummary(DAY, DAY, "Before")).getPresent());
+		assertTrue(summaryService.getDailySummary(DAY, DAY, "After").isEmpty());
+	}
+
+	@Test
+	void monthlySummaryCoversTheWholeYear() {
+		List<AttendancePeriodSummaryDTO> months = summaryService.getMonthlySummary(DAY.getYear(), "Nobody");
+
+		assertEquals(12, months.size());
+		assertEquals(LocalDate.of(DAY.getYear(), 12, 1), months.get(11).getStartDate());
+		assertEquals(0, months.get(0).getPresent());
+	}
+
+	private Employee employee(String name) {
+		Employee employee = new Employee();
+		employee.setName(name);
+		employee.setDepartment("Summary");
+		employee.setJoinDate(LocalDate.now().minusYears(1));
+		return employeeRepository.save(employee);
+	}
+
+	private static AttendanceDTO attendance(Employee employee, int clockInHour, int clockOutHour) {
+		return AttendanceDTO.builder()
+				.employeeId(employee.getId())
+				.date(DAY)
+				.clockIn(DAY.atTime(clockInHour, 0))
+				.clockOut(DAY.atTime(clockOutHour, 0))
+				.build();
+	}
+
+	private static AttendancePeriodSummaryDTO single(List<AttendancePeriodSummaryDTO> days) {
+		assertEquals(1, days.size());
+		return days.get(0);
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.backend;
+
+import com.dev.backend.cache.BoundedCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BoundedCacheTest {
+
+	@Test
+	void evictsProbationEntriesBeforeReusedOnes() {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 3, 1_000_000, Duration.ofMinutes(1));
+		cache.put("hot", "1");
+		cache.get("hot"); // promoted to the protected segment
+		cache.put("a", "2");
+		cache.put("b", "3");
+		cache.put("c", "4");
+
+		assertEquals("1", cache.get("hot"));
+		assertNull(cache.get("a"));
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.stats().getEvictions());
+	}
+
+	@Test
+	void expiredEntriesAreSwept() throws InterruptedException {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 10, 1_000_000, Duration.ofMinutes(1));
+		cache.put("short", "value", Duration.ofMillis(1));
+		Thread.sleep(5);
+
+		assertEquals(1, cache.sweepExpired());
+		assertNull(cache.get("short"));
+	}
+
+	@Test
+	void rejectsEntriesHeavierThanTheWeightBound() {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 10, 64, Duration.ofMinutes(1));
+		cache.put("key", "a value that is far heavier than sixty-four bytes once weighed");
+
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.stats().getWeightBytes());
+	}
+
+	@Test
+	void valuesLoadedAcrossAnEvictionAreNotCached() throws ExecutionException {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 10, 1_000_000, Duration.ofMinutes(1));
+
+		assertEquals("stale", cache.get("key", () -> {
+			cache.evict("key");
+			return "stale";
+		}));
+		assertNull(cache.get("key"));
+
+		assertEquals("fresh", cache.get("key", () -> "fresh"));
+		assertEquals("fresh", cache.get("key"));
+	}
+}
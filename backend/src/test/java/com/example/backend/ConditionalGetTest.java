@@ -0,0 +1,100 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.dto.AttendanceDTO;
+import com.dev.backend.model.Employee;
+import com.dev.backend.model.Performance;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.service.AttendanceService;
+import com.dev.backend.service.ChangeVersionRegistry;
+import com.dev.backend.service.PerformanceService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:conditional-get;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@ExtendWith(QueryBudgetExtension.class)
+class ConditionalGetTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ChangeVersionRegistry changeVersions;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private PerformanceService performanceService;
+
+	@Autowired
+	private AttendanceService attendanceService;
+
+	@Test
+	void listingCarriesTheCurrentTag() throws Exception {
+		mockMvc.perform(get("/api/employees"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, changeVersions.employeesTag()));
+	}
+
+	@Test
+	@QueryBudget(0)
+	void matchingTagIsAnsweredWithoutTheDatabase() throws Exception {
+		mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, changeVersions.employeesTag()))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/api/attendance/today")
+						.header(HttpHeaders.IF_NONE_MATCH, "W/" + changeVersions.attendanceTag(LocalDate.now())))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void writesChangeTheTagsThatDependOnThem() throws Exception {
+		Employee employee = new Employee();
+		employee.setName("Tagged");
+		employee.setDepartment("Versions");
+		employee.setJoinDate(LocalDate.now().minusYears(1));
+		employee = employeeRepository.save(employee);
+		LocalDate day = LocalDate.now().minusDays(3);
+
+		String employeesTag = changeVersions.employeesTag();
+		String performanceTag = changeVersions.performanceTag();
+		String todayTag = changeVersions.attendanceTag(LocalDate.now());
+		String dayTag = changeVersions.attendanceTag(day);
+
+		performanceService.savePerformance(new Performance(null, "Reviewer", 80, "Feedback", LocalDate.now(), employee));
+		attendanceService.createAttendance(AttendanceDTO.builder()
+				.employeeId(employee.getId())
+				.date(day)
+				.clockIn(day.atTime(9, 0))
+				.clockOut(day.atTime(17, 0))
+				.build());
+
+		assertNotEquals(employeesTag, changeVersions.employeesTag());
+		assertNotEquals(performanceTag, changeVersions.performanceTag());
+		assertNotEquals(dayTag, changeVersions.attendanceTag(day));
+		assertEquals(todayTag, changeVersions.attendanceTag(LocalDate.now()));
+
+		mockMvc.perform(get("/api/performance").header(HttpHeaders.IF_NONE_MATCH, performanceTag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, changeVersions.performanceTag()));
+	}
+}
@@ -0,0 +1,43 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:dashboard-query-budget;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false",
+		"datagen.employees=60",
+		"datagen.attendance-days=10"
+})
+@ActiveProfiles({"h2", "dev"})
+@AutoConfigureMockMvc
+@ExtendWith(QueryBudgetExtension.class)
+class DashboardControllerQueryBudgetTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	// Served from the incrementally maintained aggregates
+	@Test
+	@QueryBudget(0)
+	void statsDoNotTouchTheDatabase() throws Exception {
+		mockMvc.perform(get("/api/dashboard/stats")).andExpect(status().isOk());
+	}
+
+	// A full recompute is a fixed set of aggregate queries regardless of headcount
+	@Test
+	@QueryBudget(value = 4, maxRepeats = 1)
+	void reconciliationRunsFixedAggregateQueries() throws Exception {
+		mockMvc.perform(post("/api/dashboard/reconciliation")).andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.backend;
+
+import com.dev.backend.config.DashboardProperties;
+import com.dev.backend.dto.AttendancePeriodSummaryDTO;
+import com.dev.backend.dto.DashboardStatsDTO;
+import com.dev.backend.service.AttendanceSummaryService;
+import com.dev.backend.service.DashboardAggregateStore;
+import com.dev.backend.service.DashboardSectionRunner;
+import com.dev.backend.service.DashboardService;
+import com.dev.backend.service.EmployeeService;
+import com.dev.backend.service.PerformanceTrendService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// The fallback dashboard (aggregate store not seeded) with its sections stubbed out
+class DashboardSectionsTest {
+
+	private final EmployeeService employeeService = mock(EmployeeService.class);
+	private final AttendanceSummaryService attendanceSummaryService = mock(AttendanceSummaryService.class);
+	private final PerformanceTrendService performanceTrendService = mock(PerformanceTrendService.class);
+	private DashboardSectionRunner sectionRunner;
+	private DashboardService dashboardService;
+
+	@BeforeEach
+	void setUp() {
+		DashboardProperties properties = new DashboardProperties();
+		properties.setTimeout(Duration.ofMillis(300));
+		sectionRunner = new DashboardSectionRunner(properties);
+		dashboardService = new DashboardService(null, null, null, employeeService, attendanceSummaryService,
+				mock(DashboardAggregateStore.class), sectionRunner, performanceTrendService);
+		when(employeeService.getAllEmployees()).thenReturn(List.of());
+		when(attendanceSummaryService.getTotals(any(LocalDate.class))).thenReturn(emptyTotals());
+		when(attendanceSummaryService.getTotals(any(), any(), any())).thenReturn(emptyTotals());
+		when(performanceTrendService.getDashboardTrend()).thenReturn(new DashboardStatsDTO.PerformanceTrendDTO());
+	}
+
+	@AfterEach
+	void tearDown() {
+		sectionRunner.destroy();
+	}
+
+	@Test
+	void allSectionsPresentWhenNothingIsSlow() {
+		DashboardStatsDTO stats = dashboardService.getDashboardStats();
+
+		assertFalse(stats.isDegraded());
+		assertTrue(stats.getUnavailableSections().isEmpty());
+		assertEquals(0, stats.getTotalEmployees());
+		assertEquals(0, stats.getAttendanceSummary().getPresentToday());
+	}
+
+	@Test
+	void slowSectionIsDroppedInsteadOfDelayingTheResponse() throws InterruptedException {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		when(employeeService.getAllEmployees()).thenAnswer(invocation -> {
+			try {
+				Thread.sleep(10_000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+				throw e;
+			}
+			return List.of();
+		});
+
+		long start = System.nanoTime();
+		DashboardStatsDTO stats = dashboardService.getDashboardStats();
+
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5_000);
+		assertTrue(stats.isDegraded());
+		assertEquals(List.of("employees"), stats.getUnavailableSections());
+		assertNull(stats.getTotalEmployees());
+		assertEquals(0, stats.getAttendanceSummary().getPresentToday());
+		// The abandoned section is interrupted rather than left to run on
+		assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void failedSectionLeavesTheOthersIntact() {
+		when(attendanceSummaryService.getTotals(any(LocalDate.class))).thenThrow(new IllegalStateException("connection reset"));
+
+		DashboardStatsDTO stats = dashboardService.getDashboardStats();
+
+		assertEquals(List.of("attendanceToday"), stats.getUnavailableSections());
+		assertEquals(0, stats.getTotalEmployees());
+		assertNull(stats.getAttendanceSummary().getPresentToday());
+		assertEquals(0.0, stats.getAttendanceSummary().getAverageAttendanceThisMonth());
+	}
+
+	private static AttendancePeriodSummaryDTO emptyTotals() {
+		LocalDate today = LocalDate.now();
+		return new AttendancePeriodSummaryDTO(today, today, null, 0, 0, 0, 0, 0);
+	}
+}
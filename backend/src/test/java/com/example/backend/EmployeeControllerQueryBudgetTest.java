@@ -0,0 +1,53 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 60 generated employees: anything issuing a statement per employee blows straight through these budgets
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:employee-query-budget;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false",
+		"datagen.employees=60",
+		"datagen.attendance-days=10"
+})
+@ActiveProfiles({"h2", "dev"})
+@AutoConfigureMockMvc
+@ExtendWith(QueryBudgetExtension.class)
+class EmployeeControllerQueryBudgetTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	@QueryBudget(value = 10, maxRepeats = 3)
+	void listingEmployeesLoadsScoresAndAttendanceInBulk() throws Exception {
+		mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(value = 10, maxRepeats = 3)
+	void pagingEmployeesLoadsScoresAndAttendanceInBulk() throws Exception {
+		mockMvc.perform(get("/api/employees").param("limit", "50")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(10)
+	void singleEmployee() throws Exception {
+		mockMvc.perform(get("/api/employees/{id}", 30)).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(value = 15, maxRepeats = 5)
+	void lowPerformersAreFilteredInOneQuery() throws Exception {
+		mockMvc.perform(get("/api/employees/low-performance/{threshold}", 75)).andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,89 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.dto.EmployeeDTO;
+import com.dev.backend.model.Performance;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.repository.projection.EmployeeView;
+import com.dev.backend.service.EmployeeRoster;
+import com.dev.backend.service.EmployeeService;
+import com.dev.backend.service.PerformanceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:employee-roster;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false"
+})
+@ActiveProfiles("h2")
+class EmployeeRosterTest {
+
+	@Autowired
+	private EmployeeRoster roster;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private PerformanceService performanceService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Test
+	void filtersAgreeWithTheDatabaseQueries() {
+		assertTrue(roster.isReady());
+		assertEquals(employeeRepository.count(), roster.size());
+
+		assertArrayEquals(ids(employeeRepository.findViewsWithLatestScoreBelow(75)), roster.idsScoredBelow(75));
+		LocalDate cutoff = LocalDate.now().minusYears(2);
+		assertArrayEquals(ids(employeeRepository.findViewsByJoinDateBefore(cutoff)), roster.idsJoinedBefore(cutoff));
+	}
+
+	@Test
+	void writesAreReflectedInTheRoster() {
+		EmployeeDTO created = employeeService.createEmployee(EmployeeDTO.builder()
+				.name("Columnar")
+				.department("Roster Department")
+				.joinDate(LocalDate.now().minusYears(12))
+				.build());
+		assertEquals(1, employeeService.getDepartmentCounts().get("Roster Department"));
+		assertTrue(Arrays.stream(roster.idsJoinedBefore(LocalDate.now().minusYears(11))).anyMatch(id -> id == created.getId()));
+
+		performanceService.savePerformance(new Performance(null, "Reviewer", 100, "Outstanding", LocalDate.now(),
+				employeeRepository.findById(created.getId()).orElseThrow()));
+		List<EmployeeDTO> top = employeeService.getTopPerformers(5);
+		assertEquals(10.0, top.get(0).getPerformanceScore());
+		for (int i = 1; i < top.size(); i++) {
+			assertTrue(top.get(i - 1).getPerformanceScore() >= top.get(i).getPerformanceScore());
+		}
+
+		performanceService.savePerformance(new Performance(null, "Reviewer", 10, "Slipped", LocalDate.now(),
+				employeeRepository.findById(created.getId()).orElseThrow()));
+		assertTrue(Arrays.stream(roster.idsScoredBelow(20)).anyMatch(id -> id == created.getId()));
+
+		EmployeeDTO leaving = employeeService.createEmployee(EmployeeDTO.builder()
+				.name("Leaving")
+				.department("Short Lived")
+				.joinDate(LocalDate.now().minusDays(3))
+				.build());
+		employeeService.deleteEmployee(leaving.getId());
+		assertNull(employeeService.getDepartmentCounts().get("Short Lived"));
+		assertEquals(employeeRepository.count(), roster.size());
+	}
+
+	private static long[] ids(List<EmployeeView> views) {
+		return views.stream().mapToLong(EmployeeView::getId).sorted().toArray();
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.dto.EmployeeDTO;
+import com.dev.backend.dto.EmployeeSearchResultDTO;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.service.EmployeeSearchIndex;
+import com.dev.backend.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:employee-search;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false"
+})
+@ActiveProfiles("h2")
+class EmployeeSearchTest {
+
+	@Autowired
+	private EmployeeSearchIndex searchIndex;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Test
+	void indexHoldsEveryEmployee() {
+		assertEquals(employeeRepository.count(), ((Number) searchIndex.rebuild().get("documents")).longValue());
+	}
+
+	@Test
+	void exactPrefixAndTypoQueriesFindWrites() {
+		EmployeeDTO created = employeeService.createEmployee(EmployeeDTO.builder()
+				.name("Quintessa Marchbanks")
+				.designation("Zymurgy Specialist")
+				.department("Brewing")
+				.joinDate(LocalDate.now().minusYears(1))
+				.build());
+
+		assertEquals(created.getId(), onlyHit(searchIndex.search("quintessa", 0, 10)).getId());
+		assertEquals(created.getId(), onlyHit(searchIndex.search("quint zymur", 0, 10)).getId());
+		assertEquals(created.getId(), onlyHit(searchIndex.search("Marchbnaks", 0, 10)).getId());
+		assertEquals(0, searchIndex.search("quintessa accounting", 0, 10).getTotal());
+
+		employeeService.updateEmployee(created.getId(), EmployeeDTO.builder()
+				.name("Quintessa Marchbanks")
+				.designation("Cellar Master")
+				.department("Brewing")
+				.joinDate(LocalDate.now().minusYears(1))
+				.build());
+		assertEquals(0, searchIndex.search("zymurgy", 0, 10).getTotal());
+		assertEquals(created.getId(), onlyHit(searchIndex.search("cellar quintessa", 0, 10)).getId());
+
+		employeeService.deleteEmployee(created.getId());
+		assertEquals(0, searchIndex.search("quintessa", 0, 10).getTotal());
+	}
+
+	@Test
+	void nameMatchesOutrankOtherFieldsAndPagesAreStable() {
+		EmployeeDTO byDesignation = employeeService.createEmployee(EmployeeDTO.builder()
+				.name("Oswin Pell")
+				.designation("Verbena Coordinator")
+				.department("Gardens")
+				.joinDate(LocalDate.now().minusYears(2))
+				.build());
+		EmployeeDTO byName = employeeService.createEmployee(EmployeeDTO.builder()
+				.name("Verbena Holt")
+				.designation("Gardener")
+				.department("Gardens")
+				.joinDate(LocalDate.now().minusYears(2))
+				.build());
+
+		EmployeeSearchResultDTO all = searchIndex.search("verbena", 0, 10);
+		assertEquals(2, all.getTotal());
+		assertEquals(byName.getId(), all.getResults().get(0).getId());
+		assertEquals(byDesignation.getId(), all.getResults().get(1).getId());
+		assertTrue(all.getResults().get(0).getScore() > all.getResults().get(1).getScore());
+
+		EmployeeSearchResultDTO second = searchIndex.search("verbena", 1, 1);
+		assertEquals(2, second.getTotal());
+		assertEquals(byDesignation.getId(), onlyHit(second).getId());
+	}
+
+	private static EmployeeSearchResultDTO.Hit onlyHit(EmployeeSearchResultDTO result) {
+		assertEquals(1, result.getResults().size());
+		return result.getResults().get(0);
+	}
+}
@@ -0,0 +1,74 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.model.Employee;
+import com.dev.backend.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:field-selection;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class FieldSelectionTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Test
+	void onlySelectedFieldsAreWritten() throws Exception {
+		employee("Selected");
+
+		mockMvc.perform(get("/api/employees").param("fields", "id, name"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].id").exists())
+				.andExpect(jsonPath("$[0].name").exists())
+				.andExpect(jsonPath("$[0].bio").doesNotExist())
+				.andExpect(jsonPath("$[0].department").doesNotExist());
+	}
+
+	@Test
+	void withoutSelectionNullsAreLeftOut() throws Exception {
+		employee("Unmanaged");
+
+		mockMvc.perform(get("/api/employees"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].department").exists())
+				.andExpect(jsonPath("$[0].managerId").doesNotExist());
+	}
+
+	@Test
+	void selectionHasItsOwnTag() throws Exception {
+		String full = mockMvc.perform(get("/api/employees"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/employees").param("fields", "name,id"))
+				.andExpect(header().string(HttpHeaders.ETAG, not(full)));
+	}
+
+	private void employee(String name) {
+		Employee employee = new Employee();
+		employee.setName(name);
+		employee.setDepartment("Fields");
+		employee.setJoinDate(LocalDate.now().minusYears(1));
+		employeeRepository.save(employee);
+	}
+}
@@ -0,0 +1,82 @@
+package com.example.backend;
+
+import com.dev.backend.config.LiveEventsProperties;
+import com.dev.backend.dto.DashboardStatsDTO;
+import com.dev.backend.dto.LiveEventDTO;
+import com.dev.backend.event.AttendanceChangedEvent;
+import com.dev.backend.event.AttendanceSnapshot;
+import com.dev.backend.service.AttendanceService;
+import com.dev.backend.service.DashboardService;
+import com.dev.backend.service.LiveEventBroadcaster;
+import com.dev.backend.service.LiveEventRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LiveEventRelayTest {
+
+	private final LiveEventBroadcaster broadcaster = mock(LiveEventBroadcaster.class);
+	private final DashboardService dashboardService = mock(DashboardService.class);
+	private LiveEventRelay relay;
+
+	@BeforeEach
+	void setUp() {
+		LiveEventsProperties properties = new LiveEventsProperties();
+		properties.setMaxEventsPerFlush(5);
+		relay = new LiveEventRelay(broadcaster, dashboardService, mock(AttendanceService.class), properties);
+		when(broadcaster.hasSubscribers()).thenReturn(true);
+		when(dashboardService.getDashboardStats()).thenReturn(DashboardStatsDTO.builder().build());
+	}
+
+	@Test
+	void changesAreSentIndividuallyWithOneDashboardUpdate() {
+		relay.onAttendanceChanged(clockIn(1L));
+		relay.onAttendanceChanged(clockIn(2L));
+
+		relay.flush();
+
+		verify(broadcaster, times(2)).publish(eq(LiveEventDTO.CLOCK_IN), any());
+		verify(broadcaster, times(1)).publish(eq("dashboard"), any());
+		verify(dashboardService, times(1)).getDashboardStats();
+	}
+
+	@Test
+	void burstIsSummarisedInsteadOfSentRowByRow() {
+		for (long id = 1; id <= 50; id++) {
+			relay.onAttendanceChanged(clockIn(id));
+		}
+
+		relay.flush();
+
+		verify(broadcaster, never()).publish(eq(LiveEventDTO.CLOCK_IN), any());
+		verify(broadcaster, times(1)).publish(eq("changes"), any());
+		verify(broadcaster, times(1)).publish(eq("dashboard"), any());
+	}
+
+	@Test
+	void nothingIsBufferedWithoutSubscribers() {
+		when(broadcaster.hasSubscribers()).thenReturn(false);
+		relay.onAttendanceChanged(clockIn(1L));
+
+		relay.flush();
+
+		verify(broadcaster, never()).publish(anyString(), any());
+		verify(dashboardService, never()).getDashboardStats();
+	}
+
+	private static AttendanceChangedEvent clockIn(Long id) {
+		LocalDate today = LocalDate.now();
+		return AttendanceChangedEvent.created(new AttendanceSnapshot(id, id, today, today.atTime(9, 0), (LocalDateTime) null, null));
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.dto.EmployeeDTO;
+import com.dev.backend.dto.OrgChartNodeDTO;
+import com.dev.backend.dto.OrgChartStatsDTO;
+import com.dev.backend.exception.EmployeeNotFoundException;
+import com.dev.backend.model.Employee;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.service.EmployeeService;
+import com.dev.backend.service.OrgChartIndex;
+import com.dev.backend.service.OrgChartService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:org-chart;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false"
+})
+@ActiveProfiles("h2")
+class OrgChartTest {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private OrgChartIndex orgChartIndex;
+
+	@Autowired
+	private OrgChartService orgChartService;
+
+	@Test
+	void subtreeListingFollowsTheReportingLines() {
+		Employee head = save("Head", null);
+		Employee lead = save("Lead", head);
+		Employee engineer = save("Engineer", lead);
+		Employee analyst = save("Analyst", head);
+		orgChartIndex.rebuild();
+
+		List<OrgChartNodeDTO> subtree = orgChartService.getSubtree(head.getId(), null);
+		assertEquals(List.of(lead.getId(), engineer.getId(), analyst.getId()),
+				subtree.stream().map(OrgChartNodeDTO::getId).toList());
+		assertEquals(1, subtree.get(0).getLevel());
+		assertEquals(2, subtree.get(1).getLevel());
+		assertEquals(lead.getId(), subtree.get(1).getManagerId());
+		assertEquals(1, subtree.get(0).getTotalReports());
+
+		assertEquals(List.of(lead.getId(), analyst.getId()),
+				orgChartService.getSubtree(head.getId(), 1).stream().map(OrgChartNodeDTO::getId).toList());
+
+		assertTrue(orgChartService.reportsTo(engineer.getId(), head.getId()));
+		assertFalse(orgChartService.reportsTo(analyst.getId(), lead.getId()));
+		assertFalse(orgChartService.reportsTo(head.getId(), head.getId()));
+
+		OrgChartStatsDTO stats = orgChartService.getSubtreeStats(head.getId());
+		assertEquals(3, stats.getHeadcount());
+		assertEquals(2, stats.getDirectReports());
+		assertEquals(2, stats.getDepth());
+		assertEquals(8.5, stats.getAveragePerformance());
+	}
+
+	@Test
+	void managerCyclesDoNotHideEmployees() {
+		Employee first = save("First", null);
+		Employee second = save("Second", first);
+		first.setManager(second);
+		employeeRepository.save(first);
+		orgChartIndex.rebuild();
+
+		int below = orgChartService.getSubtree(first.getId(), null).size()
+				+ orgChartService.getSubtree(second.getId(), null).size();
+		assertEquals(1, below);
+	}
+
+	@Test
+	void writesArePatchedIntoTheIndex() {
+		orgChartIndex.rebuild();
+		EmployeeDTO created = employeeService.createEmployee(EmployeeDTO.builder()
+				.name("Newcomer")
+				.department("Org")
+				.joinDate(LocalDate.now().minusDays(10))
+				.build());
+
+		assertEquals(0, orgChartService.getSubtreeStats(created.getId()).getHeadcount());
+
+		employeeService.deleteEmployee(created.getId());
+		assertThrows(EmployeeNotFoundException.class, () -> orgChartService.getSubtree(created.getId(), null));
+	}
+
+	private Employee save(String name, Employee manager) {
+		Employee employee = new Employee();
+		employee.setName(name);
+		employee.setDepartment("Org");
+		employee.setJoinDate(LocalDate.now().minusYears(1));
+		employee.setManager(manager);
+		return employeeRepository.save(employee);
+	}
+}
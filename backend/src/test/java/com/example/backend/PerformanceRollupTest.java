@@ -0,0 +1,108 @@
+package com.example.backend;
+
+import com.dev.backend.BackendApplication;
+import com.dev.backend.dto.DashboardStatsDTO;
+import com.dev.backend.model.Employee;
+import com.dev.backend.model.Performance;
+import com.dev.backend.model.PerformanceMonthlyRollup;
+import com.dev.backend.repository.EmployeeRepository;
+import com.dev.backend.repository.PerformanceRollupRepository;
+import com.dev.backend.service.PerformanceService;
+import com.dev.backend.service.PerformanceTrendService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BackendApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:performance-rollup;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false"
+})
+@ActiveProfiles("h2")
+class PerformanceRollupTest {
+
+	private static final LocalDate MONTH = LocalDate.now().withDayOfMonth(1);
+
+	@Autowired
+	private PerformanceService performanceService;
+
+	@Autowired
+	private PerformanceTrendService performanceTrendService;
+
+	@Autowired
+	private PerformanceRollupRepository rollupRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Test
+	void rollupFollowsCreatesUpdatesAndDeletes() {
+		Employee employee = employee("Rollup");
+		Performance high = performanceService.savePerformance(review(employee, 80));
+		Performance low = performanceService.savePerformance(review(employee, 60));
+		assertRollup("Rollup", 2, 140, 60, 80);
+
+		performanceService.deletePerformance(low.getId());
+		assertRollup("Rollup", 1, 80, 80, 80);
+
+		high.setScore(90);
+		performanceService.savePerformance(high);
+		assertRollup("Rollup", 1, 90, 90, 90);
+
+		performanceService.deletePerformance(high.getId());
+		assertTrue(rollupRepository.findById(new PerformanceMonthlyRollup.Key("Rollup", MONTH)).isEmpty());
+	}
+
+	@Test
+	void reviewsStayWithTheDepartmentTheyWereWrittenIn() {
+		Employee employee = employee("Before");
+		Performance review = performanceService.savePerformance(review(employee, 75));
+
+		employee.setDepartment("After");
+		employeeRepository.save(employee);
+		performanceService.deletePerformance(review.getId());
+
+		assertTrue(rollupRepository.findById(new PerformanceMonthlyRollup.Key("Before", MONTH)).isEmpty());
+		assertTrue(rollupRepository.findById(new PerformanceMonthlyRollup.Key("After", MONTH)).isEmpty());
+	}
+
+	@Test
+	void trendReadsMonthlyAveragesFromTheRollup() {
+		Employee employee = employee("Trend");
+		performanceService.savePerformance(review(employee, 70));
+		performanceService.savePerformance(review(employee, 90));
+
+		DashboardStatsDTO.PerformanceTrendDTO trend = performanceTrendService.getTrend("Trend", 3);
+
+		assertEquals(Arrays.asList(null, null, 8.0), trend.getMonthlyScores());
+		assertEquals(3, trend.getMonths().size());
+		assertEquals(0.0, trend.getTrendDirection());
+	}
+
+	private Employee employee(String department) {
+		Employee employee = new Employee();
+		employee.setName(department + " Reviewee");
+		employee.setDepartment(department);
+		employee.setJoinDate(LocalDate.now().minusYears(1));
+		return employeeRepository.save(employee);
+	}
+
+	private static Performance review(Employee employee, int score) {
+		return new Performance(null, "Reviewer", score, "Feedback", LocalDate.now(), employee);
+	}
+
+	private void assertRollup(String department, long reviews, long scoreSum, int minScore, int maxScore) {
+		PerformanceMonthlyRollup rollup = rollupRepository.findById(new PerformanceMonthlyRollup.Key(department, MONTH))
+				.orElseThrow();
+		assertEquals(reviews, rollup.getReviewCount());
+		assertEquals(scoreSum, rollup.getScoreSum());
+		assertEquals(minScore, rollup.getMinScore());
+		assertEquals(maxScore, rollup.getMaxScore());
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.backend;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Maximum SQL statements a test may issue, enforced by QueryBudgetExtension
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+	int value();
+
+	// How often one statement shape may repeat before it counts as N+1
+	int maxRepeats() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,54 @@
+package com.example.backend;
+
+import com.dev.backend.metrics.QueryScope;
+import com.dev.backend.metrics.QueryCounter;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// Counts the statements issued by each test (including MockMvc requests, which run on the test thread)
+// and fails the test when it goes over its @QueryBudget
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.open());
+	}
+
+	@Override
+	public void afterEach(ExtensionContext context) {
+		QueryScope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryScope.class);
+		if (scope == null) {
+			return;
+		}
+		scope.close();
+
+		Optional<QueryBudget> budget = AnnotationSupport.findAnnotation(context.getElement(), QueryBudget.class)
+				.or(() -> context.getTestClass().flatMap(type -> AnnotationSupport.findAnnotation(type, QueryBudget.class)));
+		if (budget.isEmpty()) {
+			return;
+		}
+		if (scope.getStatementCount() > budget.get().value()) {
+			throw new AssertionError("Expected at most " + budget.get().value() + " statements but "
+					+ scope.getStatementCount() + " were issued:\n" + describe(scope));
+		}
+		if (scope.getMaxRepeats() > budget.get().maxRepeats()) {
+			throw new AssertionError("Statement repeated " + scope.getMaxRepeats() + " times (allowed "
+					+ budget.get().maxRepeats() + "): " + scope.getMostRepeatedShape() + "\n" + describe(scope));
+		}
+	}
+
+	private static String describe(QueryScope scope) {
+		return scope.getShapes().entrySet().stream()
+				.sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+				.map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+				.collect(Collectors.joining("\n"));
+	}
+}
@@ -148,7 +148,7 @@ const Dashboard = () => {
   // Calculate stats from real data
   const calculateStats = () => {
     const totalEmployees = employees.length;
-    const activeAttendance = attendance.filter(a => a.clockOut === null).length;
+    const activeAttendance = attendance.filter(a => !a.clockOut).length;
     const avgPerformance = performance.length > 0 
       ? performance.reduce((sum, p) => sum + (p.score / 10), 0) / performance.length 
       : 8.7;